@@ -1,12 +1,20 @@
 package com.contractreview.fileapi.client;
 
 import com.contractreview.fileapi.dto.request.FileUploadRequest;
+import com.contractreview.fileapi.dto.response.FileEventPageResponse;
+import com.contractreview.fileapi.dto.response.FileEventResponse;
 import com.contractreview.fileapi.dto.response.FileInfoResponse;
+import com.contractreview.fileapi.dto.response.FilePageResponse;
 import com.contractreview.fileapi.dto.response.FileUploadResponse;
+import com.contractreview.fileapi.dto.response.FileUploadTaskResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * 文件存储客户端接口
@@ -37,6 +45,16 @@ public interface FileClient {
      */
     CompletableFuture<FileUploadResponse> uploadByUrlAsync(MultipartFile file, boolean encrypted);
     
+    /**
+     * 通过URL上传文件（异步，使用调用方提供的执行器）
+     * 
+     * @param file 要上传的文件
+     * @param encrypted 是否加密存储
+     * @param executor 执行调用的线程池
+     * @return 异步文件上传响应
+     */
+    CompletableFuture<FileUploadResponse> uploadByUrlAsync(MultipartFile file, boolean encrypted, Executor executor);
+    
     /**
      * 通过URL下载文件
      * 
@@ -53,6 +71,15 @@ public interface FileClient {
      */
     CompletableFuture<InputStream> downloadByUrlAsync(String fileUrl);
     
+    /**
+     * 通过URL下载文件（异步，使用调用方提供的执行器）
+     * 
+     * @param fileUrl 文件访问URL
+     * @param executor 执行调用的线程池
+     * @return 异步文件输入流
+     */
+    CompletableFuture<InputStream> downloadByUrlAsync(String fileUrl, Executor executor);
+    
     /**
      * 通过URL查询文件信息
      * 
@@ -69,6 +96,15 @@ public interface FileClient {
      */
     CompletableFuture<FileInfoResponse> queryByUrlAsync(String fileUrl);
     
+    /**
+     * 通过URL查询文件信息（异步，使用调用方提供的执行器）
+     * 
+     * @param fileUrl 文件访问URL
+     * @param executor 执行调用的线程池
+     * @return 异步文件信息
+     */
+    CompletableFuture<FileInfoResponse> queryByUrlAsync(String fileUrl, Executor executor);
+    
     /**
      * 通过URL删除文件
      * 
@@ -85,6 +121,15 @@ public interface FileClient {
      */
     CompletableFuture<Boolean> deleteByUrlAsync(String fileUrl);
     
+    /**
+     * 通过URL删除文件（异步，使用调用方提供的执行器）
+     * 
+     * @param fileUrl 文件访问URL
+     * @param executor 执行调用的线程池
+     * @return 异步删除结果
+     */
+    CompletableFuture<Boolean> deleteByUrlAsync(String fileUrl, Executor executor);
+    
     // ==================== UUID模式接口 ====================
     
     /**
@@ -96,6 +141,16 @@ public interface FileClient {
      */
     FileUploadResponse uploadByUuid(MultipartFile file, boolean encrypted);
     
+    /**
+     * 上传临时文件并生成UUID标识，到期后由服务端自动删除
+     * 
+     * @param file 要上传的文件
+     * @param encrypted 是否加密存储
+     * @param ttl 保存时长（按分钟计，最短1分钟）
+     * @return 文件上传响应，包含UUID和过期时间
+     */
+    FileUploadResponse uploadByUuid(MultipartFile file, boolean encrypted, Duration ttl);
+    
     /**
      * 上传文件并生成UUID标识（异步）
      * 
@@ -105,6 +160,16 @@ public interface FileClient {
      */
     CompletableFuture<FileUploadResponse> uploadByUuidAsync(MultipartFile file, boolean encrypted);
     
+    /**
+     * 上传文件并生成UUID标识（异步，使用调用方提供的执行器）
+     * 
+     * @param file 要上传的文件
+     * @param encrypted 是否加密存储
+     * @param executor 执行调用的线程池
+     * @return 异步文件上传响应
+     */
+    CompletableFuture<FileUploadResponse> uploadByUuidAsync(MultipartFile file, boolean encrypted, Executor executor);
+    
     /**
      * 通过UUID下载文件
      * 
@@ -121,6 +186,15 @@ public interface FileClient {
      */
     CompletableFuture<InputStream> downloadByUuidAsync(String uuid);
     
+    /**
+     * 通过UUID下载文件（异步，使用调用方提供的执行器）
+     * 
+     * @param uuid 文件UUID标识
+     * @param executor 执行调用的线程池
+     * @return 异步文件输入流
+     */
+    CompletableFuture<InputStream> downloadByUuidAsync(String uuid, Executor executor);
+    
     /**
      * 通过UUID查询文件信息
      * 
@@ -139,6 +213,15 @@ public interface FileClient {
      */
     CompletableFuture<FileInfoResponse> queryByUuidAsync(String uuid);
     
+    /**
+     * 通过UUID查询文件信息（异步，使用调用方提供的执行器）
+     * 
+     * @param uuid 文件UUID标识
+     * @param executor 执行调用的线程池
+     * @return 异步文件信息
+     */
+    CompletableFuture<FileInfoResponse> queryByUuidAsync(String uuid, Executor executor);
+    
     /**
      * 通过UUID删除文件
      * 
@@ -154,4 +237,113 @@ public interface FileClient {
      * @return 异步删除结果
      */
     CompletableFuture<Boolean> deleteByUuidAsync(String uuid);
-}
\ No newline at end of file
+    
+    /**
+     * 通过UUID删除文件（异步，使用调用方提供的执行器）
+     * 
+     * @param uuid 文件UUID标识
+     * @param executor 执行调用的线程池
+     * @return 异步删除结果
+     */
+    CompletableFuture<Boolean> deleteByUuidAsync(String uuid, Executor executor);
+    
+    /**
+     * 通过UUID复制文件（服务端复制，文件内容不经过客户端）
+     * 
+     * @param uuid 源文件UUID标识
+     * @param targetBucketName 目标存储桶名称，为空时复制到源存储桶
+     * @return 新文件的上传响应，包含新的UUID
+     */
+    FileUploadResponse copyByUuid(String uuid, String targetBucketName);
+    
+    /**
+     * 通过UUID复制文件（异步）
+     * 
+     * @param uuid 源文件UUID标识
+     * @param targetBucketName 目标存储桶名称，为空时复制到源存储桶
+     * @return 异步文件上传响应
+     */
+    CompletableFuture<FileUploadResponse> copyByUuidAsync(String uuid, String targetBucketName);
+    
+    /**
+     * 通过UUID复制文件（异步，使用调用方提供的执行器）
+     * 
+     * @param uuid 源文件UUID标识
+     * @param targetBucketName 目标存储桶名称，为空时复制到源存储桶
+     * @param executor 执行调用的线程池
+     * @return 异步文件上传响应
+     */
+    CompletableFuture<FileUploadResponse> copyByUuidAsync(String uuid, String targetBucketName, Executor executor);
+    
+    /**
+     * 提交异步上传：服务端暂存文件后立即返回已分配的UUID，写入存储在后台完成
+     * 
+     * @param file 要上传的文件
+     * @param encrypted 是否加密存储
+     * @return 上传任务，状态为PENDING
+     */
+    FileUploadTaskResponse submitUploadByUuid(MultipartFile file, boolean encrypted);
+    
+    /**
+     * 查询异步上传状态
+     * 
+     * @param uuid 提交时返回的文件UUID
+     * @return 上传任务
+     */
+    FileUploadTaskResponse getUploadStatus(String uuid);
+    
+    // ==================== 文件管理接口 ====================
+    
+    /**
+     * 分页列出文件（键集分页，按创建时间升序）
+     * 
+     * @param bucketName 存储桶名称
+     * @param sourceType 来源类型，为空时不过滤
+     * @param createdFrom 创建时间下界（包含），可为空
+     * @param createdTo 创建时间上界（不包含），可为空
+     * @param cursor 上一页返回的nextCursor，首页传空
+     * @param limit 每页数量，为空时使用服务端默认值
+     * @return 文件分页结果
+     */
+    FilePageResponse listFiles(String bucketName, String sourceType, LocalDateTime createdFrom,
+                               LocalDateTime createdTo, String cursor, Integer limit);
+
+    /**
+     * 搜索文件（文件名、文件类型子串匹配，按创建时间倒序，键集分页）
+     * 
+     * @param bucketName 存储桶名称，为空时搜索全部存储桶
+     * @param keyword 文件名关键字，不区分大小写，为空时不过滤
+     * @param fileType 文件类型关键字，不区分大小写，为空时不过滤
+     * @param createdFrom 创建时间下界（包含），可为空
+     * @param createdTo 创建时间上界（不包含），可为空
+     * @param cursor 上一页返回的nextCursor，首页传空
+     * @param limit 每页数量，为空时使用服务端默认值
+     * @return 文件分页结果
+     */
+    FilePageResponse searchFiles(String bucketName, String keyword, String fileType, LocalDateTime createdFrom,
+                                 LocalDateTime createdTo, String cursor, Integer limit);
+    
+    // ==================== 文件变更事件接口 ====================
+    
+    /**
+     * 分页拉取文件变更事件（上传、复制、删除），按事件ID升序
+     * 
+     * @param after 上次返回的nextCursor，为空时从最早的事件开始
+     * @param bucketName 存储桶名称，为空时不过滤
+     * @param limit 每页数量，为空时使用服务端默认值
+     * @return 事件分页结果
+     */
+    FileEventPageResponse listEvents(Long after, String bucketName, Integer limit);
+    
+    /**
+     * 订阅文件变更事件，替代轮询queryByUuid
+     * 
+     * @param after 起始游标（不包含），通常为上次持久化的 {@link FileEventSubscription#getCursor()}，为空时从最早的事件开始
+     * @param bucketName 存储桶名称，为空时不过滤
+     * @param pollInterval 没有新事件时的拉取间隔
+     * @param listener 事件回调，在订阅线程中串行执行
+     * @return 订阅句柄，不再需要时调用close
+     */
+    FileEventSubscription subscribeEvents(Long after, String bucketName, Duration pollInterval,
+                                          Consumer<FileEventResponse> listener);
+}
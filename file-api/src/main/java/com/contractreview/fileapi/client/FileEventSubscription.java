@@ -0,0 +1,104 @@
+package com.contractreview.fileapi.client;
+
+import com.contractreview.fileapi.dto.response.FileEventPageResponse;
+import com.contractreview.fileapi.dto.response.FileEventResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 文件变更事件订阅
+ * 按固定间隔拉取事件并逐条回调，回调成功后才推进游标（至少一次投递）。
+ * 调用方可持久化 {@link #getCursor()}，重启后作为起始游标续传。
+ * 
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Slf4j
+public final class FileEventSubscription implements AutoCloseable {
+
+    private final LongFunction<FileEventPageResponse> pageFetcher;
+    private final Consumer<FileEventResponse> listener;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long cursor;
+
+    private FileEventSubscription(long cursor, LongFunction<FileEventPageResponse> pageFetcher,
+                                  Consumer<FileEventResponse> listener) {
+        this.cursor = cursor;
+        this.pageFetcher = pageFetcher;
+        this.listener = listener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "file-event-subscription");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 启动订阅
+     *
+     * @param after 起始游标（不包含）
+     * @param pollInterval 没有新事件时的拉取间隔
+     * @param pageFetcher 按游标拉取一页事件
+     * @param listener 事件回调，抛出异常时该事件会在下次拉取时重试
+     * @return 订阅句柄
+     */
+    public static FileEventSubscription start(long after, Duration pollInterval,
+                                              LongFunction<FileEventPageResponse> pageFetcher,
+                                              Consumer<FileEventResponse> listener) {
+        FileEventSubscription subscription = new FileEventSubscription(after, pageFetcher, listener);
+        subscription.scheduler.scheduleWithFixedDelay(
+            subscription::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return subscription;
+    }
+
+    /**
+     * 最后一个已成功处理的事件ID
+     */
+    public long getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 订阅是否已关闭
+     */
+    public boolean isClosed() {
+        return scheduler.isShutdown();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void poll() {
+        try {
+            FileEventPageResponse page;
+            do {
+                page = pageFetcher.apply(cursor);
+                if (page == null || page.getItems() == null) {
+                    return;
+                }
+                for (FileEventResponse event : page.getItems()) {
+                    if (isClosed()) {
+                        return;
+                    }
+                    listener.accept(event);
+                    cursor = event.getId();
+                }
+                if (page.getNextCursor() != null && page.getNextCursor() > cursor) {
+                    cursor = page.getNextCursor();
+                }
+            } while (Boolean.TRUE.equals(page.getHasMore()) && !isClosed());
+        } catch (Exception e) {
+            // 吞掉异常以保持调度继续，下次从当前游标重试
+            log.warn("拉取文件变更事件失败，将在下次轮询重试: cursor={}, error={}", cursor, e.getMessage());
+        }
+    }
+}
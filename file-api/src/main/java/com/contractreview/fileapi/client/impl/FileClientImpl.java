@@ -1,21 +1,32 @@
 package com.contractreview.fileapi.client.impl;
 
 import com.contractreview.fileapi.client.FileClient;
+import com.contractreview.fileapi.client.FileEventSubscription;
+import com.contractreview.fileapi.config.FileApiAutoConfiguration;
+import com.contractreview.fileapi.dto.response.FileEventPageResponse;
+import com.contractreview.fileapi.dto.response.FileEventResponse;
 import com.contractreview.fileapi.dto.response.FileInfoResponse;
+import com.contractreview.fileapi.dto.response.FilePageResponse;
 import com.contractreview.fileapi.dto.response.FileUploadResponse;
+import com.contractreview.fileapi.dto.response.FileUploadTaskResponse;
 import com.contractreview.fileapi.feign.FileStorageFeign;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 文件存储客户端实现类
@@ -25,12 +36,27 @@ import java.util.concurrent.CompletableFuture;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FileClientImpl implements FileClient {
 
     private final FileStorageFeign fileStorageFeign;
     private final ObjectMapper objectMapper;
 
+    // 上传、下载、复制等传输类调用的执行器
+    private final Executor transferExecutor;
+
+    // 查询、删除、列表等元数据类调用的执行器
+    private final Executor metadataExecutor;
+
+    public FileClientImpl(FileStorageFeign fileStorageFeign,
+                          ObjectMapper objectMapper,
+                          @Qualifier(FileApiAutoConfiguration.TRANSFER_EXECUTOR_BEAN) Executor transferExecutor,
+                          @Qualifier(FileApiAutoConfiguration.METADATA_EXECUTOR_BEAN) Executor metadataExecutor) {
+        this.fileStorageFeign = fileStorageFeign;
+        this.objectMapper = objectMapper;
+        this.transferExecutor = transferExecutor;
+        this.metadataExecutor = metadataExecutor;
+    }
+
     // 默认存储桶名称
     private static final String DEFAULT_BUCKET_NAME = "default-bucket";
 
@@ -58,9 +84,13 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<FileUploadResponse> uploadByUrlAsync(MultipartFile file, boolean encrypted) {
-        return CompletableFuture.supplyAsync(() -> uploadByUrl(file, encrypted));
+        return uploadByUrlAsync(file, encrypted, transferExecutor);
+    }
+
+    @Override
+    public CompletableFuture<FileUploadResponse> uploadByUrlAsync(MultipartFile file, boolean encrypted, Executor executor) {
+        return supplyAsync(() -> uploadByUrl(file, encrypted), executor);
     }
     
     @Override
@@ -80,9 +110,13 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<InputStream> downloadByUrlAsync(String fileUrl) {
-        return CompletableFuture.supplyAsync(() -> downloadByUrl(fileUrl));
+        return downloadByUrlAsync(fileUrl, transferExecutor);
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadByUrlAsync(String fileUrl, Executor executor) {
+        return supplyAsync(() -> downloadByUrl(fileUrl), executor);
     }
     
     @Override
@@ -100,9 +134,13 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<FileInfoResponse> queryByUrlAsync(String fileUrl) {
-        return CompletableFuture.supplyAsync(() -> queryByUrl(fileUrl));
+        return queryByUrlAsync(fileUrl, metadataExecutor);
+    }
+
+    @Override
+    public CompletableFuture<FileInfoResponse> queryByUrlAsync(String fileUrl, Executor executor) {
+        return supplyAsync(() -> queryByUrl(fileUrl), executor);
     }
     
     @Override
@@ -120,22 +158,32 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<Boolean> deleteByUrlAsync(String fileUrl) {
-        return CompletableFuture.supplyAsync(() -> deleteByUrl(fileUrl));
+        return deleteByUrlAsync(fileUrl, metadataExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteByUrlAsync(String fileUrl, Executor executor) {
+        return supplyAsync(() -> deleteByUrl(fileUrl), executor);
     }
     
     // ==================== UUID模式接口实现 ====================
     
     @Override
     public FileUploadResponse uploadByUuid(MultipartFile file, boolean encrypted) {
-        log.info("通过UUID上传文件: {}, 加密: {}", file.getOriginalFilename(), encrypted);
+        return uploadByUuid(file, encrypted, null);
+    }
+    
+    @Override
+    public FileUploadResponse uploadByUuid(MultipartFile file, boolean encrypted, Duration ttl) {
+        log.info("通过UUID上传文件: {}, 加密: {}, 保存时长: {}", file.getOriginalFilename(), encrypted, ttl);
         try {
             Object response = fileStorageFeign.uploadByUuid(
                 file,
                 DEFAULT_BUCKET_NAME,
                 encrypted ? DEFAULT_ENCRYPTION_KEY : null,
-                false
+                false,
+                ttl != null ? ttl.toMinutes() : null
             );
             log.info("UUID文件上传成功: {}", response != null ? "success" : "failed");
             return parseUploadResponse(response);
@@ -146,9 +194,13 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<FileUploadResponse> uploadByUuidAsync(MultipartFile file, boolean encrypted) {
-        return CompletableFuture.supplyAsync(() -> uploadByUuid(file, encrypted));
+        return uploadByUuidAsync(file, encrypted, transferExecutor);
+    }
+
+    @Override
+    public CompletableFuture<FileUploadResponse> uploadByUuidAsync(MultipartFile file, boolean encrypted, Executor executor) {
+        return supplyAsync(() -> uploadByUuid(file, encrypted), executor);
     }
     
     @Override
@@ -168,9 +220,13 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<InputStream> downloadByUuidAsync(String uuid) {
-        return CompletableFuture.supplyAsync(() -> downloadByUuid(uuid));
+        return downloadByUuidAsync(uuid, transferExecutor);
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadByUuidAsync(String uuid, Executor executor) {
+        return supplyAsync(() -> downloadByUuid(uuid), executor);
     }
     
     @Override
@@ -197,9 +253,13 @@ public class FileClientImpl implements FileClient {
     }
 
     @Override
-    @Async
     public CompletableFuture<FileInfoResponse> queryByUuidAsync(String uuid) {
-        return CompletableFuture.supplyAsync(() -> queryByUuid(uuid));
+        return queryByUuidAsync(uuid, metadataExecutor);
+    }
+
+    @Override
+    public CompletableFuture<FileInfoResponse> queryByUuidAsync(String uuid, Executor executor) {
+        return supplyAsync(() -> queryByUuid(uuid), executor);
     }
     
     @Override
@@ -217,13 +277,167 @@ public class FileClientImpl implements FileClient {
     }
     
     @Override
-    @Async
     public CompletableFuture<Boolean> deleteByUuidAsync(String uuid) {
-        return CompletableFuture.supplyAsync(() -> deleteByUuid(uuid));
+        return deleteByUuidAsync(uuid, metadataExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteByUuidAsync(String uuid, Executor executor) {
+        return supplyAsync(() -> deleteByUuid(uuid), executor);
+    }
+
+    @Override
+    public FileUploadResponse copyByUuid(String uuid, String targetBucketName) {
+        log.info("通过UUID复制文件: {}, 目标存储桶: {}", uuid, targetBucketName);
+        try {
+            Object response = fileStorageFeign.copyByUuid(uuid, targetBucketName);
+            FileUploadResponse result = parseUploadResponse(response);
+            log.info("文件复制成功: {} -> {}", uuid, result != null ? result.getUuid() : "null");
+            return result;
+        } catch (Exception e) {
+            log.error("文件复制失败: {}", e.getMessage(), e);
+            throw new RuntimeException("文件复制失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<FileUploadResponse> copyByUuidAsync(String uuid, String targetBucketName) {
+        return copyByUuidAsync(uuid, targetBucketName, transferExecutor);
+    }
+
+    @Override
+    public CompletableFuture<FileUploadResponse> copyByUuidAsync(String uuid, String targetBucketName, Executor executor) {
+        return supplyAsync(() -> copyByUuid(uuid, targetBucketName), executor);
+    }
+
+    @Override
+    public FileUploadTaskResponse submitUploadByUuid(MultipartFile file, boolean encrypted) {
+        log.info("提交异步上传: {}, 加密: {}", file.getOriginalFilename(), encrypted);
+        try {
+            Object response = fileStorageFeign.submitUpload(
+                file,
+                DEFAULT_BUCKET_NAME,
+                encrypted ? DEFAULT_ENCRYPTION_KEY : null
+            );
+            FileUploadTaskResponse result = parseDataResponse(response, FileUploadTaskResponse.class);
+            log.info("异步上传已受理: {}", result != null ? result.getUuid() : "null");
+            return result;
+        } catch (Exception e) {
+            log.error("异步上传提交失败: {}", e.getMessage(), e);
+            throw new RuntimeException("异步上传提交失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public FileUploadTaskResponse getUploadStatus(String uuid) {
+        try {
+            Object response = fileStorageFeign.getUploadStatus(uuid);
+            return parseDataResponse(response, FileUploadTaskResponse.class);
+        } catch (Exception e) {
+            log.error("上传状态查询失败: {}", e.getMessage(), e);
+            throw new RuntimeException("上传状态查询失败: " + e.getMessage(), e);
+        }
+    }
+
+    // ==================== 文件管理接口实现 ====================
+
+    @Override
+    public FilePageResponse listFiles(String bucketName, String sourceType, LocalDateTime createdFrom,
+                                      LocalDateTime createdTo, String cursor, Integer limit) {
+        log.info("分页列出文件: bucket={}, sourceType={}, cursor={}", bucketName, sourceType, cursor);
+        try {
+            Object response = fileStorageFeign.listFiles(bucketName, sourceType, createdFrom, createdTo, cursor, limit);
+            FilePageResponse result = parseDataResponse(response, FilePageResponse.class);
+            log.info("文件列表查询成功: {} 条", result != null && result.getItems() != null ? result.getItems().size() : 0);
+            return result;
+        } catch (Exception e) {
+            log.error("文件列表查询失败: {}", e.getMessage(), e);
+            throw new RuntimeException("文件列表查询失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public FilePageResponse searchFiles(String bucketName, String keyword, String fileType, LocalDateTime createdFrom,
+                                        LocalDateTime createdTo, String cursor, Integer limit) {
+        log.info("搜索文件: bucket={}, keyword={}, fileType={}, cursor={}", bucketName, keyword, fileType, cursor);
+        try {
+            Object response = fileStorageFeign.searchFiles(bucketName, keyword, fileType, createdFrom, createdTo,
+                cursor, limit);
+            FilePageResponse result = parseDataResponse(response, FilePageResponse.class);
+            log.info("文件搜索成功: {} 条", result != null && result.getItems() != null ? result.getItems().size() : 0);
+            return result;
+        } catch (Exception e) {
+            log.error("文件搜索失败: {}", e.getMessage(), e);
+            throw new RuntimeException("文件搜索失败: " + e.getMessage(), e);
+        }
+    }
+
+    // ==================== 文件变更事件接口实现 ====================
+
+    @Override
+    public FileEventPageResponse listEvents(Long after, String bucketName, Integer limit) {
+        log.debug("拉取文件变更事件: after={}, bucket={}", after, bucketName);
+        try {
+            Object response = fileStorageFeign.listEvents(after, bucketName, limit);
+            return parseDataResponse(response, FileEventPageResponse.class);
+        } catch (Exception e) {
+            log.error("文件事件查询失败: {}", e.getMessage(), e);
+            throw new RuntimeException("文件事件查询失败: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public FileEventSubscription subscribeEvents(Long after, String bucketName, Duration pollInterval,
+                                                 Consumer<FileEventResponse> listener) {
+        log.info("订阅文件变更事件: after={}, bucket={}, pollInterval={}", after, bucketName, pollInterval);
+        return FileEventSubscription.start(after != null ? after : 0L, pollInterval,
+            cursor -> listEvents(cursor, bucketName, null), listener);
     }
 
     // ==================== 辅助解析方法 ====================
 
+    /**
+     * 在指定执行器上异步执行，执行器拒绝时返回失败的Future而不是直接抛出
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("文件客户端执行器已满，拒绝异步调用: {}", e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 解析ApiResponse包装的data字段为指定类型
+     */
+    private <T> T parseDataResponse(Object response, Class<T> type) {
+        if (response == null) {
+            return null;
+        }
+
+        if (type.isInstance(response)) {
+            return type.cast(response);
+        }
+
+        if (response instanceof Map) {
+            Map<?, ?> responseMap = (Map<?, ?>) response;
+            if (responseMap.containsKey("success") && responseMap.containsKey("data")) {
+                if (!Boolean.TRUE.equals(responseMap.get("success"))) {
+                    Object message = responseMap.get("message");
+                    log.error("API响应失败: {}", message);
+                    throw new RuntimeException(message != null ? message.toString() : "API调用失败");
+                }
+                Object data = responseMap.get("data");
+                return data != null ? objectMapper.convertValue(data, type) : null;
+            }
+            return objectMapper.convertValue(response, type);
+        }
+
+        log.warn("解析响应时遇到未处理的类型: {}", response.getClass());
+        return null;
+    }
+
     /**
      * 解析文件上传响应
      */
@@ -0,0 +1,36 @@
+package com.contractreview.fileapi.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 记录拒绝次数的拒绝策略包装器
+ *
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public CountingRejectedExecutionHandler(FileClientExecutorProperties.RejectionPolicy policy) {
+        this.delegate = policy == FileClientExecutorProperties.RejectionPolicy.CALLER_RUNS
+            ? new ThreadPoolExecutor.CallerRunsPolicy()
+            : new ThreadPoolExecutor.AbortPolicy();
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+        rejectedCount.incrementAndGet();
+        delegate.rejectedExecution(runnable, executor);
+    }
+
+    /**
+     * 累计拒绝次数（CALLER_RUNS策略下为回退到调用方执行的次数）
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
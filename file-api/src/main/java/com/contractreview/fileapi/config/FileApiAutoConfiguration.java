@@ -4,10 +4,24 @@ import com.contractreview.fileapi.client.FileClient;
 import com.contractreview.fileapi.client.impl.FileClientImpl;
 import com.contractreview.fileapi.feign.FileStorageFeign;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
 
 /**
  * File API 自动配置类
@@ -15,16 +29,110 @@ import org.springframework.context.annotation.Configuration;
  * @author ContractReview Team
  * @version 1.0.0
  */
+@Slf4j
 @Configuration
 @EnableFeignClients(basePackages = "com.contractreview.fileapi.feign")
+@EnableConfigurationProperties(FileClientExecutorProperties.class)
 public class FileApiAutoConfiguration {
 
+    public static final String TRANSFER_EXECUTOR_BEAN = "fileApiTransferExecutor";
+    public static final String METADATA_EXECUTOR_BEAN = "fileApiMetadataExecutor";
+
+    /**
+     * 传输类调用执行器
+     */
+    @Bean(TRANSFER_EXECUTOR_BEAN)
+    @ConditionalOnMissingBean(name = TRANSFER_EXECUTOR_BEAN)
+    public AsyncTaskExecutor fileApiTransferExecutor(FileClientExecutorProperties properties) {
+        return createExecutor("file-api-transfer-", properties, properties.getTransfer());
+    }
+
+    /**
+     * 元数据类调用执行器
+     */
+    @Bean(METADATA_EXECUTOR_BEAN)
+    @ConditionalOnMissingBean(name = METADATA_EXECUTOR_BEAN)
+    public AsyncTaskExecutor fileApiMetadataExecutor(FileClientExecutorProperties properties) {
+        return createExecutor("file-api-metadata-", properties, properties.getMetadata());
+    }
+
     /**
      * 创建FileClient Bean
      */
     @Bean
     @ConditionalOnMissingBean
-    public FileClient fileClient(FileStorageFeign fileStorageFeign, ObjectMapper objectMapper) {
-        return new FileClientImpl(fileStorageFeign, objectMapper);
+    public FileClient fileClient(FileStorageFeign fileStorageFeign, ObjectMapper objectMapper,
+                                 @Qualifier(TRANSFER_EXECUTOR_BEAN) Executor transferExecutor,
+                                 @Qualifier(METADATA_EXECUTOR_BEAN) Executor metadataExecutor) {
+        return new FileClientImpl(fileStorageFeign, objectMapper, transferExecutor, metadataExecutor);
+    }
+
+    private AsyncTaskExecutor createExecutor(String threadNamePrefix, FileClientExecutorProperties properties,
+                                             FileClientExecutorProperties.Pool pool) {
+        if (properties.isVirtualThreads()) {
+            if (Runtime.version().feature() >= 21) {
+                return createVirtualThreadExecutor(threadNamePrefix, pool);
+            }
+            log.warn("当前JDK版本 {} 不支持虚拟线程，{} 回退到平台线程池", Runtime.version(), threadNamePrefix);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(pool.getRejectionPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 每个调用一个虚拟线程，阻塞在HTTP I/O上时不占用平台线程；
+     * 达到并发上限时按拒绝策略直接拒绝（ABORT）或阻塞调用方（CALLER_RUNS）
+     */
+    private AsyncTaskExecutor createVirtualThreadExecutor(String threadNamePrefix, FileClientExecutorProperties.Pool pool) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getMaxConcurrency());
+        executor.setRejectTasksWhenLimitReached(pool.getRejectionPolicy() == FileClientExecutorProperties.RejectionPolicy.ABORT);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    /**
+     * 执行器指标（宿主应用引入Micrometer时生效，由MeterRegistry自动绑定）
+     * 暴露 file.api.executor.* 线程池指标和 file.api.executor.rejected 拒绝次数（仅平台线程池模式）
+     */
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class ExecutorMetricsConfiguration {
+
+        @Bean
+        public MeterBinder fileApiExecutorMetrics(
+                @Qualifier(TRANSFER_EXECUTOR_BEAN) Executor transferExecutor,
+                @Qualifier(METADATA_EXECUTOR_BEAN) Executor metadataExecutor) {
+            return registry -> {
+                bind(registry, "transfer", transferExecutor);
+                bind(registry, "metadata", metadataExecutor);
+            };
+        }
+
+        private void bind(MeterRegistry registry, String pool, Executor target) {
+            if (!(target instanceof ThreadPoolTaskExecutor executor)) {
+                return;
+            }
+            Tags tags = Tags.of("pool", pool);
+            new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "file-api-" + pool, "file.api", tags)
+                .bindTo(registry);
+            if (executor.getThreadPoolExecutor().getRejectedExecutionHandler()
+                    instanceof CountingRejectedExecutionHandler handler) {
+                FunctionCounter.builder("file.api.executor.rejected", handler,
+                        CountingRejectedExecutionHandler::getRejectedCount)
+                    .tags(tags)
+                    .description("文件客户端执行器拒绝次数")
+                    .register(registry);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.contractreview.fileapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 文件客户端异步执行器配置
+ * 传输类（上传、下载、复制）和元数据类（查询、删除）调用使用独立的有界线程池，互不挤占
+ *
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "file-api.executor")
+public class FileClientExecutorProperties {
+
+    /**
+     * 是否使用虚拟线程执行异步调用（需运行在JDK 21及以上，低版本JDK自动回退到平台线程池）
+     * 开启后每个调用使用独立的虚拟线程，并发上限由 {@link Pool#getMaxConcurrency()} 控制
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 传输类调用线程池
+     */
+    private Pool transfer = new Pool(4, 8, 64, RejectionPolicy.ABORT, 256);
+
+    /**
+     * 元数据类调用线程池
+     */
+    private Pool metadata = new Pool(8, 16, 256, RejectionPolicy.CALLER_RUNS, 1024);
+
+    /**
+     * 队列满且线程数达到上限时的处理策略
+     */
+    public enum RejectionPolicy {
+        /**
+         * 拒绝调用，返回以RejectedExecutionException失败的Future
+         */
+        ABORT,
+        /**
+         * 在调用方线程中同步执行，对调用方形成背压
+         * 虚拟线程模式下表现为阻塞调用方，直到有空闲的并发名额
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * 线程池参数
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize;
+
+        /**
+         * 最大线程数
+         */
+        private int maxPoolSize;
+
+        /**
+         * 等待队列容量
+         */
+        private int queueCapacity;
+
+        /**
+         * 拒绝策略
+         */
+        private RejectionPolicy rejectionPolicy;
+
+        /**
+         * 非核心线程空闲存活时间
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /**
+         * 虚拟线程模式下的最大并发调用数
+         */
+        private int maxConcurrency;
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity, RejectionPolicy rejectionPolicy,
+                    int maxConcurrency) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+}
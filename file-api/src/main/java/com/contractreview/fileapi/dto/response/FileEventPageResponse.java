@@ -0,0 +1,36 @@
+package com.contractreview.fileapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 文件变更事件分页响应DTO
+ * 
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEventPageResponse {
+    
+    /**
+     * 当前页事件列表
+     */
+    private List<FileEventResponse> items;
+    
+    /**
+     * 下一页游标，下次拉取时作为after传入
+     */
+    private Long nextCursor;
+    
+    /**
+     * 是否还有未拉取的事件
+     */
+    private Boolean hasMore;
+}
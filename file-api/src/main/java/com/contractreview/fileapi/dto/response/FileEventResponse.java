@@ -0,0 +1,66 @@
+package com.contractreview.fileapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件变更事件DTO
+ * 
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEventResponse {
+    
+    /**
+     * 事件ID，同时作为续传游标
+     */
+    private Long id;
+    
+    /**
+     * 事件类型：UPLOADED、COPIED、DELETED
+     */
+    private String eventType;
+    
+    /**
+     * 文件UUID标识
+     */
+    private String uuid;
+    
+    /**
+     * 存储桶名称
+     */
+    private String bucketName;
+    
+    /**
+     * 文件访问URL
+     */
+    private String fileUrl;
+    
+    /**
+     * 文件名
+     */
+    private String fileName;
+    
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+    
+    /**
+     * 来源类型
+     */
+    private String sourceType;
+    
+    /**
+     * 事件发生时间
+     */
+    private LocalDateTime createdTime;
+}
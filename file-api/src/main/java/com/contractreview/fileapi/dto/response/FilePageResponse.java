@@ -0,0 +1,36 @@
+package com.contractreview.fileapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 文件分页响应DTO
+ * 
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilePageResponse {
+    
+    /**
+     * 当前页文件列表
+     */
+    private List<FileInfoResponse> items;
+    
+    /**
+     * 下一页游标，没有下一页时为空
+     */
+    private String nextCursor;
+    
+    /**
+     * 是否还有下一页
+     */
+    private Boolean hasMore;
+}
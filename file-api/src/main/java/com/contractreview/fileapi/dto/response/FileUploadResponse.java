@@ -54,6 +54,11 @@ public class FileUploadResponse {
      */
     private LocalDateTime uploadTime;
     
+    /**
+     * 过期时间，为空表示永久保存
+     */
+    private LocalDateTime expiresAt;
+    
     /**
      * 文件MD5哈希值
      */
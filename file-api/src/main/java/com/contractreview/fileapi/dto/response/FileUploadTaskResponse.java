@@ -0,0 +1,78 @@
+package com.contractreview.fileapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 异步上传任务响应DTO
+ * 
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadTaskResponse {
+    
+    /**
+     * 已分配的文件UUID
+     */
+    private String uuid;
+    
+    /**
+     * 任务状态：PENDING、PROCESSING、COMPLETED、FAILED
+     */
+    private String status;
+    
+    /**
+     * 存储桶名称
+     */
+    private String bucketName;
+    
+    /**
+     * 文件名
+     */
+    private String fileName;
+    
+    /**
+     * 文件大小（字节）
+     */
+    private Long fileSize;
+    
+    /**
+     * 文件类型
+     */
+    private String fileType;
+    
+    /**
+     * 是否加密
+     */
+    private Boolean isEncrypted;
+    
+    /**
+     * 失败原因
+     */
+    private String errorMessage;
+    
+    /**
+     * 受理时间
+     */
+    private LocalDateTime createdTime;
+    
+    /**
+     * 最近更新时间
+     */
+    private LocalDateTime updatedTime;
+    
+    /**
+     * 任务是否已结束
+     */
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "FAILED".equals(status);
+    }
+}
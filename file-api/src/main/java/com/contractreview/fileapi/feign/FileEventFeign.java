@@ -0,0 +1,37 @@
+package com.contractreview.fileapi.feign;
+
+import com.contractreview.fileapi.config.FeignClientConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 文件变更事件Feign客户端
+ *
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@FeignClient(
+    name = "contract-file-storage-service",
+    path = "/contract-file/api/v1/files/events",
+    contextId = "fileEventFeign",
+    configuration = FeignClientConfig.class
+)
+public interface FileEventFeign {
+
+    /**
+     * 分页拉取文件变更事件
+     *
+     * @param after 上次返回的游标（可选）
+     * @param bucketName 存储桶名称（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    @GetMapping
+    ResponseEntity<Object> listEvents(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "bucketName", required = false) String bucketName,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+}
@@ -0,0 +1,73 @@
+package com.contractreview.fileapi.feign;
+
+import com.contractreview.fileapi.config.FeignClientConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件管理Feign客户端
+ *
+ * @author ContractReview Team
+ * @version 1.0.0
+ */
+@FeignClient(
+    name = "contract-file-storage-service",
+    path = "/contract-file/api/v1/files",
+    contextId = "fileManagementFeign",
+    configuration = FeignClientConfig.class
+)
+public interface FileManagementFeign {
+
+    /**
+     * 分页列出文件
+     *
+     * @param bucketName 存储桶名称
+     * @param sourceType 来源类型（可选）
+     * @param createdFrom 创建时间下界（可选，包含）
+     * @param createdTo 创建时间上界（可选，不包含）
+     * @param cursor 上一页游标（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    @GetMapping("/list")
+    ResponseEntity<Object> listFiles(
+            @RequestParam("bucketName") String bucketName,
+            @RequestParam(value = "sourceType", required = false) String sourceType,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+
+    /**
+     * 搜索文件
+     *
+     * @param bucketName 存储桶名称（可选）
+     * @param keyword 文件名关键字（可选）
+     * @param fileType 文件类型关键字（可选）
+     * @param createdFrom 创建时间下界（可选，包含）
+     * @param createdTo 创建时间上界（可选，不包含）
+     * @param cursor 上一页游标（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    @GetMapping("/search")
+    ResponseEntity<Object> searchFiles(
+            @RequestParam(value = "bucketName", required = false) String bucketName,
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "fileType", required = false) String fileType,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit
+    );
+}
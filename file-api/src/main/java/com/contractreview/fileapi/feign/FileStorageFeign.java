@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+
 /**
  * 文件存储服务Feign客户端 - 统一接口
  *
@@ -19,6 +21,8 @@ public class FileStorageFeign {
 
     private final UrlBasedFileFeign urlBasedFileFeign;
     private final UuidBasedFileFeign uuidBasedFileFeign;
+    private final FileManagementFeign fileManagementFeign;
+    private final FileEventFeign fileEventFeign;
 
     // ==================== URL模式操作 ====================
 
@@ -94,13 +98,58 @@ public class FileStorageFeign {
      * @return 上传响应
      */
     public Object uploadByUuid(MultipartFile file, String bucketName, String privateKey, boolean needPreview) {
+        return uploadByUuid(file, bucketName, privateKey, needPreview, null);
+    }
+
+    /**
+     * 通过UUID上传文件并指定保存时长
+     *
+     * @param file 文件
+     * @param bucketName 存储桶名称
+     * @param privateKey 私钥（可选，用于加密）
+     * @param needPreview 是否需要预览
+     * @param ttlMinutes 保存时长（分钟，可选，为空时使用存储桶默认保存时长）
+     * @return 上传响应
+     */
+    public Object uploadByUuid(MultipartFile file, String bucketName, String privateKey, boolean needPreview,
+                               Long ttlMinutes) {
         try {
-            return uuidBasedFileFeign.uploadByUuid(file, bucketName, privateKey, needPreview).getBody();
+            return uuidBasedFileFeign.uploadByUuid(file, bucketName, privateKey, needPreview, ttlMinutes).getBody();
         } catch (Exception e) {
             throw new RuntimeException("UUID文件上传失败", e);
         }
     }
 
+    /**
+     * 异步上传文件
+     *
+     * @param file 文件
+     * @param bucketName 存储桶名称
+     * @param privateKey 私钥（可选，用于加密）
+     * @return 上传任务响应
+     */
+    public Object submitUpload(MultipartFile file, String bucketName, String privateKey) {
+        try {
+            return uuidBasedFileFeign.submitUpload(file, bucketName, privateKey).getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("异步上传提交失败", e);
+        }
+    }
+
+    /**
+     * 查询异步上传状态
+     *
+     * @param fileUuid 文件UUID
+     * @return 上传任务响应
+     */
+    public Object getUploadStatus(String fileUuid) {
+        try {
+            return uuidBasedFileFeign.getUploadStatus(fileUuid).getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("上传状态查询失败", e);
+        }
+    }
+
     /**
      * 通过UUID下载文件
      *
@@ -149,6 +198,21 @@ public class FileStorageFeign {
         }
     }
 
+    /**
+     * 通过UUID复制文件
+     *
+     * @param fileUuid 源文件UUID
+     * @param targetBucketName 目标存储桶名称（可选）
+     * @return 复制响应
+     */
+    public Object copyByUuid(String fileUuid, String targetBucketName) {
+        try {
+            return uuidBasedFileFeign.copyByUuid(fileUuid, targetBucketName).getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("UUID文件复制失败", e);
+        }
+    }
+
     /**
      * 生成UUID文件预览URL
      *
@@ -163,4 +227,64 @@ public class FileStorageFeign {
             throw new RuntimeException("生成预览URL失败", e);
         }
     }
-}
\ No newline at end of file
+
+    // ==================== 文件管理操作 ====================
+
+    /**
+     * 分页列出文件
+     *
+     * @param bucketName 存储桶名称
+     * @param sourceType 来源类型（可选）
+     * @param createdFrom 创建时间下界（可选）
+     * @param createdTo 创建时间上界（可选）
+     * @param cursor 上一页游标（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    public Object listFiles(String bucketName, String sourceType, LocalDateTime createdFrom,
+                            LocalDateTime createdTo, String cursor, Integer limit) {
+        try {
+            return fileManagementFeign.listFiles(bucketName, sourceType, createdFrom, createdTo, cursor, limit).getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("文件列表查询失败", e);
+        }
+    }
+
+    /**
+     * 搜索文件
+     *
+     * @param bucketName 存储桶名称（可选）
+     * @param keyword 文件名关键字（可选）
+     * @param fileType 文件类型关键字（可选）
+     * @param createdFrom 创建时间下界（可选）
+     * @param createdTo 创建时间上界（可选）
+     * @param cursor 上一页游标（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    public Object searchFiles(String bucketName, String keyword, String fileType, LocalDateTime createdFrom,
+                              LocalDateTime createdTo, String cursor, Integer limit) {
+        try {
+            return fileManagementFeign.searchFiles(bucketName, keyword, fileType, createdFrom, createdTo, cursor, limit)
+                .getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("文件搜索失败", e);
+        }
+    }
+
+    /**
+     * 分页拉取文件变更事件
+     *
+     * @param after 上次返回的游标（可选）
+     * @param bucketName 存储桶名称（可选）
+     * @param limit 每页数量（可选）
+     * @return 分页结果
+     */
+    public Object listEvents(Long after, String bucketName, Integer limit) {
+        try {
+            return fileEventFeign.listEvents(after, bucketName, limit).getBody();
+        } catch (Exception e) {
+            throw new RuntimeException("文件事件查询失败", e);
+        }
+    }
+}
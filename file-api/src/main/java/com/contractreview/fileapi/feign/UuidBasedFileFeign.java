@@ -30,6 +30,7 @@ public interface UuidBasedFileFeign {
      * @param bucketName 存储桶名称
      * @param privateKey 私钥（可选，用于加密）
      * @param needPreview 是否需要预览（可选，默认false）
+     * @param ttlMinutes 保存时长（分钟，可选，为空时使用存储桶默认保存时长）
      * @return 上传响应
      */
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -37,9 +38,34 @@ public interface UuidBasedFileFeign {
             @RequestPart("file") MultipartFile file,
             @RequestParam("bucketName") String bucketName,
             @RequestParam(value = "privateKey", required = false) String privateKey,
-            @RequestParam(value = "needPreview", defaultValue = "false") boolean needPreview
+            @RequestParam(value = "needPreview", defaultValue = "false") boolean needPreview,
+            @RequestParam(value = "ttlMinutes", required = false) Long ttlMinutes
     );
 
+    /**
+     * 异步上传文件（服务端暂存后立即返回）
+     *
+     * @param file 上传的文件
+     * @param bucketName 存储桶名称
+     * @param privateKey 私钥（可选，用于加密）
+     * @return 上传任务响应
+     */
+    @PostMapping(value = "/upload/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<Object> submitUpload(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam("bucketName") String bucketName,
+            @RequestParam(value = "privateKey", required = false) String privateKey
+    );
+
+    /**
+     * 查询异步上传状态
+     *
+     * @param fileUuid 文件UUID
+     * @return 上传任务响应
+     */
+    @GetMapping("/upload/status")
+    ResponseEntity<Object> getUploadStatus(@RequestParam("fileUuid") String fileUuid);
+
     /**
      * 通过UUID下载文件
      *
@@ -74,6 +100,19 @@ public interface UuidBasedFileFeign {
     @DeleteMapping("/delete")
     ResponseEntity<Object> deleteByUuid(@RequestParam("fileUuid") String fileUuid);
 
+    /**
+     * 通过UUID复制文件
+     *
+     * @param fileUuid 源文件UUID
+     * @param targetBucketName 目标存储桶名称（可选，默认源存储桶）
+     * @return 新文件的上传响应
+     */
+    @PostMapping("/copy")
+    ResponseEntity<Object> copyByUuid(
+            @RequestParam("fileUuid") String fileUuid,
+            @RequestParam(value = "targetBucketName", required = false) String targetBucketName
+    );
+
     /**
      * 生成UUID文件预览URL
      *
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 文件存储服务启动类
@@ -16,6 +17,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 })
 @EnableDiscoveryClient
 @EnableFeignClients(basePackages = "com.ruoyi.feign.service")
+@EnableScheduling
 public class FileStorageApplication {
 
     public static void main(String[] args) {
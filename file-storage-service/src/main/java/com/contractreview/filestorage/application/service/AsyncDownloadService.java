@@ -0,0 +1,95 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.AsyncDownloadProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 异步下载服务
+ * 元数据查询在请求线程完成，对象获取交给MinIO异步客户端，请求线程在发起获取后即可释放；
+ * 未加密的文件直接返回对象内容流，由响应写出器分块转发，不整体读入内存；
+ * 加密文件需整体解密，内容读取和解密在有界的下载线程池中执行
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+public class AsyncDownloadService {
+
+    private final FileStorageService fileStorageService;
+    private final FileResourceRepository fileResourceRepository;
+    private final EncryptionService encryptionService;
+    private final ThreadPoolTaskExecutor downloadExecutor;
+    private final AsyncDownloadProperties properties;
+
+    public AsyncDownloadService(FileStorageService fileStorageService,
+                                FileResourceRepository fileResourceRepository,
+                                EncryptionService encryptionService,
+                                @Qualifier("asyncDownloadExecutor") ThreadPoolTaskExecutor downloadExecutor,
+                                AsyncDownloadProperties properties) {
+        this.fileStorageService = fileStorageService;
+        this.fileResourceRepository = fileResourceRepository;
+        this.encryptionService = encryptionService;
+        this.downloadExecutor = downloadExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * 通过UUID异步下载文件
+     * 参数错误、文件不存在或缺少私钥时直接抛出IllegalArgumentException，其余错误体现在返回的Future中
+     *
+     * @throws RejectedExecutionException 下载队列已满（由返回的Future体现）
+     */
+    public CompletableFuture<DownloadedFile> downloadByUuid(String fileUuid, String privateKey) {
+        if (StringUtils.isBlank(fileUuid)) {
+            throw new IllegalArgumentException("文件UUID不能为空");
+        }
+
+        FileResource fileResource = fileResourceRepository.findByFileUuid(fileUuid)
+            .orElseThrow(() -> new IllegalArgumentException("文件不存在: " + fileUuid));
+        fileResource.validateForAccess();
+
+        boolean decrypt = fileResource.requiresDecryption();
+        if (decrypt && StringUtils.isBlank(privateKey)) {
+            throw new IllegalArgumentException("文件已加密，需要提供私钥");
+        }
+
+        String fileName = fileResource.getMetadata().getFileName();
+        String fileType = fileResource.getMetadata().getFileType();
+        if (!decrypt) {
+            Long fileSize = fileResource.getMetadata().getFileSize();
+            return fileStorageService.openFileAsync(fileResource, properties.getWriteChunkSize().toBytes())
+                .thenApply(content -> {
+                    log.info("UUID文件异步下载开始写出: uuid={}, size={}", fileUuid, fileSize);
+                    return new DownloadedFile(fileName, fileType, content, fileSize != null ? fileSize : -1);
+                });
+        }
+
+        return fileStorageService.retrieveFileAsync(fileResource, downloadExecutor)
+            .thenApply(content -> {
+                byte[] fileContent = encryptionService.decrypt(content, privateKey);
+                log.info("UUID文件异步下载成功: uuid={}, size={}", fileUuid, fileContent.length);
+                return new DownloadedFile(fileName, fileType, new ByteArrayInputStream(fileContent), fileContent.length);
+            });
+    }
+
+    /**
+     * 待写出的文件内容，由写出方关闭内容流
+     *
+     * @param contentLength 内容长度，未知时为-1
+     */
+    public record DownloadedFile(String fileName, String fileType, InputStream content, long contentLength) {
+    }
+}
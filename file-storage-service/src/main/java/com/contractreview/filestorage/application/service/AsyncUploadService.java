@@ -0,0 +1,359 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.UploadTask;
+import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
+import com.contractreview.filestorage.domain.model.valueobject.EncryptionMetadata;
+import com.contractreview.filestorage.domain.model.valueobject.FileMetadata;
+import com.contractreview.filestorage.domain.model.valueobject.StorageLocation;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.UploadTaskRepository;
+import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.AsyncUploadProperties;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadTaskResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.PathResource;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步上传应用服务
+ * 请求线程只负责把文件持久化到本地暂存目录并登记任务，加密、写入MinIO和保存元数据由后台线程完成；
+ * 临时故障按退避间隔有限次重试，重试期间保留暂存文件和队列名额
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+public class AsyncUploadService {
+
+    private static final String SOURCE_TYPE = "UUID_UPLOAD";
+
+    private final FileStorageService fileStorageService;
+    private final FileResourceRepository fileResourceRepository;
+    private final UploadTaskRepository uploadTaskRepository;
+    private final EncryptionService encryptionService;
+    private final PendingFileReconciler pendingFileReconciler;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final AsyncUploadProperties properties;
+    private final Path stagingDir;
+
+    /**
+     * 在暂存前占用名额，保证已暂存的文件一定能进入执行队列
+     */
+    private final Semaphore capacity;
+
+    public AsyncUploadService(FileStorageService fileStorageService,
+                              FileResourceRepository fileResourceRepository,
+                              UploadTaskRepository uploadTaskRepository,
+                              EncryptionService encryptionService,
+                              PendingFileReconciler pendingFileReconciler,
+                              AsyncUploadProperties properties,
+                              @Qualifier("asyncUploadExecutor") ThreadPoolTaskExecutor uploadExecutor) {
+        this.fileStorageService = fileStorageService;
+        this.fileResourceRepository = fileResourceRepository;
+        this.uploadTaskRepository = uploadTaskRepository;
+        this.encryptionService = encryptionService;
+        this.pendingFileReconciler = pendingFileReconciler;
+        this.uploadExecutor = uploadExecutor;
+        this.properties = properties;
+        this.stagingDir = Paths.get(properties.getStagingDir());
+        this.capacity = new Semaphore(properties.getWorkerThreads() + properties.getQueueCapacity());
+    }
+
+    /**
+     * 接收上传并暂存，立即返回已分配的UUID
+     *
+     * @throws RejectedExecutionException 待处理任务已满
+     */
+    public FileUploadTaskResponse submitUpload(MultipartFile file, String bucketName, String privateKey) {
+        validateUploadParameters(file, bucketName);
+
+        boolean encrypted = StringUtils.isNotBlank(privateKey);
+        if (encrypted && !encryptionService.validatePublicKey(privateKey)) {
+            throw new IllegalArgumentException("加密密钥格式错误");
+        }
+
+        FileResource fileResource = FileResource.create(
+            file.getOriginalFilename(),
+            file.getContentType(),
+            file.getSize(),
+            bucketName,
+            SOURCE_TYPE,
+            encrypted
+        );
+        fileResource.validateForUpload();
+
+        if (!capacity.tryAcquire()) {
+            throw new RejectedExecutionException("异步上传队列已满，请稍后重试");
+        }
+
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        Path stagedFile;
+        UploadTask task = UploadTask.pending(fileResource);
+        try {
+            stagedFile = stage(file, uuid);
+            uploadTaskRepository.save(task);
+        } catch (RuntimeException e) {
+            capacity.release();
+            deleteStagedFile(stagingDir.resolve(uuid));
+            throw e;
+        }
+
+        uploadExecutor.execute(() -> process(fileResource, stagedFile, privateKey, 1));
+        log.info("异步上传已受理: uuid={}, fileName={}, size={}, encrypted={}",
+            uuid, file.getOriginalFilename(), file.getSize(), encrypted);
+
+        return toResponse(task);
+    }
+
+    /**
+     * 查询上传任务状态
+     */
+    public FileUploadTaskResponse getUploadStatus(String fileUuid) {
+        if (StringUtils.isBlank(fileUuid)) {
+            throw new IllegalArgumentException("文件UUID不能为空");
+        }
+        return uploadTaskRepository.findByUuid(fileUuid)
+            .map(this::toResponse)
+            .orElseThrow(() -> new IllegalArgumentException("上传任务不存在: " + fileUuid));
+    }
+
+    /**
+     * 服务启动后恢复本节点暂存目录中未完成的任务
+     * 加密密钥不落盘，重启前未完成的加密上传只能标记失败；暂存文件已丢失的任务标记失败
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverUnfinishedTasks() {
+        for (UploadTask task : uploadTaskRepository.findUnfinished()) {
+            Path stagedFile = stagingDir.resolve(task.getAttachmentUuid());
+            if (!Files.exists(stagedFile)) {
+                failOrphaned(task);
+                continue;
+            }
+            if (fileResourceRepository.existsByUuid(AttachmentUuid.of(task.getAttachmentUuid()))) {
+                uploadTaskRepository.updateStatus(task.getAttachmentUuid(), UploadTask.Status.COMPLETED, null);
+                deleteStagedFile(stagedFile);
+                continue;
+            }
+            if (task.isEncrypted()) {
+                uploadTaskRepository.updateStatus(task.getAttachmentUuid(), UploadTask.Status.FAILED,
+                    "服务重启导致加密上传中断，请重新上传");
+                deleteStagedFile(stagedFile);
+                continue;
+            }
+            if (!capacity.tryAcquire()) {
+                log.warn("异步上传队列已满，剩余任务等待下次重启恢复: uuid={}", task.getAttachmentUuid());
+                return;
+            }
+            FileResource fileResource = rebuildFileResource(task);
+            // 上次中断时可能遗留未提交记录和部分对象，重新上传前先清理
+            pendingFileReconciler.discard(fileResource);
+            uploadExecutor.execute(() -> process(fileResource, stagedFile, null, 1));
+            log.info("恢复异步上传任务: uuid={}", task.getAttachmentUuid());
+        }
+    }
+
+    /**
+     * 清理过期的已结束任务
+     */
+    @Scheduled(cron = "${file-storage.async-upload.purge-cron:0 0 4 * * *}")
+    public void purgeFinishedTasks() {
+        int deleted = uploadTaskRepository.deleteFinishedBefore(LocalDateTime.now().minus(properties.getTaskRetention()));
+        if (deleted > 0) {
+            log.info("已清理过期异步上传任务: {} 条", deleted);
+        }
+    }
+
+    /**
+     * 后台执行：写入MinIO并保存元数据
+     * 每次尝试先确认记录是否已提交，重试不会重复写入；提交后的状态更新不参与重试
+     */
+    private void process(FileResource fileResource, Path stagedFile, String privateKey, int attempt) {
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        boolean retrying = false;
+        try {
+            try {
+                uploadTaskRepository.updateStatus(uuid, UploadTask.Status.PROCESSING, null);
+                if (fileResourceRepository.existsByUuid(fileResource.getAttachmentUuid())) {
+                    // 上次尝试已提交，只是之后的步骤失败
+                    log.info("异步上传记录已提交，跳过重复上传: uuid={}, attempt={}", uuid, attempt);
+                } else {
+                    if (attempt > 1) {
+                        // 上次尝试可能遗留未提交记录和部分对象
+                        pendingFileReconciler.discard(fileResource);
+                    }
+                    storeAndCommit(fileResource, stagedFile, privateKey);
+                }
+            } catch (Exception e) {
+                if (attempt < properties.getMaxAttempts() && isTransient(e)) {
+                    Duration delay = properties.getRetryBackoff().multipliedBy(1L << (attempt - 1));
+                    log.warn("异步上传失败，{}后重试: uuid={}, attempt={}", delay, uuid, attempt, e);
+                    CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, uploadExecutor)
+                        .execute(() -> process(fileResource, stagedFile, privateKey, attempt + 1));
+                    retrying = true;
+                    updateStatusQuietly(uuid, UploadTask.Status.PENDING,
+                        "第" + attempt + "次上传失败，等待重试: " + e.getMessage());
+                } else {
+                    log.error("异步上传失败: uuid={}, attempt={}", uuid, attempt, e);
+                    updateStatusQuietly(uuid, UploadTask.Status.FAILED, e.getMessage());
+                }
+                return;
+            }
+
+            // 文件已提交可用；状态更新失败时任务停留在处理中，由重启恢复按已提交的记录标记完成
+            updateStatusQuietly(uuid, UploadTask.Status.COMPLETED, null);
+            log.info("异步上传完成: uuid={}", uuid);
+        } finally {
+            if (!retrying) {
+                deleteStagedFile(stagedFile);
+                capacity.release();
+            }
+        }
+    }
+
+    private void storeAndCommit(FileResource fileResource, Path stagedFile, String privateKey) throws IOException {
+        FileResource pendingResource = fileResourceRepository.savePending(fileResource);
+        String contentType = fileResource.getMetadata().getFileType();
+        try (InputStream inputStream = Files.newInputStream(stagedFile)) {
+            FileResource storedResource = pendingResource;
+            if (privateKey != null) {
+                fileStorageService.storeEncryptedFile(fileResource, inputStream, contentType, privateKey);
+            } else if (fileStorageService.isDeduplicationEnabled()) {
+                // 暂存文件可重复读取，先计算内容哈希再决定是否上传
+                storedResource = fileStorageService.storeDeduplicated(pendingResource,
+                    new PathResource(stagedFile), Files.size(stagedFile), contentType);
+            } else {
+                fileStorageService.storeFile(fileResource, inputStream, Files.size(stagedFile), contentType);
+            }
+            fileResourceRepository.commitPending(storedResource);
+        } catch (IOException | RuntimeException e) {
+            pendingFileReconciler.discard(pendingResource);
+            throw e;
+        }
+    }
+
+    /**
+     * 参数、状态类错误重试也不会成功，其余（MinIO、网络、数据库连接等）按临时故障重试
+     */
+    private static boolean isTransient(Exception e) {
+        return !(e instanceof IllegalArgumentException
+            || e instanceof IllegalStateException
+            || e instanceof NonTransientDataAccessException);
+    }
+
+    /**
+     * 暂存文件不在本节点：已提交的标记完成；超过 orphanTimeout 未更新的任务没有节点在处理，标记失败
+     */
+    private void failOrphaned(UploadTask task) {
+        LocalDateTime lastUpdated = task.getUpdatedTime() != null ? task.getUpdatedTime() : task.getCreatedTime();
+        if (lastUpdated != null && lastUpdated.isAfter(LocalDateTime.now().minus(properties.getOrphanTimeout()))) {
+            return;
+        }
+        if (fileResourceRepository.existsByUuid(AttachmentUuid.of(task.getAttachmentUuid()))) {
+            uploadTaskRepository.updateStatus(task.getAttachmentUuid(), UploadTask.Status.COMPLETED, null);
+            return;
+        }
+        uploadTaskRepository.updateStatus(task.getAttachmentUuid(), UploadTask.Status.FAILED,
+            "暂存文件已丢失，请重新上传");
+        log.warn("异步上传任务的暂存文件已丢失，标记失败: uuid={}", task.getAttachmentUuid());
+    }
+
+    /**
+     * 状态更新失败不影响已安排的重试或已提交的文件
+     */
+    private void updateStatusQuietly(String uuid, UploadTask.Status status, String message) {
+        try {
+            uploadTaskRepository.updateStatus(uuid, status, message);
+        } catch (RuntimeException e) {
+            log.warn("更新异步上传任务状态失败: uuid={}", uuid, e);
+        }
+    }
+
+    /**
+     * 将上传内容写入暂存目录并刷盘，完成后原子重命名为 {uuid}
+     */
+    private Path stage(MultipartFile file, String uuid) {
+        Path partFile = stagingDir.resolve(uuid + ".part");
+        Path stagedFile = stagingDir.resolve(uuid);
+        try {
+            Files.createDirectories(stagingDir);
+            file.transferTo(partFile);
+            try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(partFile, stagedFile, StandardCopyOption.ATOMIC_MOVE);
+            return stagedFile;
+        } catch (IOException e) {
+            deleteStagedFile(partFile);
+            log.error("上传文件暂存失败: uuid={}", uuid, e);
+            throw new RuntimeException("上传文件暂存失败", e);
+        }
+    }
+
+    private FileResource rebuildFileResource(UploadTask task) {
+        AttachmentUuid uuid = AttachmentUuid.of(task.getAttachmentUuid());
+        FileMetadata metadata = FileMetadata.of(task.getFileName(), task.getFileType(), task.getFileSize(),
+            task.getCreatedTime(), task.getCreatedTime());
+        StorageLocation location = StorageLocation.generateFromUuid(task.getBucketName(), uuid, task.getFileName());
+        return FileResource.rebuild(null, uuid, metadata, location, EncryptionMetadata.unencrypted(), SOURCE_TYPE);
+    }
+
+    private void deleteStagedFile(Path stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException e) {
+            log.warn("删除暂存文件失败: {}", stagedFile, e);
+        }
+    }
+
+    private void validateUploadParameters(MultipartFile file, String bucketName) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("文件不能为空");
+        }
+        if (bucketName == null || bucketName.trim().isEmpty()) {
+            throw new IllegalArgumentException("存储桶名称不能为空");
+        }
+        if (file.getOriginalFilename() == null || file.getOriginalFilename().trim().isEmpty()) {
+            throw new IllegalArgumentException("文件名不能为空");
+        }
+    }
+
+    private FileUploadTaskResponse toResponse(UploadTask task) {
+        return FileUploadTaskResponse.builder()
+            .uuid(task.getAttachmentUuid())
+            .status(task.getStatus().name())
+            .bucketName(task.getBucketName())
+            .fileName(task.getFileName())
+            .fileSize(task.getFileSize())
+            .fileType(task.getFileType())
+            .isEncrypted(task.isEncrypted())
+            .errorMessage(task.getErrorMessage())
+            .createdTime(task.getCreatedTime())
+            .updatedTime(task.getUpdatedTime())
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileBlob;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.DeduplicationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 共享对象回收服务（启用去重存储时生效）
+ * 先在单条语句中认领无引用的共享对象并标记为回收中，再在事务外删除MinIO对象，最后删除记录；
+ * 删除对象期间不持有行锁和数据库连接，回收中的对象不会被上传复用或重新写入
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "file-storage.deduplication", name = "enabled", havingValue = "true")
+public class FileBlobCollector {
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final DeduplicationProperties properties;
+
+    /**
+     * 回收一批宽限期外的无引用对象，删除失败的对象取消认领，下次重试
+     */
+    @Scheduled(fixedDelayString = "#{@deduplicationProperties.collectInterval.toMillis()}")
+    public void collect() {
+        List<FileBlob> claimed = fileBlobRepository.claimUnreferenced(properties.getGrace(), properties.getBatchSize(),
+            properties.getClaimTimeout());
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Set<FileBlob> failed = new HashSet<>(fileStorageService.deleteBlobs(claimed));
+        List<FileBlob> collected = claimed.stream()
+            .filter(blob -> !failed.contains(blob))
+            .toList();
+        fileBlobRepository.deleteAll(collected);
+        fileBlobRepository.releaseClaims(List.copyOf(failed));
+
+        log.info("共享对象回收完成: collected={}, failed={}", collected.size(), failed.size());
+    }
+}
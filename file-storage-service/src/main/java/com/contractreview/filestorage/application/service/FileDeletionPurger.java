@@ -0,0 +1,97 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 已删除文件清理服务
+ * 认领一批已标记删除的记录后批量删除对象，再物理删除记录；对象删除失败的记录按指数退避重试。
+ * 多个实例同时清理时各自认领不同的记录，认领租约过期前不会被其他实例取到
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+public class FileDeletionPurger {
+
+    private final FileResourceRepository fileResourceRepository;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionProperties properties;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter purgedCounter;
+    private final Counter failedCounter;
+
+    public FileDeletionPurger(FileResourceRepository fileResourceRepository,
+                              FileStorageService fileStorageService,
+                              FileDeletionProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.fileResourceRepository = fileResourceRepository;
+        this.fileStorageService = fileStorageService;
+        this.properties = properties;
+        Gauge.builder("file.delete.queue.depth", queueDepth, AtomicLong::get)
+            .description("等待清理的已删除文件数")
+            .register(meterRegistry);
+        this.purgedCounter = Counter.builder("file.delete.purged")
+            .description("已清理的已删除文件数")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("file.delete.failed")
+            .description("对象删除失败、等待重试的次数")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 清理删除队列
+     */
+    @Scheduled(fixedDelayString = "#{@fileDeletionProperties.purgeInterval.toMillis()}")
+    public void purge() {
+        int purged = 0;
+        int failed = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<FileResource> purgeable = fileResourceRepository.claimPurgeable(properties.getBatchSize(),
+                properties.getClaimTimeout());
+            if (purgeable.isEmpty()) {
+                break;
+            }
+
+            Set<FileResource> failedResources = Collections.newSetFromMap(new IdentityHashMap<>());
+            failedResources.addAll(fileStorageService.deleteFiles(purgeable));
+            List<FileResource> removed = purgeable.stream()
+                .filter(resource -> !failedResources.contains(resource))
+                .toList();
+
+            int removedCount = fileResourceRepository.purgeDeleted(removed);
+            fileResourceRepository.deferPurge(List.copyOf(failedResources),
+                properties.getInitialBackoff(), properties.getMaxBackoff());
+
+            purgedCounter.increment(removedCount);
+            failedCounter.increment(failedResources.size());
+            purged += removedCount;
+            failed += failedResources.size();
+
+            // 本批记录已认领（失败的记录已推迟重试时间），不会在下一批中重复出现
+            if (purgeable.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+
+        queueDepth.set(fileResourceRepository.countDeleted());
+        if (purged > 0 || failed > 0) {
+            log.info("删除队列清理完成: purged={}, failed={}, remaining={}", purged, failed, queueDepth.get());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileEvent;
+import com.contractreview.filestorage.domain.repository.FileEventRepository;
+import com.contractreview.filestorage.infrastructure.config.FileEventProperties;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileEventPageResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileEventResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 文件变更事件应用服务
+ * 提供分页拉取和SSE推送两种消费方式，两者共用以事件ID为游标的续传语义
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileEventService {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final FileEventRepository fileEventRepository;
+    private final FileEventProperties eventProperties;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 分页拉取事件
+     *
+     * @param after 上次返回的nextCursor，为空时从最早的事件开始
+     */
+    public FileEventPageResponse listEvents(Long after, String bucketName, Integer limit) {
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException("游标不能为负数");
+        }
+        int pageSize = resolvePageSize(limit);
+        long cursor = after != null ? after : 0L;
+
+        // 多取一条用于判断是否还有下一页
+        List<FileEvent> events = fileEventRepository.findAfter(
+            cursor, StringUtils.trimToNull(bucketName), eventProperties.getSettleDelay(), pageSize + 1);
+
+        boolean hasMore = events.size() > pageSize;
+        List<FileEvent> page = hasMore ? events.subList(0, pageSize) : events;
+        long nextCursor = page.isEmpty() ? cursor : page.get(page.size() - 1).getId();
+
+        return FileEventPageResponse.builder()
+            .items(page.stream().map(this::toFileEventResponse).toList())
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * 订阅事件流
+     *
+     * @param after 起始游标（不包含），为空时只接收订阅之后的新事件
+     */
+    public SseEmitter subscribe(Long after, String bucketName) {
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException("游标不能为负数");
+        }
+        long cursor = after != null ? after : fileEventRepository.findLatestId();
+
+        SseEmitter emitter = new SseEmitter(eventProperties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(StringUtils.trimToNull(bucketName), cursor);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.put(emitter, subscriber);
+
+        log.info("新增事件订阅: bucket={}, cursor={}, subscribers={}", bucketName, cursor, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 从所有订阅者中最小的游标开始读取一次事件，再按各自游标和存储桶分发
+     */
+    @Scheduled(fixedDelayString = "#{@fileEventProperties.pollInterval.toMillis()}")
+    public void dispatchEvents() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        long minCursor = subscribers.values().stream().mapToLong(Subscriber::getCursor).min().orElse(0L);
+        while (!subscribers.isEmpty()) {
+            List<FileEvent> events = fileEventRepository.findAfter(
+                minCursor, null, eventProperties.getSettleDelay(), eventProperties.getBatchSize());
+            if (events.isEmpty()) {
+                return;
+            }
+            subscribers.forEach((emitter, subscriber) -> deliver(emitter, subscriber, events));
+            if (events.size() < eventProperties.getBatchSize()) {
+                return;
+            }
+            minCursor = events.get(events.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 发送心跳注释，及时发现已断开的连接
+     */
+    @Scheduled(fixedDelayString = "#{@fileEventProperties.heartbeatInterval.toMillis()}")
+    public void sendHeartbeats() {
+        subscribers.forEach((emitter, subscriber) -> {
+            subscriber.getLock().lock();
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(e);
+            } finally {
+                subscriber.getLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 清理过期事件
+     */
+    @Scheduled(cron = "${file-storage.events.purge-cron:0 30 3 * * *}")
+    public void purgeExpiredEvents() {
+        int deleted = fileEventRepository.deleteOlderThan(eventProperties.getRetention());
+        if (deleted > 0) {
+            log.info("已清理过期文件事件: {} 条", deleted);
+        }
+    }
+
+    private void deliver(SseEmitter emitter, Subscriber subscriber, List<FileEvent> events) {
+        subscriber.getLock().lock();
+        try {
+            for (FileEvent event : events) {
+                if (event.getId() <= subscriber.getCursor()) {
+                    continue;
+                }
+                if (subscriber.getBucketName() == null || subscriber.getBucketName().equals(event.getBucketName())) {
+                    emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getId()))
+                        .name(event.getEventType().name())
+                        .data(toFileEventResponse(event), MediaType.APPLICATION_JSON));
+                }
+                subscriber.setCursor(event.getId());
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("事件订阅连接已断开: cursor={}", subscriber.getCursor());
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        } finally {
+            subscriber.getLock().unlock();
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("每页数量必须在1-" + MAX_PAGE_SIZE + "之间");
+        }
+        return limit;
+    }
+
+    private FileEventResponse toFileEventResponse(FileEvent event) {
+        return FileEventResponse.builder()
+            .id(event.getId())
+            .eventType(event.getEventType().name())
+            .uuid(event.getAttachmentUuid())
+            .bucketName(event.getBucketName())
+            .fileUrl(event.getFileUrl())
+            .fileName(event.getFileName())
+            .fileSize(event.getFileSize())
+            .sourceType(event.getSourceType())
+            .createdTime(event.getCreatedTime())
+            .build();
+    }
+
+    /**
+     * SSE订阅者状态
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Subscriber {
+
+        private final String bucketName;
+
+        @Setter
+        private volatile long cursor;
+
+        /**
+         * 串行化同一连接上的推送和心跳；send会阻塞在网络写上，
+         * 使用ReentrantLock而非synchronized，避免虚拟线程模式下钉住载体线程
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+}
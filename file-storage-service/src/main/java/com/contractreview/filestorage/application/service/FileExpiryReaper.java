@@ -0,0 +1,81 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.contractreview.filestorage.infrastructure.concurrency.ConcurrencyLimiters;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.config.FileExpiryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 过期文件清理服务
+ * 按过期时间索引分批锁定到期记录并标记为已删除，对象和记录由删除队列（{@link FileDeletionPurger}）批量清理。
+ * 每次任务处理的批数有上限，元数据请求繁忙时提前结束，积压的到期文件在后续间隔内逐步清理
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+public class FileExpiryReaper {
+
+    private final FileResourceRepository fileResourceRepository;
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final FileExpiryProperties properties;
+    private final Counter expiredCounter;
+
+    public FileExpiryReaper(FileResourceRepository fileResourceRepository,
+                            ConcurrencyLimiters concurrencyLimiters,
+                            FileExpiryProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.fileResourceRepository = fileResourceRepository;
+        this.concurrencyLimiters = concurrencyLimiters;
+        this.properties = properties;
+        this.expiredCounter = Counter.builder("file.expiry.expired")
+            .description("已到期并标记删除的文件数")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 清理到期文件
+     */
+    @Scheduled(fixedDelayString = "#{@fileExpiryProperties.sweepInterval.toMillis()}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            if (isForegroundBusy()) {
+                log.debug("元数据请求繁忙，暂停过期清理: expired={}", expired);
+                break;
+            }
+            List<FileResource> expiredBatch = fileResourceRepository.expire(now, properties.getBatchSize());
+            expiredCounter.increment(expiredBatch.size());
+            expired += expiredBatch.size();
+            if (expiredBatch.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (expired > 0) {
+            log.info("过期文件清理完成: expired={}", expired);
+        }
+    }
+
+    private boolean isForegroundBusy() {
+        if (!concurrencyLimiters.isEnabled()) {
+            return false;
+        }
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.get(RequestLane.METADATA);
+        return limiter.getInFlight() >= limiter.getLimit() * properties.getBusyThreshold();
+    }
+}
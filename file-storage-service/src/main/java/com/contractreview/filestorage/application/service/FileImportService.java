@@ -0,0 +1,247 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportCheckpoint;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportSkip;
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
+import com.contractreview.filestorage.domain.repository.FileImportRepository;
+import com.contractreview.filestorage.domain.service.BucketNameValidator;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileImportProperties;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileImportResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 存储桶元数据导入应用服务
+ * 按 yyyy/MM/dd/ 日期前缀切分任务并行扫描MinIO，每批通过COPY写入并推进检查点，中断后可从检查点续传；
+ * 不符合对象键布局的对象连同原因记录在导入进度中。同一存储桶的导入由数据库导入锁在所有实例间互斥
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+public class FileImportService {
+
+    public static final String SOURCE_TYPE = "MINIO_IMPORT";
+
+    private static final int DATE_PREFIX_DEPTH = 3;
+    private static final Pattern PREFIX_PATTERN = Pattern.compile("^(\\d{4}/(\\d{2}/(\\d{2}/)?)?)?$");
+
+    private final FileStorageService fileStorageService;
+    private final FileImportRepository fileImportRepository;
+    private final FileImportProperties importProperties;
+    private final ThreadPoolTaskExecutor importExecutor;
+
+    /**
+     * 本实例正在运行的导入任务；跨实例的互斥由导入锁保证
+     */
+    private final Map<String, CompletableFuture<Void>> runningImports = new ConcurrentHashMap<>();
+
+    public FileImportService(FileStorageService fileStorageService,
+                             FileImportRepository fileImportRepository,
+                             FileImportProperties importProperties,
+                             @Qualifier("fileImportExecutor") ThreadPoolTaskExecutor importExecutor) {
+        this.fileStorageService = fileStorageService;
+        this.fileImportRepository = fileImportRepository;
+        this.importProperties = importProperties;
+        this.importExecutor = importExecutor;
+    }
+
+    /**
+     * 启动存储桶导入任务（异步执行）
+     *
+     * @param prefix 限定导入范围的日期前缀，如 2024/ 或 2024/09/，为空时导入整个存储桶
+     */
+    public FileImportResponse startImport(String bucketName, String prefix) {
+        validateBucketName(bucketName);
+        String normalizedPrefix = normalizePrefix(prefix);
+
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        CompletableFuture<Void> existing = runningImports.putIfAbsent(bucketName, job);
+        if (existing != null) {
+            throw new IllegalStateException("存储桶已有导入任务正在运行：" + bucketName);
+        }
+
+        FileImportRepository.ImportLock lock = null;
+        try {
+            lock = fileImportRepository.tryLock(bucketName)
+                .orElseThrow(() -> new IllegalStateException("存储桶已有导入任务在其他实例运行：" + bucketName));
+
+            List<String> datePrefixes = resolveDatePrefixes(bucketName, normalizedPrefix);
+            log.info("开始导入存储桶元数据: bucket={}, prefix={}, datePrefixes={}",
+                bucketName, normalizedPrefix, datePrefixes.size());
+
+            CompletableFuture<?>[] tasks = datePrefixes.stream()
+                .map(datePrefix -> CompletableFuture.runAsync(
+                    () -> importDatePrefix(bucketName, datePrefix), importExecutor))
+                .toArray(CompletableFuture[]::new);
+
+            FileImportRepository.ImportLock heldLock = lock;
+            CompletableFuture.allOf(tasks).whenComplete((result, ex) -> {
+                heldLock.close();
+                runningImports.remove(bucketName, job);
+                if (ex != null) {
+                    log.error("存储桶元数据导入失败，可重新发起以从检查点续传: bucket={}", bucketName, ex);
+                    job.completeExceptionally(ex);
+                } else {
+                    log.info("存储桶元数据导入完成: bucket={}", bucketName);
+                    job.complete(null);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (lock != null) {
+                lock.close();
+            }
+            runningImports.remove(bucketName, job);
+            throw e;
+        }
+
+        return getImportStatus(bucketName);
+    }
+
+    /**
+     * 查询存储桶导入进度
+     */
+    public FileImportResponse getImportStatus(String bucketName) {
+        validateBucketName(bucketName);
+        List<FileImportCheckpoint> checkpoints = fileImportRepository.findCheckpoints(bucketName);
+
+        List<FileImportResponse.PrefixProgress> prefixes = checkpoints.stream()
+            .map(checkpoint -> FileImportResponse.PrefixProgress.builder()
+                .datePrefix(checkpoint.getDatePrefix())
+                .lastObjectKey(checkpoint.getLastObjectKey())
+                .importedCount(checkpoint.getImportedCount())
+                .skippedCount(checkpoint.getSkippedCount())
+                .completed(checkpoint.isCompleted())
+                .updatedTime(checkpoint.getUpdatedTime())
+                .build())
+            .toList();
+
+        return FileImportResponse.builder()
+            .bucketName(bucketName)
+            .running(runningImports.containsKey(bucketName) || fileImportRepository.isLocked(bucketName))
+            .importedCount(checkpoints.stream().mapToLong(FileImportCheckpoint::getImportedCount).sum())
+            .skippedCount(checkpoints.stream().mapToLong(FileImportCheckpoint::getSkippedCount).sum())
+            .completedPrefixes((int) checkpoints.stream().filter(FileImportCheckpoint::isCompleted).count())
+            .totalPrefixes(checkpoints.size())
+            .prefixes(prefixes)
+            .skippedObjects(fileImportRepository.findSkipped(bucketName, importProperties.getSkippedReportLimit())
+                .stream()
+                .map(skip -> FileImportResponse.SkippedObject.builder()
+                    .objectKey(skip.getObjectKey())
+                    .reason(skip.getReason())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    /**
+     * 导入单个日期前缀下的全部对象
+     */
+    private void importDatePrefix(String bucketName, String datePrefix) {
+        Optional<FileImportCheckpoint> checkpoint = fileImportRepository.findCheckpoint(bucketName, datePrefix);
+        if (checkpoint.isPresent() && checkpoint.get().isCompleted()) {
+            log.debug("日期前缀已导入，跳过: bucket={}, prefix={}", bucketName, datePrefix);
+            return;
+        }
+
+        String startAfter = checkpoint.map(FileImportCheckpoint::getLastObjectKey).orElse(null);
+        List<FileResource> batch = new ArrayList<>(importProperties.getBatchSize());
+        List<FileImportSkip> skipped = new ArrayList<>();
+
+        while (true) {
+            List<StoredObject> objects = fileStorageService.listObjects(
+                bucketName, datePrefix, startAfter, importProperties.getListPageSize());
+            boolean exhausted = objects.size() < importProperties.getListPageSize();
+
+            for (StoredObject object : objects) {
+                try {
+                    batch.add(toFileResource(bucketName, object));
+                } catch (IllegalArgumentException e) {
+                    log.debug("跳过无法识别的对象: bucket={}, key={}, reason={}",
+                        bucketName, object.getObjectKey(), e.getMessage());
+                    skipped.add(FileImportSkip.of(object.getObjectKey(),
+                        StringUtils.defaultIfBlank(e.getMessage(), "对象元数据无效")));
+                }
+            }
+            if (!objects.isEmpty()) {
+                startAfter = objects.get(objects.size() - 1).getObjectKey();
+            }
+
+            if (exhausted || batch.size() >= importProperties.getBatchSize()) {
+                int inserted = fileImportRepository.importBatch(
+                    bucketName, datePrefix, batch, startAfter, skipped, exhausted);
+                log.debug("导入批次完成: bucket={}, prefix={}, inserted={}, skipped={}, lastKey={}",
+                    bucketName, datePrefix, inserted, skipped.size(), startAfter);
+                batch.clear();
+                skipped = new ArrayList<>();
+            }
+            if (exhausted) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 将对象转换为文件资源
+     *
+     * @throws IllegalArgumentException 对象键不符合 yyyy/MM/dd/{uuid}/{fileName} 布局或元数据无效，异常信息为跳过原因
+     */
+    private FileResource toFileResource(String bucketName, StoredObject object) {
+        String fileName = StringUtils.substringAfterLast(object.getObjectKey(), "/");
+        String fileType = MediaTypeFactory.getMediaType(fileName)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString();
+        return FileResource.fromObjectKey(bucketName, object.getObjectKey(), object.getSize(),
+            fileType, object.getLastModified(), SOURCE_TYPE);
+    }
+
+    /**
+     * 将请求前缀展开到日期粒度（yyyy/MM/dd/）
+     */
+    private List<String> resolveDatePrefixes(String bucketName, String prefix) {
+        List<String> current = List.of(prefix);
+        int depth = StringUtils.countMatches(prefix, '/');
+        while (depth < DATE_PREFIX_DEPTH) {
+            List<String> next = new ArrayList<>();
+            for (String parent : current) {
+                next.addAll(fileStorageService.listPrefixes(bucketName, parent));
+            }
+            current = next;
+            depth++;
+        }
+        return current;
+    }
+
+    private void validateBucketName(String bucketName) {
+        BucketNameValidator.ValidationResult result = BucketNameValidator.validate(bucketName);
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getMessage());
+        }
+    }
+
+    private String normalizePrefix(String prefix) {
+        String normalized = StringUtils.strip(StringUtils.trimToEmpty(prefix), "/");
+        if (!normalized.isEmpty()) {
+            normalized = normalized + "/";
+        }
+        if (!PREFIX_PATTERN.matcher(normalized).matches()) {
+            throw new IllegalArgumentException("前缀必须为 yyyy/、yyyy/MM/ 或 yyyy/MM/dd/ 格式：" + prefix);
+        }
+        return normalized;
+    }
+}
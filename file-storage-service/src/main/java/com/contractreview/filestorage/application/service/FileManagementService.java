@@ -0,0 +1,233 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.FileCursor;
+import com.contractreview.filestorage.domain.repository.BucketStats;
+import com.contractreview.filestorage.domain.repository.FileExportQuery;
+import com.contractreview.filestorage.domain.repository.FileExportRepository;
+import com.contractreview.filestorage.domain.repository.FileListQuery;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSearchQuery;
+import com.contractreview.filestorage.domain.repository.FileSearchRepository;
+import com.contractreview.filestorage.domain.repository.FileStats;
+import com.contractreview.filestorage.domain.repository.FileStatsRepository;
+import com.contractreview.filestorage.interfaces.rest.dto.response.BucketStatsResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.DailyStatsResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FilePageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文件管理应用服务
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileManagementService {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final int DEFAULT_STATS_DAYS = 30;
+    private static final int MAX_STATS_DAYS = 366;
+
+    private final FileResourceRepository fileResourceRepository;
+    private final FileExportRepository fileExportRepository;
+    private final FileSearchRepository fileSearchRepository;
+    private final FileStatsRepository fileStatsRepository;
+
+    /**
+     * 按存储桶、来源和创建时间范围分页列出文件
+     */
+    public FilePageResponse listFiles(String bucketName, String sourceType, LocalDateTime createdFrom,
+                                      LocalDateTime createdTo, String cursor, Integer limit) {
+        if (StringUtils.isBlank(bucketName)) {
+            throw new IllegalArgumentException("存储桶名称不能为空");
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("开始时间必须早于结束时间");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        // 多取一条用于判断是否还有下一页
+        FileListQuery query = FileListQuery.builder()
+            .bucketName(bucketName)
+            .sourceType(StringUtils.trimToNull(sourceType))
+            .createdFrom(createdFrom)
+            .createdTo(createdTo)
+            .after(StringUtils.isNotBlank(cursor) ? FileCursor.decode(cursor) : null)
+            .limit(pageSize + 1)
+            .build();
+        List<FileResource> resources = fileResourceRepository.findPage(query);
+
+        boolean hasMore = resources.size() > pageSize;
+        List<FileResource> page = hasMore ? resources.subList(0, pageSize) : resources;
+
+        String nextCursor = null;
+        if (hasMore) {
+            FileResource last = page.get(page.size() - 1);
+            nextCursor = FileCursor.of(last.getMetadata().getCreatedTime(), last.getId()).encode();
+        }
+
+        return FilePageResponse.builder()
+            .items(page.stream().map(this::toFileInfoResponse).toList())
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * 按文件名、文件类型、存储桶和创建时间范围搜索文件，按创建时间倒序分页
+     */
+    public FilePageResponse searchFiles(String bucketName, String keyword, String fileType, LocalDateTime createdFrom,
+                                        LocalDateTime createdTo, String cursor, Integer limit) {
+        String trimmedKeyword = StringUtils.trimToNull(keyword);
+        String trimmedFileType = StringUtils.trimToNull(fileType);
+        if (StringUtils.length(trimmedKeyword) > MAX_KEYWORD_LENGTH
+                || StringUtils.length(trimmedFileType) > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("搜索关键字长度不能超过" + MAX_KEYWORD_LENGTH + "个字符");
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("开始时间必须早于结束时间");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        // 多取一条用于判断是否还有下一页
+        FileSearchQuery query = FileSearchQuery.builder()
+            .bucketName(StringUtils.trimToNull(bucketName))
+            .keyword(trimmedKeyword)
+            .fileType(trimmedFileType)
+            .createdFrom(createdFrom)
+            .createdTo(createdTo)
+            .before(StringUtils.isNotBlank(cursor) ? FileCursor.decode(cursor) : null)
+            .limit(pageSize + 1)
+            .build();
+        List<FileResource> resources = fileSearchRepository.search(query);
+
+        boolean hasMore = resources.size() > pageSize;
+        List<FileResource> page = hasMore ? resources.subList(0, pageSize) : resources;
+
+        String nextCursor = null;
+        if (hasMore) {
+            FileResource last = page.get(page.size() - 1);
+            nextCursor = FileCursor.of(last.getMetadata().getCreatedTime(), last.getId()).encode();
+        }
+
+        return FilePageResponse.builder()
+            .items(page.stream().map(this::toFileInfoResponse).toList())
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * 各存储桶的文件数和容量，读取汇总表，不扫描file表
+     */
+    public List<BucketStatsResponse> getBucketStats() {
+        return fileStatsRepository.findBucketStats().stream()
+            .map(this::toBucketStatsResponse)
+            .toList();
+    }
+
+    /**
+     * 存储桶按创建日期、扩展名和是否加密细分的统计，默认最近30天
+     */
+    public List<DailyStatsResponse> getDailyStats(String bucketName, LocalDate from, LocalDate to) {
+        if (StringUtils.isBlank(bucketName)) {
+            throw new IllegalArgumentException("存储桶名称不能为空");
+        }
+        LocalDate effectiveTo = to != null ? to : LocalDate.now().plusDays(1);
+        LocalDate effectiveFrom = from != null ? from : effectiveTo.minusDays(DEFAULT_STATS_DAYS);
+        if (!effectiveFrom.isBefore(effectiveTo)) {
+            throw new IllegalArgumentException("开始日期必须早于结束日期");
+        }
+        if (effectiveFrom.plusDays(MAX_STATS_DAYS).isBefore(effectiveTo)) {
+            throw new IllegalArgumentException("统计日期范围不能超过" + MAX_STATS_DAYS + "天");
+        }
+
+        return fileStatsRepository.findDailyStats(bucketName, effectiveFrom, effectiveTo).stream()
+            .map(this::toDailyStatsResponse)
+            .toList();
+    }
+
+    /**
+     * 构建导出条件（在开始写出响应前完成参数校验）
+     */
+    public FileExportQuery buildExportQuery(String format, Long afterId, LocalDateTime updatedSince) {
+        if (afterId != null && afterId < 0) {
+            throw new IllegalArgumentException("水位线ID不能为负数");
+        }
+        return FileExportQuery.builder()
+            .format(FileExportQuery.Format.fromValue(format))
+            .afterId(afterId)
+            .updatedSince(updatedSince)
+            .build();
+    }
+
+    /**
+     * 流式导出文件元数据
+     */
+    public long exportMetadata(FileExportQuery query, OutputStream outputStream) {
+        log.info("开始导出文件元数据: format={}, afterId={}, updatedSince={}",
+            query.getFormat(), query.getAfterId(), query.getUpdatedSince());
+        return fileExportRepository.export(query, outputStream);
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("每页数量必须在1-" + MAX_PAGE_SIZE + "之间");
+        }
+        return limit;
+    }
+
+    private BucketStatsResponse toBucketStatsResponse(BucketStats stats) {
+        return BucketStatsResponse.builder()
+            .bucketName(stats.getBucketName())
+            .fileCount(stats.getFileCount())
+            .totalBytes(stats.getTotalBytes())
+            .encryptedCount(stats.getEncryptedCount())
+            .encryptedBytes(stats.getEncryptedBytes())
+            .plainCount(stats.getFileCount() - stats.getEncryptedCount())
+            .plainBytes(stats.getTotalBytes() - stats.getEncryptedBytes())
+            .updatedTime(stats.getUpdatedTime())
+            .build();
+    }
+
+    private DailyStatsResponse toDailyStatsResponse(FileStats stats) {
+        return DailyStatsResponse.builder()
+            .statDate(stats.getStatDate())
+            .fileExtension(stats.getFileExtension())
+            .isEncrypted(stats.isEncrypted())
+            .fileCount(stats.getFileCount())
+            .totalBytes(stats.getTotalBytes())
+            .build();
+    }
+
+    private FileInfoResponse toFileInfoResponse(FileResource fileResource) {
+        return FileInfoResponse.builder()
+            .uuid(fileResource.getAttachmentUuid().getValue())
+            .fileUrl(fileResource.getFileUrl())
+            .fileName(fileResource.getMetadata().getFileName())
+            .fileSize(fileResource.getMetadata().getFileSize())
+            .fileType(fileResource.getMetadata().getFileType())
+            .bucketName(fileResource.getStorageLocation().getBucketName())
+            .directory(fileResource.getStorageLocation().getDirectory())
+            .isEncrypted(fileResource.requiresEncryption())
+            .createdTime(fileResource.getMetadata().getCreatedTime())
+            .updatedTime(fileResource.getMetadata().getUpdatedTime())
+            .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.repository.FilePartitionRepository;
+import com.contractreview.filestorage.infrastructure.config.FilePartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 文件元数据分区维护服务
+ * 启动时和每天定时预建未来月份的分区；配置保留月数时，将过期月份的分区整体从file表分离，
+ * 分离后的表由运维归档或删除，代替逐行删除。
+ * 各月份分区单独处理，某个月份等锁超时或失败不影响其他月份，等锁超时的操作按重试间隔再试
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FilePartitionMaintainer {
+
+    private final FilePartitionRepository filePartitionRepository;
+    private final FilePartitionProperties properties;
+
+    private volatile boolean retryPending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${file-storage.partition.maintenance-cron:0 0 2 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        List<YearMonth> existing;
+        try {
+            existing = filePartitionRepository.findPartitions();
+        } catch (Exception e) {
+            log.error("文件元数据分区维护失败", e);
+            return;
+        }
+        boolean deferred = false;
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                deferred |= !createPartition(month);
+            }
+        }
+        if (properties.getRetainMonths() > 0) {
+            deferred |= !detachExpired(existing, current.minusMonths(properties.getRetainMonths()));
+        }
+        retryPending = deferred;
+    }
+
+    /**
+     * 上次维护有分区因等锁超时未完成时，按重试间隔再执行一次维护
+     */
+    @Scheduled(fixedDelayString = "#{@filePartitionProperties.retryInterval.toMillis()}",
+               initialDelayString = "#{@filePartitionProperties.retryInterval.toMillis()}")
+    public void retryDeferred() {
+        if (retryPending) {
+            maintain();
+        }
+    }
+
+    /**
+     * @return 等锁超时未建立时返回false，稍后重试；其他失败只记录日志，不影响其余月份
+     */
+    private boolean createPartition(YearMonth month) {
+        try {
+            filePartitionRepository.createPartition(month);
+            log.info("已创建文件元数据分区: {}", month);
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("创建文件元数据分区等待表锁超时，稍后重试: {}", month);
+            return false;
+        } catch (Exception e) {
+            log.error("创建文件元数据分区失败: {}", month, e);
+        }
+        return true;
+    }
+
+    /**
+     * 分离早于保留期的分区；仍有未提交或待清理记录的分区暂不分离，避免遗留对象无法清理
+     *
+     * @return 有分区因等锁超时未分离时返回false
+     */
+    private boolean detachExpired(List<YearMonth> existing, YearMonth oldestRetained) {
+        boolean done = true;
+        for (YearMonth month : existing) {
+            if (!month.isBefore(oldestRetained)) {
+                break;
+            }
+            try {
+                if (filePartitionRepository.hasUncommitted(month)) {
+                    log.warn("分区仍有未提交或待清理的记录，暂不分离: {}", month);
+                    continue;
+                }
+                filePartitionRepository.detachPartition(month);
+                log.info("已分离过期文件元数据分区: {}", month);
+            } catch (PessimisticLockingFailureException e) {
+                log.warn("分离文件元数据分区等待表锁超时，稍后重试: {}", month);
+                done = false;
+            } catch (Exception e) {
+                log.error("分离文件元数据分区失败: {}", month, e);
+            }
+        }
+        return done;
+    }
+}
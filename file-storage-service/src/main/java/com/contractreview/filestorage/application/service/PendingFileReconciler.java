@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.PendingFileProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 未提交文件清理服务
+ * 上传和复制先写入待提交记录再传输对象，对象只会在存在未提交记录时产生，
+ * 因此按 放弃记录 → 删除对象 → 删除记录 的顺序清理，不会遗留孤立对象；
+ * 删除对象失败时记录保持已放弃状态，由定时任务重试
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PendingFileReconciler {
+
+    private final FileResourceRepository fileResourceRepository;
+    private final FileStorageService fileStorageService;
+    private final PendingFileProperties properties;
+
+    /**
+     * 放弃未提交的文件并清理已写入的对象；已提交的文件不受影响
+     */
+    public void discard(FileResource fileResource) {
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        try {
+            if (!fileResourceRepository.abandonPending(fileResource.getAttachmentUuid())) {
+                return;
+            }
+            fileStorageService.deleteFile(fileResource);
+            fileResourceRepository.deleteAbandoned(fileResource.getAttachmentUuid());
+            log.info("已清理未提交文件: uuid={}", uuid);
+        } catch (Exception e) {
+            log.warn("清理未提交文件失败，等待定时任务重试: uuid={}", uuid, e);
+        }
+    }
+
+    /**
+     * 清理超时未提交（如进程在传输中退出）和清理失败的记录
+     */
+    @Scheduled(fixedDelayString = "#{@pendingFileProperties.reconcileInterval.toMillis()}")
+    public void reconcile() {
+        LocalDateTime pendingBefore = LocalDateTime.now().minus(properties.getTimeout());
+        List<FileResource> stale = fileResourceRepository.findStaleUncommitted(pendingBefore, properties.getBatchSize());
+        for (FileResource fileResource : stale) {
+            discard(fileResource);
+        }
+        if (!stale.isEmpty()) {
+            log.info("未提交文件清理完成: {} 条", stale.size());
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.contractreview.filestorage.application.service;
 
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSummary;
 import com.contractreview.filestorage.domain.service.EncryptionService;
 import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * URL操作应用服务
@@ -28,12 +32,16 @@ public class UrlBasedFileService {
     private final FileResourceRepository fileResourceRepository;
     private final FileStorageService fileStorageService;
     private final EncryptionService encryptionService;
+    private final PendingFileReconciler pendingFileReconciler;
+    private final FileDeletionProperties fileDeletionProperties;
 
     /**
      * 通过URL上传文件
+     * 对象传输在事务之外进行，传输前后各只有一次短事务写入元数据；
+     * ttl为保存时长，为空时使用存储桶默认保存时长
      */
-    @Transactional
-    public FileUploadResponse uploadByUrl(MultipartFile file, String bucketName, String publicKey, boolean needPreview) {
+    public FileUploadResponse uploadByUrl(MultipartFile file, String bucketName, String publicKey, boolean needPreview,
+                                          Duration ttl) {
         // 验证参数
         validateUploadParams(file, bucketName);
         
@@ -52,27 +60,38 @@ public class UrlBasedFileService {
             "URL_UPLOAD",
             encrypted
         );
+        if (ttl != null) {
+            fileResource = fileResource.expiresAfter(ttl);
+        }
 
         // 验证文件可以上传
         fileResource.validateForUpload();
 
+        // 写入待提交记录，传输期间不占用数据库连接
+        FileResource pendingResource = fileResourceRepository.savePending(fileResource);
+
         try {
             // 存储文件
+            FileResource storedResource = pendingResource;
             if (encrypted) {
                 fileStorageService.storeEncryptedFile(fileResource, file, publicKey);
+            } else if (fileStorageService.isDeduplicationEnabled()) {
+                // 去重存储：存储桶内相同内容只保留一份共享对象，提交时记录内容哈希
+                storedResource = fileStorageService.storeDeduplicated(pendingResource, file, file.getSize(),
+                    file.getContentType());
             } else {
                 fileStorageService.storeFile(fileResource, file);
             }
 
-            // 保存元数据
-            FileResource savedResource = fileResourceRepository.save(fileResource);
+            // 提交元数据
+            FileResource savedResource = fileResourceRepository.commitPending(storedResource);
 
             log.info("文件上传成功: uuid={}, fileName={}, encrypted={}", 
                 savedResource.getAttachmentUuid().getValue(), 
                 savedResource.getMetadata().getFileName(),
                 encrypted);
 
-            String previewUrl = needPreview ? fileStorageService.generatePreviewUrl(fileResource, 3600) : savedResource.getFileUrl();
+            String previewUrl = needPreview ? fileStorageService.generatePreviewUrl(storedResource, 3600) : savedResource.getFileUrl();
 
             return FileUploadResponse.builder()
                 .uuid(savedResource.getAttachmentUuid().getValue())
@@ -81,10 +100,15 @@ public class UrlBasedFileService {
                 .fileSize(savedResource.getMetadata().getFileSize())
                 .fileType(savedResource.getMetadata().getFileType())
                 .isEncrypted(savedResource.requiresEncryption())
+                .expiresAt(savedResource.getExpiresAt())
                 .timestamp(LocalDateTime.now())
                 .build();
 
+        } catch (RejectedExecutionException e) {
+            pendingFileReconciler.discard(pendingResource);
+            throw e;
         } catch (Exception e) {
+            pendingFileReconciler.discard(pendingResource);
             log.error("文件上传失败: fileName={}", file.getOriginalFilename(), e);
             throw new RuntimeException("文件上传失败: " + e.getMessage(), e);
         }
@@ -115,6 +139,8 @@ public class UrlBasedFileService {
                 return fileStorageService.retrieveFile(fileResource);
             }
 
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (Exception e) {
             log.error("文件下载失败: fileUrl={}", fileUrl, e);
             throw new RuntimeException("文件下载失败: " + e.getMessage(), e);
@@ -125,20 +151,21 @@ public class UrlBasedFileService {
      * 通过URL查询文件信息
      */
     public FileInfoResponse queryByUrl(String fileUrl) {
-        FileResource fileResource = fileResourceRepository.findByFileUrl(fileUrl)
+        // 只读投影：不加载托管实体，也不重建领域对象
+        FileSummary summary = fileResourceRepository.findSummaryByFileUrl(fileUrl)
             .orElseThrow(() -> new IllegalArgumentException("文件不存在"));
 
         return FileInfoResponse.builder()
-            .uuid(fileResource.getAttachmentUuid().getValue())
-            .fileUrl(fileResource.getFileUrl())
-            .fileName(fileResource.getMetadata().getFileName())
-            .fileSize(fileResource.getMetadata().getFileSize())
-            .fileType(fileResource.getMetadata().getFileType())
-            .bucketName(fileResource.getStorageLocation().getBucketName())
-            .directory(fileResource.getStorageLocation().getDirectory())
-            .isEncrypted(fileResource.requiresEncryption())
-            .createdTime(fileResource.getMetadata().getCreatedTime())
-            .updatedTime(fileResource.getMetadata().getUpdatedTime())
+            .uuid(summary.getAttachmentUuid())
+            .fileUrl(summary.getFileUrl())
+            .fileName(summary.getFileName())
+            .fileSize(summary.getFileSize())
+            .fileType(summary.getFileType())
+            .bucketName(summary.getBucketName())
+            .directory(summary.getDirectory())
+            .isEncrypted(summary.getIsEncrypted())
+            .createdTime(summary.getCreatedTime())
+            .updatedTime(summary.getUpdatedTime())
             .build();
     }
 
@@ -151,11 +178,16 @@ public class UrlBasedFileService {
             .orElseThrow(() -> new IllegalArgumentException("文件不存在"));
 
         try {
-            // 从存储中删除文件
-            fileStorageService.deleteFile(fileResource);
+            if (fileDeletionProperties.isAsync()) {
+                // 标记删除后立即返回，对象由后台任务批量清理
+                fileResourceRepository.markDeleted(fileResource);
+            } else {
+                // 从存储中删除文件
+                fileStorageService.deleteFile(fileResource);
 
-            // 从数据库删除记录
-            fileResourceRepository.deleteByFileUrl(fileUrl);
+                // 从数据库删除记录
+                fileResourceRepository.deleteByFileUrl(fileUrl);
+            }
 
             log.info("文件删除成功: fileUrl={}, uuid={}", 
                 fileUrl, fileResource.getAttachmentUuid().getValue());
@@ -3,8 +3,10 @@ package com.contractreview.filestorage.application.service;
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
 import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSummary;
 import com.contractreview.filestorage.domain.service.FileStorageService;
 import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +16,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * UUID模式文件服务
@@ -30,12 +34,16 @@ public class UuidBasedFileService {
     private final FileStorageService fileStorageService;
     private final FileResourceRepository fileResourceRepository;
     private final EncryptionService encryptionService;
+    private final PendingFileReconciler pendingFileReconciler;
+    private final FileDeletionProperties fileDeletionProperties;
 
     /**
      * 通过UUID上传文件
+     * 对象传输在事务之外进行，传输前后各只有一次短事务写入元数据；
+     * ttl为保存时长，为空时使用存储桶默认保存时长
      */
-    @Transactional
-    public FileUploadResponse uploadByUuid(MultipartFile file, String bucketName, String privateKey, boolean needPreview) {
+    public FileUploadResponse uploadByUuid(MultipartFile file, String bucketName, String privateKey, boolean needPreview,
+                                           Duration ttl) {
         // 验证参数
         validateUploadParameters(file, bucketName);
         
@@ -54,20 +62,31 @@ public class UuidBasedFileService {
             "UUID_UPLOAD",
             encrypted
         );
+        if (ttl != null) {
+            fileResource = fileResource.expiresAfter(ttl);
+        }
 
         // 验证文件可以上传
         fileResource.validateForUpload();
 
+        // 写入待提交记录，传输期间不占用数据库连接
+        FileResource pendingResource = fileResourceRepository.savePending(fileResource);
+
         try {
             // 存储文件
+            FileResource storedResource = pendingResource;
             if (encrypted) {
                 fileStorageService.storeEncryptedFile(fileResource, file, privateKey);
+            } else if (fileStorageService.isDeduplicationEnabled()) {
+                // 去重存储：存储桶内相同内容只保留一份共享对象，提交时记录内容哈希
+                storedResource = fileStorageService.storeDeduplicated(pendingResource, file, file.getSize(),
+                    file.getContentType());
             } else {
                 fileStorageService.storeFile(fileResource, file);
             }
 
-            // 保存元数据
-            FileResource savedResource = fileResourceRepository.save(fileResource);
+            // 提交元数据
+            FileResource savedResource = fileResourceRepository.commitPending(storedResource);
 
             log.info("UUID文件上传成功: uuid={}, fileName={}, encrypted={}", 
                 savedResource.getAttachmentUuid().getValue(), 
@@ -78,7 +97,7 @@ public class UuidBasedFileService {
             String fileUrl;
             if (needPreview && !encrypted) {
                 // 非加密文件可以生成预览URL
-                fileUrl = fileStorageService.generatePreviewUrl(fileResource, 3600);
+                fileUrl = fileStorageService.generatePreviewUrl(storedResource, 3600);
             } else {
                 // 加密文件或不需要预览时返回文件UUID（用于后续通过UUID访问）
                 fileUrl = savedResource.getAttachmentUuid().getValue();
@@ -91,10 +110,15 @@ public class UuidBasedFileService {
                 .fileSize(savedResource.getMetadata().getFileSize())
                 .fileType(savedResource.getMetadata().getFileType())
                 .isEncrypted(savedResource.requiresEncryption())
+                .expiresAt(savedResource.getExpiresAt())
                 .timestamp(LocalDateTime.now())
                 .build();
 
+        } catch (RejectedExecutionException e) {
+            pendingFileReconciler.discard(pendingResource);
+            throw e;
         } catch (Exception e) {
+            pendingFileReconciler.discard(pendingResource);
             log.error("UUID文件上传失败: fileName={}", file.getOriginalFilename(), e);
             throw new RuntimeException("文件上传失败: " + e.getMessage(), e);
         }
@@ -128,6 +152,8 @@ public class UuidBasedFileService {
             log.info("UUID文件下载成功: uuid={}", fileUuid);
             return fileContent;
             
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (Exception e) {
             log.error("UUID文件下载失败: uuid={}", fileUuid, e);
             throw new RuntimeException("文件下载失败: " + e.getMessage(), e);
@@ -141,20 +167,21 @@ public class UuidBasedFileService {
         validateUuidParameter(fileUuid);
         
         try {
-            FileResource fileResource = fileResourceRepository.findByFileUuid(fileUuid)
+            // 只读投影：不加载托管实体，也不重建领域对象
+            FileSummary summary = fileResourceRepository.findSummaryByUuid(fileUuid)
                 .orElseThrow(() -> new IllegalArgumentException("文件不存在: " + fileUuid));
             
             return FileInfoResponse.builder()
-                .uuid(fileResource.getAttachmentUuid().getValue())
-                .fileUrl(fileResource.getAttachmentUuid().getValue()) // UUID模式下使用UUID作为标识
-                .fileName(fileResource.getMetadata().getFileName())
-                .fileSize(fileResource.getMetadata().getFileSize())
-                .fileType(fileResource.getMetadata().getFileType())
-                .bucketName(fileResource.getStorageLocation().getBucketName())
-                .directory(fileResource.getStorageLocation().getDirectory())
-                .isEncrypted(fileResource.getEncryptionMetadata().getIsEncrypted())
-                .createdTime(fileResource.getMetadata().getCreatedTime())
-                .updatedTime(fileResource.getMetadata().getUpdatedTime())
+                .uuid(summary.getAttachmentUuid())
+                .fileUrl(summary.getAttachmentUuid()) // UUID模式下使用UUID作为标识
+                .fileName(summary.getFileName())
+                .fileSize(summary.getFileSize())
+                .fileType(summary.getFileType())
+                .bucketName(summary.getBucketName())
+                .directory(summary.getDirectory())
+                .isEncrypted(summary.getIsEncrypted())
+                .createdTime(summary.getCreatedTime())
+                .updatedTime(summary.getUpdatedTime())
                 .build();
             
         } catch (Exception e) {
@@ -175,12 +202,17 @@ public class UuidBasedFileService {
             FileResource fileResource = fileResourceRepository.findByFileUuid(fileUuid)
                 .orElseThrow(() -> new IllegalArgumentException("文件不存在: " + fileUuid));
             
-            // 从MinIO删除文件
-            fileStorageService.deleteFile(fileResource);
-            
-            // 从数据库删除记录
-            AttachmentUuid uuid = AttachmentUuid.of(fileUuid);
-            fileResourceRepository.deleteByUuid(uuid);
+            if (fileDeletionProperties.isAsync()) {
+                // 标记删除后立即返回，对象由后台任务批量清理
+                fileResourceRepository.markDeleted(fileResource);
+            } else {
+                // 从MinIO删除文件
+                fileStorageService.deleteFile(fileResource);
+
+                // 从数据库删除记录
+                AttachmentUuid uuid = AttachmentUuid.of(fileUuid);
+                fileResourceRepository.deleteByUuid(uuid);
+            }
             
             log.info("UUID文件删除成功: uuid={}", fileUuid);
             
@@ -190,6 +222,51 @@ public class UuidBasedFileService {
         }
     }
 
+    /**
+     * 通过UUID复制文件（MinIO服务端复制，支持跨存储桶）
+     * 与上传相同，复制在事务之外进行
+     */
+    public FileUploadResponse copyByUuid(String fileUuid, String targetBucketName) {
+        validateUuidParameter(fileUuid);
+
+        FileResource source = fileResourceRepository.findByFileUuid(fileUuid)
+            .orElseThrow(() -> new IllegalArgumentException("文件不存在: " + fileUuid));
+        source.validateForAccess();
+
+        String bucketName = StringUtils.isNotBlank(targetBucketName)
+            ? targetBucketName
+            : source.getStorageLocation().getBucketName();
+        FileResource copy = source.copyTo(bucketName, "FILE_COPY");
+
+        FileResource pendingCopy = fileResourceRepository.savePending(copy);
+
+        try {
+            fileStorageService.copyFile(source, copy);
+
+            FileResource savedResource = fileResourceRepository.commitPending(pendingCopy);
+
+            log.info("UUID文件复制成功: sourceUuid={}, uuid={}, bucket={}",
+                fileUuid, savedResource.getAttachmentUuid().getValue(), bucketName);
+
+            return FileUploadResponse.builder()
+                .uuid(savedResource.getAttachmentUuid().getValue())
+                .fileUrl(savedResource.getAttachmentUuid().getValue())
+                .fileName(savedResource.getMetadata().getFileName())
+                .fileSize(savedResource.getMetadata().getFileSize())
+                .fileType(savedResource.getMetadata().getFileType())
+                .isEncrypted(savedResource.requiresEncryption())
+                .expiresAt(savedResource.getExpiresAt())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        } catch (Exception e) {
+            // 复制或提交失败时清理已复制的对象，清理失败由定时任务重试，避免产生孤立文件
+            pendingFileReconciler.discard(pendingCopy);
+            log.error("UUID文件复制失败: uuid={}, targetBucket={}", fileUuid, bucketName, e);
+            throw new RuntimeException("文件复制失败: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 生成UUID文件的预览URL
      */
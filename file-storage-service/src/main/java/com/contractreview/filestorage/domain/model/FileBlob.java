@@ -0,0 +1,16 @@
+package com.contractreview.filestorage.domain.model;
+
+import lombok.Value;
+
+/**
+ * 内容寻址共享对象
+ * 存储桶内按内容哈希唯一，多条文件记录可引用同一对象
+ * 
+ * @author ContractReview Team
+ */
+@Value(staticConstructor = "of")
+public class FileBlob {
+
+    String bucketName;
+    String contentHash;
+}
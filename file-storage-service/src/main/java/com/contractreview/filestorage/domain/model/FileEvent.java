@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件变更事件（只追加的事件日志条目）
+ * 
+ * @author ContractReview Team
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FileEvent {
+
+    /**
+     * 事件类型
+     */
+    public enum EventType {
+        UPLOADED,
+        COPIED,
+        DELETED
+    }
+
+    private Long id;
+    private EventType eventType;
+    private String attachmentUuid;
+    private String bucketName;
+    private String fileUrl;
+    private String fileName;
+    private Long fileSize;
+    private String sourceType;
+    private LocalDateTime createdTime;
+
+    /**
+     * 根据文件资源创建事件
+     */
+    public static FileEvent of(EventType eventType, FileResource fileResource) {
+        return new FileEvent(
+            null,
+            eventType,
+            fileResource.getAttachmentUuid().getValue(),
+            fileResource.getStorageLocation().getBucketName(),
+            fileResource.getFileUrl(),
+            fileResource.getMetadata().getFileName(),
+            fileResource.getMetadata().getFileSize(),
+            fileResource.getSourceType(),
+            null
+        );
+    }
+
+    /**
+     * 从现有数据重建事件
+     */
+    public static FileEvent rebuild(Long id, EventType eventType, String attachmentUuid, String bucketName,
+                                    String fileUrl, String fileName, Long fileSize, String sourceType,
+                                    LocalDateTime createdTime) {
+        return new FileEvent(id, eventType, attachmentUuid, bucketName, fileUrl, fileName,
+            fileSize, sourceType, createdTime);
+    }
+}
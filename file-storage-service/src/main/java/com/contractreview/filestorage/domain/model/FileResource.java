@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 /**
  * 文件资源聚合根
  * 
@@ -14,6 +17,9 @@ import lombok.Getter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class FileResource {
 
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+    private static final Duration MAX_TTL = Duration.ofDays(3650);
+
     private Long id;
     private AttachmentUuid attachmentUuid;
     private FileMetadata metadata;
@@ -21,6 +27,16 @@ public class FileResource {
     private EncryptionMetadata encryptionMetadata;
     private String sourceType;
 
+    /**
+     * 内容哈希（SHA-256），非空时内容存储在存储桶内按哈希共享的对象中
+     */
+    private String contentHash;
+
+    /**
+     * 过期时间，为空表示永久保存；到期后由生命周期任务删除
+     */
+    private LocalDateTime expiresAt;
+
     /**
      * 创建新的文件资源
      */
@@ -31,7 +47,42 @@ public class FileResource {
         StorageLocation location = StorageLocation.generateFromUuid(bucketName, uuid, fileName);
         EncryptionMetadata encryption = encrypted ? EncryptionMetadata.encrypted() : EncryptionMetadata.unencrypted();
         
-        return new FileResource(null, uuid, metadata, location, encryption, sourceType);
+        return new FileResource(null, uuid, metadata, location, encryption, sourceType, null, null);
+    }
+
+    /**
+     * 复制为新的文件资源（分配新的UUID和存储位置，保留内容相关元数据）
+     * 同一存储桶内复制去重存储的文件时，副本直接引用同一共享对象
+     */
+    public FileResource copyTo(String targetBucketName, String targetSourceType) {
+        AttachmentUuid uuid = AttachmentUuid.generate();
+        FileMetadata copiedMetadata = FileMetadata.of(metadata.getFileName(), metadata.getFileType(), metadata.getFileSize());
+        StorageLocation location = StorageLocation.generateFromUuid(targetBucketName, uuid, metadata.getFileName());
+        String sharedHash = targetBucketName.equals(storageLocation.getBucketName()) ? contentHash : null;
+
+        return new FileResource(null, uuid, copiedMetadata, location, encryptionMetadata, targetSourceType, sharedHash,
+            null);
+    }
+
+    /**
+     * 根据已存在的存储对象还原文件资源
+     * 对象键必须符合 {@link StorageLocation#generateFromUuid} 生成的 yyyy/MM/dd/{uuid}/{fileName} 布局
+     */
+    public static FileResource fromObjectKey(String bucketName, String objectKey, Long fileSize, String fileType,
+                                             LocalDateTime createdTime, String sourceType) {
+        String[] segments = objectKey.split("/");
+        if (segments.length != 5) {
+            throw new IllegalArgumentException("对象键不符合 yyyy/MM/dd/{uuid}/{fileName} 格式：" + objectKey);
+        }
+        AttachmentUuid uuid = AttachmentUuid.of(segments[3]);
+        String fileName = segments[4];
+        StorageLocation location = StorageLocation.generateFromUuid(bucketName, uuid, fileName);
+        if (!location.getObjectKey(fileName).equals(objectKey)) {
+            throw new IllegalArgumentException("对象键日期目录与UUID时间戳不一致：" + objectKey);
+        }
+        FileMetadata metadata = FileMetadata.of(fileName, fileType, fileSize, createdTime, createdTime);
+
+        return new FileResource(null, uuid, metadata, location, EncryptionMetadata.unencrypted(), sourceType, null, null);
     }
 
     /**
@@ -39,7 +90,37 @@ public class FileResource {
      */
     public static FileResource rebuild(Long id, AttachmentUuid uuid, FileMetadata metadata, 
                                      StorageLocation location, EncryptionMetadata encryption, String sourceType) {
-        return new FileResource(id, uuid, metadata, location, encryption, sourceType);
+        return new FileResource(id, uuid, metadata, location, encryption, sourceType, null, null);
+    }
+
+    /**
+     * 从现有数据重建文件资源（含内容哈希）
+     */
+    public static FileResource rebuild(Long id, AttachmentUuid uuid, FileMetadata metadata, StorageLocation location,
+                                     EncryptionMetadata encryption, String sourceType, String contentHash) {
+        return new FileResource(id, uuid, metadata, location, encryption, sourceType, contentHash, null);
+    }
+
+    /**
+     * 从现有数据重建文件资源（含内容哈希和过期时间）
+     */
+    public static FileResource rebuild(Long id, AttachmentUuid uuid, FileMetadata metadata, StorageLocation location,
+                                     EncryptionMetadata encryption, String sourceType, String contentHash,
+                                     LocalDateTime expiresAt) {
+        return new FileResource(id, uuid, metadata, location, encryption, sourceType, contentHash, expiresAt);
+    }
+
+    /**
+     * 设置保存时长（从创建时间起计算）
+     *
+     * @throws IllegalArgumentException 时长不在1分钟到10年之间
+     */
+    public FileResource expiresAfter(Duration ttl) {
+        if (ttl.compareTo(MIN_TTL) < 0 || ttl.compareTo(MAX_TTL) > 0) {
+            throw new IllegalArgumentException("文件保存时长必须在1分钟到3650天之间");
+        }
+        return new FileResource(id, attachmentUuid, metadata, storageLocation, encryptionMetadata, sourceType,
+            contentHash, metadata.getCreatedTime().plus(ttl));
     }
 
     /**
@@ -78,9 +159,19 @@ public class FileResource {
     }
 
     /**
-     * 获取MinIO对象键
+     * 是否为去重存储（内容在共享对象中）
+     */
+    public boolean isDeduplicated() {
+        return contentHash != null;
+    }
+
+    /**
+     * 获取MinIO对象键，去重存储时为共享对象的键
      */
     public String getObjectKey() {
+        if (contentHash != null) {
+            return StorageLocation.blobObjectKey(contentHash);
+        }
         return storageLocation.getObjectKey(metadata.getFileName());
     }
 
@@ -96,13 +187,23 @@ public class FileResource {
      */
     public FileResource updateMetadata() {
         FileMetadata updatedMetadata = metadata.updateTime();
-        return new FileResource(id, attachmentUuid, updatedMetadata, storageLocation, encryptionMetadata, sourceType);
+        return new FileResource(id, attachmentUuid, updatedMetadata, storageLocation, encryptionMetadata, sourceType,
+            contentHash, expiresAt);
     }
 
     /**
      * 设置ID（用于持久化后）
      */
     public FileResource withId(Long id) {
-        return new FileResource(id, attachmentUuid, metadata, storageLocation, encryptionMetadata, sourceType);
+        return new FileResource(id, attachmentUuid, metadata, storageLocation, encryptionMetadata, sourceType,
+            contentHash, expiresAt);
+    }
+
+    /**
+     * 指向内容哈希对应的共享对象（用于去重存储后提交）
+     */
+    public FileResource withContentHash(String contentHash) {
+        return new FileResource(id, attachmentUuid, metadata, storageLocation, encryptionMetadata, sourceType,
+            contentHash, expiresAt);
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.contractreview.filestorage.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 异步上传任务
+ * 记录已接收并暂存到本地磁盘、等待后台写入MinIO的上传请求
+ * 
+ * @author ContractReview Team
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UploadTask {
+
+    /**
+     * 任务状态
+     */
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String attachmentUuid;
+    private String bucketName;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private boolean encrypted;
+    private Status status;
+    private String errorMessage;
+    private LocalDateTime createdTime;
+    private LocalDateTime updatedTime;
+
+    /**
+     * 为已分配UUID的文件资源创建待处理任务
+     */
+    public static UploadTask pending(FileResource fileResource) {
+        LocalDateTime now = LocalDateTime.now();
+        return new UploadTask(
+            fileResource.getAttachmentUuid().getValue(),
+            fileResource.getStorageLocation().getBucketName(),
+            fileResource.getMetadata().getFileName(),
+            fileResource.getMetadata().getFileType(),
+            fileResource.getMetadata().getFileSize(),
+            fileResource.requiresEncryption(),
+            Status.PENDING,
+            null,
+            now,
+            now
+        );
+    }
+
+    /**
+     * 从现有数据重建任务
+     */
+    public static UploadTask rebuild(String attachmentUuid, String bucketName, String fileName, String fileType,
+                                     Long fileSize, boolean encrypted, Status status, String errorMessage,
+                                     LocalDateTime createdTime, LocalDateTime updatedTime) {
+        return new UploadTask(attachmentUuid, bucketName, fileName, fileType, fileSize, encrypted,
+            status, errorMessage, createdTime, updatedTime);
+    }
+
+    /**
+     * 任务是否已结束
+     */
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
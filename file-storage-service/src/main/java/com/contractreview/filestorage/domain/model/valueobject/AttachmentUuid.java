@@ -5,6 +5,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Random;
 
 /**
@@ -17,7 +19,11 @@ import java.util.Random;
 @Value
 public class AttachmentUuid {
     
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    /**
+     * 严格解析，不存在的日期（如13月、2月30日）不会被顺延为合法日期
+     */
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+        DateTimeFormatter.ofPattern("uuuuMMddHHmmss").withResolverStyle(ResolverStyle.STRICT);
     private static final String RANDOM_CHARS = "abcdefghijklmnopqrstuvwxyz0123456789";
     private static final int RANDOM_LENGTH = 8;
     private static final Random RANDOM = new Random();
@@ -63,11 +69,16 @@ public class AttachmentUuid {
             return false;
         }
         
-        // 验证时间戳部分（14位数字）
+        // 验证时间戳部分（14位数字且为合法的日期时间）
         String timestamp = parts[0];
         if (timestamp.length() != 14 || !timestamp.matches("\\d{14}")) {
             return false;
         }
+        try {
+            LocalDateTime.parse(timestamp, TIMESTAMP_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
         
         // 验证随机字符串部分（8位字母数字）
         String randomPart = parts[1];
@@ -0,0 +1,73 @@
+package com.contractreview.filestorage.domain.model.valueobject;
+
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 分页游标值对象（基于 created_time + id 的键集分页）
+ * 对外以不透明的Base64字符串传递
+ * 
+ * @author ContractReview Team
+ */
+@Value
+public class FileCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime createdTime;
+    Long id;
+
+    private FileCursor(LocalDateTime createdTime, Long id) {
+        if (createdTime == null || id == null) {
+            throw new IllegalArgumentException("分页游标不能为空");
+        }
+        this.createdTime = createdTime;
+        this.id = id;
+    }
+
+    /**
+     * 创建游标
+     */
+    public static FileCursor of(LocalDateTime createdTime, Long id) {
+        return new FileCursor(createdTime, id);
+    }
+
+    /**
+     * 解析游标字符串
+     */
+    public static FileCursor decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            throw new IllegalArgumentException("分页游标不能为空");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("分页游标格式错误");
+            }
+            LocalDateTime createdTime = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new FileCursor(createdTime, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("分页游标格式错误", e);
+        }
+    }
+
+    /**
+     * 编码为游标字符串
+     */
+    public String encode() {
+        String raw = createdTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
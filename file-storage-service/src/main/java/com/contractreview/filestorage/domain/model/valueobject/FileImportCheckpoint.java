@@ -0,0 +1,29 @@
+package com.contractreview.filestorage.domain.model.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 存储桶导入检查点值对象（按日期前缀记录导入进度）
+ * 
+ * @author ContractReview Team
+ */
+@Value
+public class FileImportCheckpoint {
+
+    String bucketName;
+    String datePrefix;
+    String lastObjectKey;
+    long importedCount;
+    long skippedCount;
+    boolean completed;
+    LocalDateTime updatedTime;
+
+    public static FileImportCheckpoint of(String bucketName, String datePrefix, String lastObjectKey,
+                                          long importedCount, long skippedCount, boolean completed,
+                                          LocalDateTime updatedTime) {
+        return new FileImportCheckpoint(bucketName, datePrefix, lastObjectKey,
+            importedCount, skippedCount, completed, updatedTime);
+    }
+}
@@ -0,0 +1,19 @@
+package com.contractreview.filestorage.domain.model.valueobject;
+
+import lombok.Value;
+
+/**
+ * 存储桶导入时跳过的对象及原因
+ * 
+ * @author ContractReview Team
+ */
+@Value
+public class FileImportSkip {
+
+    String objectKey;
+    String reason;
+
+    public static FileImportSkip of(String objectKey, String reason) {
+        return new FileImportSkip(objectKey, reason);
+    }
+}
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * 存储位置值对象
@@ -15,6 +16,7 @@ import java.time.format.DateTimeFormatter;
 public class StorageLocation {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    private static final String BLOB_PREFIX = "blobs/";
 
     String bucketName;
     String directory;
@@ -46,6 +48,32 @@ public class StorageLocation {
         return new StorageLocation(bucketName, directory, fileUrl);
     }
 
+    /**
+     * 从 {@link #generateFromUuid} 生成的文件URL（/{bucket}/yyyy/MM/dd/{uuid}/{fileName}）中解析UUID
+     * 只解析结构，不校验URL其余部分与记录一致，格式不符时返回空
+     */
+    public static Optional<AttachmentUuid> parseUuid(String fileUrl) {
+        if (StringUtils.isBlank(fileUrl)) {
+            return Optional.empty();
+        }
+        String[] segments = fileUrl.split("/");
+        if (segments.length != 7 || !segments[0].isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(AttachmentUuid.of(segments[5]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 内容寻址共享对象的键：blobs/{哈希前2位}/{哈希}
+     */
+    public static String blobObjectKey(String contentHash) {
+        return BLOB_PREFIX + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
     /**
      * 生成文件URL
      */
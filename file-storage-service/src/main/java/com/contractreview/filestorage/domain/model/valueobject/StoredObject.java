@@ -0,0 +1,22 @@
+package com.contractreview.filestorage.domain.model.valueobject;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 存储对象值对象（对象存储列举结果）
+ * 
+ * @author ContractReview Team
+ */
+@Value
+public class StoredObject {
+
+    String objectKey;
+    long size;
+    LocalDateTime lastModified;
+
+    public static StoredObject of(String objectKey, long size, LocalDateTime lastModified) {
+        return new StoredObject(objectKey, size, lastModified);
+    }
+}
@@ -0,0 +1,21 @@
+package com.contractreview.filestorage.domain.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 存储桶文件统计
+ * 
+ * @author ContractReview Team
+ */
+@Value(staticConstructor = "of")
+public class BucketStats {
+
+    String bucketName;
+    long fileCount;
+    long totalBytes;
+    long encryptedCount;
+    long encryptedBytes;
+    LocalDateTime updatedTime;
+}
@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.FileBlob;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 内容寻址共享对象仓储接口
+ * 引用计数只在文件记录提交和物理删除的事务中增减，上传复用时只刷新最近引用时间
+ * 
+ * @author ContractReview Team
+ */
+public interface FileBlobRepository {
+
+    /**
+     * 上传复用已存储的共享对象前刷新最近引用时间，使其在宽限期内不会被回收
+     * 回收任务已认领的对象不再视为已存储
+     *
+     * @return 共享对象已存储时返回true，否则需要上传
+     */
+    boolean touchStored(FileBlob blob);
+
+    /**
+     * 登记共享对象（已存在时只刷新最近引用时间），随后上传对象内容
+     *
+     * @return 共享对象正被回收任务删除时返回false，此时不能写入该对象
+     */
+    boolean register(FileBlob blob, long fileSize);
+
+    /**
+     * 标记共享对象已写入MinIO
+     */
+    void markStored(FileBlob blob);
+
+    /**
+     * 增加引用，需在文件记录提交的同一事务中调用
+     *
+     * @throws IllegalStateException 共享对象不存在
+     */
+    void addReference(FileBlob blob);
+
+    /**
+     * 释放引用，需在文件记录物理删除的同一事务中调用
+     */
+    void releaseReferences(List<FileBlob> blobs);
+
+    /**
+     * 认领宽限期内未被引用的无引用对象并标记为回收中，语句单独提交；
+     * 回收中的对象不再被复用或登记，超过认领租约仍未完成的对象可被重新认领
+     */
+    List<FileBlob> claimUnreferenced(Duration grace, int limit, Duration claimTimeout);
+
+    /**
+     * 对象删除失败，取消认领，下次重试
+     */
+    void releaseClaims(List<FileBlob> blobs);
+
+    /**
+     * 删除已回收对象的记录
+     */
+    void deleteAll(List<FileBlob> blobs);
+}
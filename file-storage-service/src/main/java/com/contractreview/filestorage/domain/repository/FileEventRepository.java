@@ -0,0 +1,41 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.FileEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 文件变更事件仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface FileEventRepository {
+
+    /**
+     * 追加事件，需在文件元数据写入的同一事务中调用
+     */
+    void append(FileEvent event);
+
+    /**
+     * 查询指定事件ID之后的事件（按ID升序）
+     *
+     * @param afterId 起始事件ID（不包含）
+     * @param bucketName 存储桶名称，为空时不过滤
+     * @param settleDelay 只返回写入时间早于该时长的事件，避免并发事务乱序提交导致消费者跳过事件
+     * @param limit 最多返回条数
+     */
+    List<FileEvent> findAfter(long afterId, String bucketName, Duration settleDelay, int limit);
+
+    /**
+     * 获取当前最大事件ID，没有事件时返回0
+     */
+    long findLatestId();
+
+    /**
+     * 删除早于指定时长的事件
+     *
+     * @return 删除的事件数
+     */
+    int deleteOlderThan(Duration retention);
+}
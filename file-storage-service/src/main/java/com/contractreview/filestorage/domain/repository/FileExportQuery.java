@@ -0,0 +1,77 @@
+package com.contractreview.filestorage.domain.repository;
+
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件元数据导出条件
+ * 指定 updatedSince 时按 (updated_time, id) 增量导出，否则按 id 导出
+ * 
+ * @author ContractReview Team
+ */
+@Value
+@Builder
+public class FileExportQuery {
+
+    /**
+     * 导出格式
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 解析导出格式，默认NDJSON
+         */
+        public static Format fromValue(String value) {
+            if (StringUtils.isBlank(value)) {
+                return NDJSON;
+            }
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("不支持的导出格式：" + value);
+        }
+    }
+
+    Format format;
+
+    /**
+     * 水位线：只导出 id 大于该值的记录（增量模式下作为同一 updated_time 内的次序）
+     */
+    Long afterId;
+
+    /**
+     * 水位线：只导出 updated_time 不早于该值的记录
+     */
+    LocalDateTime updatedSince;
+
+    public long getEffectiveAfterId() {
+        return afterId != null ? afterId : 0L;
+    }
+
+    public boolean isIncremental() {
+        return updatedSince != null;
+    }
+}
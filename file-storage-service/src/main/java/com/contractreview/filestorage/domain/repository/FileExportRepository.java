@@ -0,0 +1,18 @@
+package com.contractreview.filestorage.domain.repository;
+
+import java.io.OutputStream;
+
+/**
+ * 文件元数据导出仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface FileExportRepository {
+
+    /**
+     * 流式导出文件元数据到输出流
+     *
+     * @return 导出的记录数
+     */
+    long export(FileExportQuery query, OutputStream outputStream);
+}
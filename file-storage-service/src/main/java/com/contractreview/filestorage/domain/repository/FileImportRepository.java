@@ -0,0 +1,61 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportCheckpoint;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportSkip;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 存储桶元数据导入仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface FileImportRepository {
+
+    /**
+     * 批量导入文件元数据，在同一事务中记录跳过的对象并推进检查点，已存在的UUID会被忽略
+     *
+     * @return 实际新增的记录数
+     */
+    int importBatch(String bucketName, String datePrefix, List<FileResource> batch,
+                    String lastObjectKey, List<FileImportSkip> skipped, boolean completed);
+
+    /**
+     * 查询指定日期前缀的检查点
+     */
+    Optional<FileImportCheckpoint> findCheckpoint(String bucketName, String datePrefix);
+
+    /**
+     * 查询存储桶的全部检查点
+     */
+    List<FileImportCheckpoint> findCheckpoints(String bucketName);
+
+    /**
+     * 查询存储桶导入时跳过的对象，按对象键排序，最多返回limit条
+     */
+    List<FileImportSkip> findSkipped(String bucketName, int limit);
+
+    /**
+     * 尝试获取存储桶导入锁，保证所有实例中同一存储桶同时只有一个导入任务
+     * 锁在关闭返回的句柄或持有锁的实例断开数据库连接时释放
+     *
+     * @return 锁已被其他导入任务持有时返回空
+     */
+    Optional<ImportLock> tryLock(String bucketName);
+
+    /**
+     * 存储桶导入锁是否被任一实例持有
+     */
+    boolean isLocked(String bucketName);
+
+    /**
+     * 存储桶导入锁句柄
+     */
+    interface ImportLock extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,55 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.valueobject.FileCursor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件列表查询条件
+ * 
+ * @author ContractReview Team
+ */
+@Value
+@Builder
+public class FileListQuery {
+
+    /**
+     * 未指定时间范围时使用的下界
+     */
+    public static final LocalDateTime MIN_CREATED_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 未指定时间范围时使用的上界
+     */
+    public static final LocalDateTime MAX_CREATED_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    String bucketName;
+    String sourceType;
+    LocalDateTime createdFrom;
+    LocalDateTime createdTo;
+    FileCursor after;
+    int limit;
+
+    /**
+     * 获取创建时间下界（包含）
+     */
+    public LocalDateTime getEffectiveCreatedFrom() {
+        return createdFrom != null ? createdFrom : MIN_CREATED_TIME;
+    }
+
+    /**
+     * 获取创建时间上界（不包含）
+     */
+    public LocalDateTime getEffectiveCreatedTo() {
+        return createdTo != null ? createdTo : MAX_CREATED_TIME;
+    }
+
+    /**
+     * 获取键集起点，首页从时间下界开始
+     */
+    public FileCursor getEffectiveCursor() {
+        return after != null ? after : FileCursor.of(getEffectiveCreatedFrom(), 0L);
+    }
+}
@@ -0,0 +1,32 @@
+package com.contractreview.filestorage.domain.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 文件元数据月份分区仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface FilePartitionRepository {
+
+    /**
+     * 查询已挂载的月份分区（不含默认分区），按月份升序
+     */
+    List<YearMonth> findPartitions();
+
+    /**
+     * 创建月份分区，已存在时不做处理
+     */
+    void createPartition(YearMonth month);
+
+    /**
+     * 月份分区中是否存在未提交或待清理的记录
+     */
+    boolean hasUncommitted(YearMonth month);
+
+    /**
+     * 从file表分离月份分区，分离后的表保留数据，可单独归档或删除
+     */
+    void detachPartition(YearMonth month);
+}
@@ -3,6 +3,9 @@ package com.contractreview.filestorage.domain.repository;
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,10 +16,77 @@ import java.util.Optional;
 public interface FileResourceRepository {
 
     /**
-     * 保存文件资源
+     * 保存文件资源，新记录未设置过期时间时使用存储桶默认保存时长
      */
     FileResource save(FileResource fileResource);
 
+    /**
+     * 写入待提交记录，在对象传输前调用；提交前该记录对查询不可见
+     * 未设置过期时间时使用存储桶默认保存时长
+     */
+    FileResource savePending(FileResource fileResource);
+
+    /**
+     * 将待提交记录标记为已提交，并追加文件变更事件
+     *
+     * @throws IllegalStateException 记录不存在或已被放弃
+     */
+    FileResource commitPending(FileResource fileResource);
+
+    /**
+     * 放弃未提交的记录，之后该记录不能再被提交
+     *
+     * @return 记录已提交或不存在时返回false
+     */
+    boolean abandonPending(AttachmentUuid uuid);
+
+    /**
+     * 删除已放弃的记录，在对应对象删除后调用
+     */
+    void deleteAbandoned(AttachmentUuid uuid);
+
+    /**
+     * 查询创建时间早于 pendingBefore 仍未提交的记录，以及已放弃待清理的记录
+     */
+    List<FileResource> findStaleUncommitted(LocalDateTime pendingBefore, int limit);
+
+    /**
+     * 将文件标记为已删除并追加删除事件，记录立即对查询不可见，对象由后台任务清理
+     *
+     * @return 文件不存在或已删除时返回false
+     */
+    boolean markDeleted(FileResource fileResource);
+
+    /**
+     * 将一批已到期的文件标记为已删除并追加删除事件，对象由删除队列清理
+     *
+     * @return 本批标记删除的文件，为空表示没有到期文件
+     */
+    List<FileResource> expire(LocalDateTime now, int limit);
+
+    /**
+     * 认领一批已到清理时间的已删除文件：跳过其他实例正在认领的记录，并把清理时间推迟一个租约时长，
+     * 租约内其他实例不会再取到这些记录；实例中途退出时，租约到期后记录重新进入删除队列
+     */
+    List<FileResource> claimPurgeable(int limit, Duration lease);
+
+    /**
+     * 物理删除对象已清理的已删除记录，只为本次实际删除的记录释放共享对象引用
+     *
+     * @return 实际删除的记录数（已被其他实例删除的记录不计入）
+     */
+    int purgeDeleted(List<FileResource> fileResources);
+
+    /**
+     * 对象清理失败，按失败次数指数退避（initialBackoff × 2^失败次数，不超过 maxBackoff）后重试
+     */
+    void deferPurge(List<FileResource> fileResources, Duration initialBackoff, Duration maxBackoff);
+
+    /**
+     * 等待清理的已删除文件数
+     */
+    long countDeleted();
+
     /**
      * 根据UUID查找文件
      */
@@ -51,4 +121,19 @@ public interface FileResourceRepository {
      * 根据文件UUID字符串查找文件
      */
     Optional<FileResource> findByFileUuid(String fileUuid);
-}
\ No newline at end of file
+
+    /**
+     * 根据文件UUID查询只读文件信息
+     */
+    Optional<FileSummary> findSummaryByUuid(String fileUuid);
+
+    /**
+     * 根据文件URL查询只读文件信息
+     */
+    Optional<FileSummary> findSummaryByFileUrl(String fileUrl);
+
+    /**
+     * 按存储桶、来源和创建时间范围分页列出文件（键集分页，按 created_time, id 升序）
+     */
+    List<FileResource> findPage(FileListQuery query);
+}
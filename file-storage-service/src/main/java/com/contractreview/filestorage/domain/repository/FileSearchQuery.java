@@ -0,0 +1,40 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.valueobject.FileCursor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件搜索条件，为空的条件不参与过滤
+ * 结果按创建时间倒序，以 (createdTime, id) 键集分页
+ * 
+ * @author ContractReview Team
+ */
+@Value
+@Builder
+public class FileSearchQuery {
+
+    String bucketName;
+
+    /**
+     * 文件名关键字（子串匹配，不区分大小写）
+     */
+    String keyword;
+
+    /**
+     * 文件类型关键字（子串匹配，不区分大小写）
+     */
+    String fileType;
+
+    LocalDateTime createdFrom;
+    LocalDateTime createdTo;
+
+    /**
+     * 上一页最后一条记录的游标，结果从该记录之前开始
+     */
+    FileCursor before;
+
+    int limit;
+}
@@ -0,0 +1,18 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+
+import java.util.List;
+
+/**
+ * 文件元数据搜索仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface FileSearchRepository {
+
+    /**
+     * 按条件搜索已提交的文件，按创建时间倒序
+     */
+    List<FileResource> search(FileSearchQuery query);
+}
@@ -0,0 +1,22 @@
+package com.contractreview.filestorage.domain.repository;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 按存储桶、创建日期、扩展名和是否加密汇总的文件统计
+ * 既用于读取汇总行，也用于写入增量（增量的数量和字节数可以为负）
+ * 
+ * @author ContractReview Team
+ */
+@Value(staticConstructor = "of")
+public class FileStats {
+
+    String bucketName;
+    LocalDate statDate;
+    String fileExtension;
+    boolean encrypted;
+    long fileCount;
+    long totalBytes;
+}
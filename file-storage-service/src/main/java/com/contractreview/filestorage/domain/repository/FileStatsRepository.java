@@ -0,0 +1,31 @@
+package com.contractreview.filestorage.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 存储统计仓储接口
+ * 汇总表只通过增量累加维护，不从file表重新计算
+ * 
+ * @author ContractReview Team
+ */
+public interface FileStatsRepository {
+
+    /**
+     * 在一个事务中把一批增量累加到按日汇总和按存储桶汇总
+     */
+    void apply(List<FileStats> deltas);
+
+    /**
+     * 查询所有存储桶的统计
+     */
+    List<BucketStats> findBucketStats();
+
+    /**
+     * 查询存储桶在日期范围内的按日统计
+     *
+     * @param from 开始日期（包含）
+     * @param to   结束日期（不包含）
+     */
+    List<FileStats> findDailyStats(String bucketName, LocalDate from, LocalDate to);
+}
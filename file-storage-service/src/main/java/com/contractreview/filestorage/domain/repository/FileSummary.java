@@ -0,0 +1,26 @@
+package com.contractreview.filestorage.domain.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件信息只读投影
+ * 查询接口直接返回该投影，不构建领域对象，也不进入持久化上下文
+ * 
+ * @author ContractReview Team
+ */
+@Value
+public class FileSummary {
+
+    String attachmentUuid;
+    String fileUrl;
+    String fileName;
+    Long fileSize;
+    String fileType;
+    String bucketName;
+    String directory;
+    Boolean isEncrypted;
+    LocalDateTime createdTime;
+    LocalDateTime updatedTime;
+}
@@ -0,0 +1,42 @@
+package com.contractreview.filestorage.domain.repository;
+
+import com.contractreview.filestorage.domain.model.UploadTask;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 异步上传任务仓储接口
+ * 
+ * @author ContractReview Team
+ */
+public interface UploadTaskRepository {
+
+    /**
+     * 保存新任务
+     */
+    void save(UploadTask task);
+
+    /**
+     * 更新任务状态
+     */
+    void updateStatus(String attachmentUuid, UploadTask.Status status, String errorMessage);
+
+    /**
+     * 根据UUID查找任务
+     */
+    Optional<UploadTask> findByUuid(String attachmentUuid);
+
+    /**
+     * 查询未结束的任务（用于服务重启后恢复）
+     */
+    List<UploadTask> findUnfinished();
+
+    /**
+     * 删除指定时间之前已结束的任务
+     *
+     * @return 删除的任务数
+     */
+    int deleteFinishedBefore(LocalDateTime updatedBefore);
+}
@@ -1,8 +1,16 @@
 package com.contractreview.filestorage.domain.service;
 
+import com.contractreview.filestorage.domain.model.FileBlob;
 import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * 文件存储领域服务
  * 
@@ -20,23 +28,91 @@ public interface FileStorageService {
      */
     void storeEncryptedFile(FileResource fileResource, MultipartFile file, String publicKey);
 
+    /**
+     * 从输入流存储文件到MinIO
+     */
+    void storeFile(FileResource fileResource, InputStream inputStream, long size, String contentType);
+
+    /**
+     * 从输入流加密并存储文件到MinIO
+     */
+    void storeEncryptedFile(FileResource fileResource, InputStream inputStream, String contentType, String publicKey);
+
+    /**
+     * 是否启用内容寻址去重存储
+     */
+    boolean isDeduplicationEnabled();
+
+    /**
+     * 去重存储：计算内容哈希，存储桶内已有相同内容的共享对象时不再上传，否则上传为共享对象
+     * 内容需可重复读取（先读取一遍计算哈希，需要上传时再读取一遍）
+     *
+     * @return 指向共享对象的文件资源，提交后持有共享对象的引用
+     */
+    FileResource storeDeduplicated(FileResource fileResource, InputStreamSource content, long size, String contentType);
+
     /**
      * 从MinIO获取文件
+     * 在请求中调用时，内容占用的传输预算（需解密时按两倍计）保留到响应写出结束
      */
     byte[] retrieveFile(FileResource fileResource);
 
     /**
-     * 从MinIO获取加密文件并解密
+     * 异步获取文件，在指定执行器上读取对象内容，不阻塞调用方线程
+     */
+    CompletableFuture<byte[]> retrieveFileAsync(FileResource fileResource, Executor executor);
+
+    /**
+     * 异步打开文件内容流，内容不整体读入内存，调用方分块读取并负责关闭流
+     *
+     * @param bufferBytes 调用方读取使用的缓冲大小，按此预留传输预算（在请求中调用时保留到响应写出结束）
+     */
+    CompletableFuture<InputStream> openFileAsync(FileResource fileResource, long bufferBytes);
+
+    /**
+     * 从MinIO获取加密文件并解密，密文和明文占用的传输预算同样保留到响应写出结束
      */
     byte[] retrieveAndDecryptFile(FileResource fileResource, String publicKey);
 
     /**
-     * 从MinIO删除文件
+     * 在MinIO服务端复制文件到目标资源的存储位置
+     */
+    void copyFile(FileResource source, FileResource target);
+
+    /**
+     * 从MinIO删除文件，去重存储的文件不删除共享对象（引用随记录删除释放）
      */
     void deleteFile(FileResource fileResource);
 
+    /**
+     * 从MinIO批量删除文件（按存储桶分组批量删除），对象不存在视为删除成功
+     *
+     * @return 删除失败的文件
+     */
+    List<FileResource> deleteFiles(List<FileResource> fileResources);
+
+    /**
+     * 批量删除共享对象，对象不存在视为删除成功
+     *
+     * @return 删除失败的共享对象
+     */
+    List<FileBlob> deleteBlobs(List<FileBlob> blobs);
+
     /**
      * 生成文件预览URL（可直接在浏览器访问）
      */
     String generatePreviewUrl(FileResource fileResource, int expireSeconds);
-}
\ No newline at end of file
+
+    /**
+     * 列出前缀下一级的子前缀（目录）
+     */
+    List<String> listPrefixes(String bucketName, String prefix);
+
+    /**
+     * 按键顺序分页列出前缀下的对象
+     *
+     * @param startAfter 从该对象键之后开始（不包含），为空时从头开始
+     * @param maxKeys 本页最多返回的对象数
+     */
+    List<StoredObject> listObjects(String bucketName, String prefix, String startAfter, int maxKeys);
+}
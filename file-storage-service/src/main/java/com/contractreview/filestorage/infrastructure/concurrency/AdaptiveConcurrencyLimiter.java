@@ -0,0 +1,94 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD自适应并发限制器
+ * 请求在延迟阈值内成功完成且并发接近上限时，上限加一；
+ * 请求超过延迟阈值或失败时，上限按退避比例缩小。
+ * 下游变慢时并发上限随之收缩，多余请求被快速拒绝，而不是在线程和内存上堆积
+ * 
+ * @author ContractReview Team
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("并发上限配置错误: min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("退避比例必须在0和1之间: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 尝试获取执行许可，当前并发已达上限时返回false
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 释放许可并根据本次请求的延迟和结果调整并发上限
+     *
+     * @param latencyNanos 请求耗时
+     * @param dropped      请求是否失败（超时或服务端错误）
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int concurrency = inFlight;
+            inFlight--;
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (concurrency * 2 >= limit) {
+                // 只有并发真正用到上限附近时才放大，避免低负载下上限无限制增长
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import com.contractreview.filestorage.infrastructure.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 各请求通道的自适应并发限制器
+ * 
+ * @author ContractReview Team
+ */
+@Component
+public class ConcurrencyLimiters {
+
+    private final ConcurrencyLimitProperties properties;
+    private final Map<RequestLane, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Counter> rejectedCounters = new EnumMap<>(RequestLane.class);
+
+    public ConcurrencyLimiters(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (RequestLane lane : RequestLane.values()) {
+            ConcurrencyLimitProperties.Lane config = properties.getLane(lane);
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                config.getInitialLimit(),
+                config.getMinLimit(),
+                config.getMaxLimit(),
+                config.getLatencyThreshold().toNanos(),
+                config.getBackoffRatio()
+            );
+            limiters.put(lane, limiter);
+
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("file.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("lane", tag)
+                .description("当前并发上限")
+                .register(meterRegistry);
+            Gauge.builder("file.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("lane", tag)
+                .description("正在处理的请求数")
+                .register(meterRegistry);
+            rejectedCounters.put(lane, Counter.builder("file.concurrency.rejected")
+                .tag("lane", tag)
+                .description("超过并发上限被拒绝的请求数")
+                .register(meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public AdaptiveConcurrencyLimiter get(RequestLane lane) {
+        return limiters.get(lane);
+    }
+
+    public ConcurrencyLimitProperties.Lane getLaneConfig(RequestLane lane) {
+        return properties.getLane(lane);
+    }
+
+    public void recordRejected(RequestLane lane) {
+        rejectedCounters.get(lane).increment();
+    }
+}
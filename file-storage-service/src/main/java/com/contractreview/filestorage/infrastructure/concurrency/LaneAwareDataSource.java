@@ -0,0 +1,95 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 按请求通道限制连接数的数据源
+ * 当前线程属于某个通道时，先获取该通道的连接许可再从连接池取连接，连接关闭时归还许可；
+ * 传输通道的连接上限小于连接池大小，元数据请求始终有预留连接可用
+ * 
+ * @author ContractReview Team
+ */
+public class LaneAwareDataSource extends DelegatingDataSource {
+
+    private final LaneBulkheads bulkheads;
+    private final Duration acquireTimeout;
+
+    public LaneAwareDataSource(DataSource targetDataSource, LaneBulkheads bulkheads, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.bulkheads = bulkheads;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestLane lane = RequestLaneContext.current();
+        if (lane == null || !bulkheads.isEnabled()) {
+            return super.getConnection();
+        }
+        acquire(lane);
+        try {
+            return withRelease(super.getConnection(), lane);
+        } catch (SQLException | RuntimeException e) {
+            bulkheads.releaseConnection(lane);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RequestLane lane = RequestLaneContext.current();
+        if (lane == null || !bulkheads.isEnabled()) {
+            return super.getConnection(username, password);
+        }
+        acquire(lane);
+        try {
+            return withRelease(super.getConnection(username, password), lane);
+        } catch (SQLException | RuntimeException e) {
+            bulkheads.releaseConnection(lane);
+            throw e;
+        }
+    }
+
+    private void acquire(RequestLane lane) throws SQLException {
+        try {
+            if (!bulkheads.tryAcquireConnection(lane, acquireTimeout)) {
+                throw new SQLTransientConnectionException(
+                    "通道数据库连接已用尽: lane=" + lane + ", timeout=" + acquireTimeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("等待通道数据库连接时被中断", e);
+        }
+    }
+
+    private Connection withRelease(Connection target, RequestLane lane) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    try {
+                        target.close();
+                    } finally {
+                        bulkheads.releaseConnection(lane);
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
@@ -0,0 +1,96 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import com.contractreview.filestorage.infrastructure.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求通道隔离舱
+ * 每个通道独立限制同时处理的请求数和同时持有的数据库连接数，一个通道耗尽不影响另一个通道
+ * 
+ * @author ContractReview Team
+ */
+@Component
+public class LaneBulkheads {
+
+    private final BulkheadProperties properties;
+    private final Map<RequestLane, Semaphore> callPermits = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Semaphore> connectionPermits = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Counter> rejectedCalls = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Counter> rejectedConnections = new EnumMap<>(RequestLane.class);
+
+    public LaneBulkheads(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (RequestLane lane : RequestLane.values()) {
+            BulkheadProperties.Lane config = properties.getLane(lane);
+            int maxCalls = config.getMaxConcurrentCalls();
+            int maxConnections = config.getMaxConnections();
+            Semaphore calls = new Semaphore(maxCalls, true);
+            Semaphore connections = new Semaphore(maxConnections, true);
+            callPermits.put(lane, calls);
+            connectionPermits.put(lane, connections);
+
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("file.bulkhead.calls.active", calls, semaphore -> maxCalls - semaphore.availablePermits())
+                .tag("lane", tag)
+                .description("通道内正在处理的请求数")
+                .register(meterRegistry);
+            Gauge.builder("file.bulkhead.connections.active", connections,
+                    semaphore -> maxConnections - semaphore.availablePermits())
+                .tag("lane", tag)
+                .description("通道内持有的数据库连接数")
+                .register(meterRegistry);
+            rejectedCalls.put(lane, Counter.builder("file.bulkhead.rejected")
+                .tags("lane", tag, "resource", "call")
+                .description("通道已满被拒绝的次数")
+                .register(meterRegistry));
+            rejectedConnections.put(lane, Counter.builder("file.bulkhead.rejected")
+                .tags("lane", tag, "resource", "connection")
+                .description("通道已满被拒绝的次数")
+                .register(meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 获取请求处理许可，最多等待通道配置的时间
+     */
+    public boolean tryAcquireCall(RequestLane lane) throws InterruptedException {
+        return tryAcquire(callPermits.get(lane), properties.getLane(lane).getMaxWait(), rejectedCalls.get(lane));
+    }
+
+    public void releaseCall(RequestLane lane) {
+        callPermits.get(lane).release();
+    }
+
+    /**
+     * 获取数据库连接许可，最多等待指定时间
+     */
+    boolean tryAcquireConnection(RequestLane lane, Duration timeout) throws InterruptedException {
+        return tryAcquire(connectionPermits.get(lane), timeout, rejectedConnections.get(lane));
+    }
+
+    void releaseConnection(RequestLane lane) {
+        connectionPermits.get(lane).release();
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, Duration timeout, Counter rejected)
+            throws InterruptedException {
+        if (semaphore.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+/**
+ * 请求通道
+ * 文件内容传输与元数据操作的耗时和资源占用差异很大，分别限流，避免传输变慢拖垮元数据请求
+ * 
+ * @author ContractReview Team
+ */
+public enum RequestLane {
+
+    /**
+     * 文件内容传输：上传、下载、复制
+     */
+    TRANSFER,
+
+    /**
+     * 元数据操作：查询、删除、生成预览URL等
+     */
+    METADATA
+}
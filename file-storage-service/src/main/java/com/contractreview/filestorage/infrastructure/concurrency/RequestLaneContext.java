@@ -0,0 +1,49 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 当前线程所属的请求通道
+ * 由请求拦截器或后台线程池设置，数据源据此限制各通道持有的数据库连接数；
+ * 未设置通道的线程（定时任务等）不受通道限制
+ * 
+ * @author ContractReview Team
+ */
+public final class RequestLaneContext {
+
+    private static final ThreadLocal<RequestLane> CURRENT = new ThreadLocal<>();
+
+    private RequestLaneContext() {
+    }
+
+    public static RequestLane current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestLane lane) {
+        CURRENT.set(lane);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 在指定通道内执行任务的装饰器，用于承担该通道工作的后台线程池
+     */
+    public static TaskDecorator decorator(RequestLane lane) {
+        return task -> () -> {
+            RequestLane previous = CURRENT.get();
+            CURRENT.set(lane);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 异步下载线程池配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+public class AsyncDownloadConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncDownloadExecutor(AsyncDownloadProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerThreads());
+        executor.setMaxPoolSize(properties.getWorkerThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("async-download-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 异步下载配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.async-download")
+@Data
+public class AsyncDownloadProperties {
+
+    /**
+     * 读取对象内容和解密的线程数，网络等待不占用该线程池
+     */
+    private int workerThreads = 4;
+
+    /**
+     * 等待读取的任务队列容量，队列满时拒绝新的异步下载
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 单次下载请求的最长处理时间（含向客户端写出）
+     */
+    private Duration timeout = Duration.ofMinutes(5);
+
+    /**
+     * 每次非阻塞写出的最大字节数
+     */
+    private DataSize writeChunkSize = DataSize.ofKilobytes(64);
+}
@@ -0,0 +1,34 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLaneContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 异步上传线程池配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+public class AsyncUploadConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor asyncUploadExecutor(AsyncUploadProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerThreads());
+        executor.setMaxPoolSize(properties.getWorkerThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("async-upload-");
+        // 后台上传属于传输通道，数据库连接计入传输通道的份额
+        executor.setTaskDecorator(RequestLaneContext.decorator(RequestLane.TRANSFER));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 未完成的任务保留在暂存目录，重启后恢复
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,54 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 异步上传配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.async-upload")
+@Data
+public class AsyncUploadProperties {
+
+    /**
+     * 上传暂存目录，建议与Servlet multipart临时目录位于同一文件系统以便直接重命名
+     */
+    private String stagingDir = System.getProperty("java.io.tmpdir") + "/file-storage-staging";
+
+    /**
+     * 后台上传线程数
+     */
+    private int workerThreads = 4;
+
+    /**
+     * 等待上传的任务队列容量，队列满时拒绝新的异步上传
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 已结束任务的保留时长，过期后不再能查询状态
+     */
+    private Duration taskRetention = Duration.ofDays(7);
+
+    /**
+     * 单个任务的最大尝试次数，写入MinIO或数据库的临时故障在次数内重试，暂存文件保留到最后一次尝试结束
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 首次重试的等待时长，此后每次翻倍
+     */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /**
+     * 暂存文件不在本节点的未完成任务，超过该时长未更新视为暂存文件已丢失，恢复时标记失败
+     * （未超过时可能正由其他节点处理）
+     */
+    private Duration orphanTimeout = Duration.ofHours(1);
+}
@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 请求通道隔离配置
+ * 传输和元数据请求分别占用有上限的请求线程和数据库连接，
+ * 传输通道的连接上限需小于连接池大小，差值即为元数据请求预留的连接
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.bulkhead")
+@Data
+public class BulkheadProperties {
+
+    /**
+     * 是否启用通道隔离
+     */
+    private boolean enabled = true;
+
+    /**
+     * 文件传输通道
+     */
+    private Lane transfer = new Lane(100, Duration.ofMillis(500), 12);
+
+    /**
+     * 元数据通道
+     */
+    private Lane metadata = new Lane(200, Duration.ofMillis(200), 20);
+
+    public Lane getLane(RequestLane lane) {
+        return lane == RequestLane.TRANSFER ? transfer : metadata;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        /**
+         * 最多同时占用的请求处理线程数
+         */
+        private int maxConcurrentCalls;
+
+        /**
+         * 通道已满时的最长等待时间，超时返回503
+         */
+        private Duration maxWait;
+
+        /**
+         * 最多同时持有的数据库连接数
+         */
+        private int maxConnections;
+    }
+}
@@ -0,0 +1,77 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 文件接口自适应并发限制配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.concurrency-limit")
+@Data
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 是否启用并发限制
+     */
+    private boolean enabled = true;
+
+    /**
+     * 文件传输接口
+     */
+    private Lane transfer = new Lane(32, 4, 256, Duration.ofSeconds(10), 0.9, 503, 5);
+
+    /**
+     * 元数据接口
+     */
+    private Lane metadata = new Lane(128, 8, 1024, Duration.ofMillis(500), 0.9, 429, 1);
+
+    public Lane getLane(RequestLane lane) {
+        return lane == RequestLane.TRANSFER ? transfer : metadata;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        /**
+         * 初始并发上限
+         */
+        private int initialLimit;
+
+        /**
+         * 并发上限的下界和上界
+         */
+        private int minLimit;
+        private int maxLimit;
+
+        /**
+         * 延迟阈值，请求耗时超过该值视为过载信号
+         */
+        private Duration latencyThreshold;
+
+        /**
+         * 过载时并发上限的缩小比例
+         */
+        private double backoffRatio;
+
+        /**
+         * 拒绝请求时返回的HTTP状态码（429或503）
+         */
+        private int rejectStatus;
+
+        /**
+         * 拒绝响应的Retry-After秒数
+         */
+        private int retryAfterSeconds;
+    }
+}
@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import com.contractreview.filestorage.infrastructure.concurrency.LaneAwareDataSource;
+import com.contractreview.filestorage.infrastructure.concurrency.LaneBulkheads;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 数据源配置
+ * 连接池外包装按请求通道限制连接数的数据源，为元数据请求预留连接；
+ * 配置只读副本时，只读事务的连接从副本连接池获取，其余连接从主库获取
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource poolDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "file-storage.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties(prefix = "file-storage.replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("poolDataSource") HikariDataSource poolDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+                                 LaneBulkheads laneBulkheads) {
+        DataSource target = poolDataSource;
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            // 事务开始时才设置只读标记，延迟到第一条语句执行时再按标记选择连接池
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(poolDataSource);
+            routing.setReadOnlyDataSource(replica);
+            target = routing;
+        }
+        return new LaneAwareDataSource(target, laneBulkheads,
+            Duration.ofMillis(poolDataSource.getConnectionTimeout()));
+    }
+}
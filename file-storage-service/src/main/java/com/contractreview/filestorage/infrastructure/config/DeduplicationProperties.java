@@ -0,0 +1,44 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 内容寻址去重存储配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.deduplication")
+@Data
+public class DeduplicationProperties {
+
+    /**
+     * 是否启用去重存储，只作用于不加密的上传（加密文件的密文各不相同）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 回收任务执行间隔
+     */
+    private Duration collectInterval = Duration.ofMinutes(10);
+
+    /**
+     * 无引用对象的保留宽限期，需大于 file-storage.pending.timeout，
+     * 保证复用共享对象的上传在提交前对象不会被回收
+     */
+    private Duration grace = Duration.ofHours(2);
+
+    /**
+     * 每批回收的对象数（MinIO单次批量删除上限为1000）
+     */
+    private int batchSize = 500;
+
+    /**
+     * 回收认领租约：回收任务中途退出时，已认领的对象在租约到期后重新回收；需大于一批对象删除的耗时
+     */
+    private Duration claimTimeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,55 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 文件删除配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.deletion")
+@Data
+public class FileDeletionProperties {
+
+    /**
+     * 是否异步删除：开启时删除接口只标记记录，对象由后台任务批量清理；关闭时同步删除对象和记录。
+     * 开启后删除接口返回时对象可能仍在存储中、删除失败也不再返回给调用方，需调用方确认后按需开启
+     */
+    private boolean async = false;
+
+    /**
+     * 清理任务执行间隔
+     */
+    private Duration purgeInterval = Duration.ofSeconds(10);
+
+    /**
+     * 每批清理的记录数（MinIO单次批量删除上限为1000）
+     */
+    private int batchSize = 500;
+
+    /**
+     * 单次清理任务最多处理的批数，避免积压时长时间占用调度线程
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 认领租约：清理任务取到一批记录后推迟其清理时间，租约内其他实例不会重复处理；
+     * 需大于一批对象删除的最长耗时
+     */
+    private Duration claimTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 对象删除失败后的首次重试间隔，之后每次失败翻倍
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * 最大重试间隔
+     */
+    private Duration maxBackoff = Duration.ofHours(1);
+}
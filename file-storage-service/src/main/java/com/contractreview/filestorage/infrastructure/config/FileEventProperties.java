@@ -0,0 +1,48 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 文件变更事件配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.events")
+@Data
+public class FileEventProperties {
+
+    /**
+     * SSE推送轮询间隔
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 事件写入后的稳定期，稳定期内的事件暂不下发，防止并发事务乱序提交导致游标越过未提交事件
+     */
+    private Duration settleDelay = Duration.ofSeconds(2);
+
+    /**
+     * 每次轮询读取的最大事件数
+     */
+    private int batchSize = 500;
+
+    /**
+     * SSE心跳间隔
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * SSE连接超时时间，客户端超时后使用Last-Event-ID重连续传
+     */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 事件保留时长
+     */
+    private Duration retention = Duration.ofDays(7);
+}
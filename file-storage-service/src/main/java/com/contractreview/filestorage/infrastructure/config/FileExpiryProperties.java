@@ -0,0 +1,50 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 文件过期配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.expiry")
+@Data
+public class FileExpiryProperties {
+
+    /**
+     * 是否启用过期清理任务（关闭后到期文件保留，过期时间仍会记录）
+     */
+    private boolean enabled = true;
+
+    /**
+     * 存储桶默认保存时长（可选），上传未指定保存时长时使用；未配置的存储桶永久保存
+     */
+    private Map<String, Duration> bucketTtls = new LinkedHashMap<>();
+
+    /**
+     * 过期清理任务执行间隔
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * 每批标记删除的记录数
+     */
+    private int batchSize = 500;
+
+    /**
+     * 单次任务最多处理的批数，限制每个间隔内的删除量（速率上限为 batchSize * maxBatchesPerRun / sweepInterval）
+     */
+    private int maxBatchesPerRun = 10;
+
+    /**
+     * 元数据通道的进行中请求数达到并发上限的该比例时暂停本次清理，把数据库让给前台请求
+     */
+    private double busyThreshold = 0.5;
+}
@@ -0,0 +1,21 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 文件元数据导出配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.export")
+@Data
+public class FileExportProperties {
+
+    /**
+     * JDBC游标每次从数据库拉取的行数
+     */
+    private int fetchSize = 1000;
+}
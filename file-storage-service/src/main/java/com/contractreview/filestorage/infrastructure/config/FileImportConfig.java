@@ -0,0 +1,25 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 存储桶元数据导入线程池配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+public class FileImportConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor fileImportExecutor(FileImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getParallelism());
+        executor.setMaxPoolSize(properties.getParallelism());
+        executor.setThreadNamePrefix("file-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 存储桶元数据导入配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.import")
+@Data
+public class FileImportProperties {
+
+    /**
+     * 并行导入的日期前缀数
+     */
+    private int parallelism = 4;
+
+    /**
+     * 每次COPY写入的行数
+     */
+    private int batchSize = 5000;
+
+    /**
+     * 每次列举对象的数量
+     */
+    private int listPageSize = 1000;
+
+    /**
+     * 导入进度中最多返回的跳过对象数（全部跳过记录保存在 file_import_skipped 表）
+     */
+    private int skippedReportLimit = 100;
+}
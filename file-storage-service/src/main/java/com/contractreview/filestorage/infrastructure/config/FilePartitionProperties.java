@@ -0,0 +1,38 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 文件元数据月份分区维护配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.partition")
+@Data
+public class FilePartitionProperties {
+
+    /**
+     * 预建未来月份分区的数量（不含当月），分区未建时记录会落入默认分区
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * 分区保留月数，早于该月数的分区从file表分离以便归档；0表示不分离
+     */
+    private int retainMonths = 0;
+
+    /**
+     * 建立和分离分区时等待file表锁的上限，超时则放弃本次操作，避免排队阻塞业务读写
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 因锁等待超时未完成的分区操作的重试间隔
+     */
+    private Duration retryInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,28 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 存储统计配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.stats")
+@Data
+public class FileStatsProperties {
+
+    /**
+     * 内存增量写入汇总表的间隔，实例异常退出时最多丢失一个间隔内的增量
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * 累加器分段数，并发更新同一统计项的线程分散到不同分段
+     */
+    private int stripes = 16;
+}
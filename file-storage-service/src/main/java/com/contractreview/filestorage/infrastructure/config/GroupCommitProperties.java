@@ -0,0 +1,43 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 文件记录组提交配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.group-commit")
+@Data
+public class GroupCommitProperties {
+
+    /**
+     * 是否启用组提交，关闭时每条记录单独插入和提交
+     */
+    private boolean enabled = true;
+
+    /**
+     * 收集窗口：第一条记录到达后最多等待该时长，合并期间到达的其他记录
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * 每批最多合并的记录数，不超过主键序列步长时一个批次只需取号一次
+     */
+    private int maxBatchSize = 50;
+
+    /**
+     * 等待写入的记录队列容量，队列满时拒绝
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 调用方等待所在批次提交的最长时间，超时后放弃等待；已写入的待提交记录由对账任务清理
+     */
+    private Duration commitTimeout = Duration.ofSeconds(30);
+}
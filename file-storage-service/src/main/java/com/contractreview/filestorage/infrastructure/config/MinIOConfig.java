@@ -1,6 +1,7 @@
 package com.contractreview.filestorage.infrastructure.config;
 
 import com.contractreview.filestorage.domain.service.BucketNameValidator;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -42,4 +43,15 @@ public class MinIOConfig {
                 .credentials(accessKey, secretKey)
                 .build();
     }
+
+    /**
+     * 异步客户端，请求在OkHttp调度线程上完成，不占用调用方线程
+     */
+    @Bean
+    public MinioAsyncClient minioAsyncClient() {
+        return MinioAsyncClient.builder()
+                .endpoint(endpoint)
+                .credentials(accessKey, secretKey)
+                .build();
+    }
 }
\ No newline at end of file
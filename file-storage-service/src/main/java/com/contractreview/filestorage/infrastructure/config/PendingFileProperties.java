@@ -0,0 +1,33 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 未提交文件记录清理配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.pending")
+@Data
+public class PendingFileProperties {
+
+    /**
+     * 待提交记录的最长存活时间，需大于单个文件的最长传输时间，超过后视为已放弃
+     */
+    private Duration timeout = Duration.ofHours(1);
+
+    /**
+     * 清理任务执行间隔
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+
+    /**
+     * 每次清理处理的最大记录数
+     */
+    private int batchSize = 100;
+}
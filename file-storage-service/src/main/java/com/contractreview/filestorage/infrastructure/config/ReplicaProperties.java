@@ -0,0 +1,29 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 只读副本配置
+ * 连接参数通过 file-storage.replica.datasource.* 绑定到副本连接池
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.replica")
+@Data
+public class ReplicaProperties {
+
+    /**
+     * 是否启用只读副本，启用后只读事务路由到副本
+     */
+    private boolean enabled = false;
+
+    /**
+     * 读己之写窗口：本实例写入的文件在事务提交后该时长内直接查主库，需大于副本的最大复制延迟
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(30);
+}
@@ -0,0 +1,41 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 传输准入配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.admission")
+@Data
+public class TransferAdmissionProperties {
+
+    /**
+     * 是否启用传输字节预算
+     */
+    private boolean enabled = true;
+
+    /**
+     * 全局字节预算：所有进行中的传输在内存中占用的字节数上限
+     */
+    private DataSize globalBudget = DataSize.ofMegabytes(256);
+
+    /**
+     * 存储桶字节预算（可选），未配置的存储桶只受全局预算限制
+     */
+    private Map<String, DataSize> bucketBudgets = new LinkedHashMap<>();
+
+    /**
+     * 预算不足时的最长排队等待时间，超时后拒绝
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
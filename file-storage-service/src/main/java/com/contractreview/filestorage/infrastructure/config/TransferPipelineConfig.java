@@ -0,0 +1,32 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 加密上传流水线线程池配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+public class TransferPipelineConfig {
+
+    /**
+     * 读取和加密阶段的线程池，每个传输占用两个线程，容量由 maxConcurrentTransfers 限定
+     * 阶段线程结束计数后才回到池中，新传输可能在此间隙提交；并发传输数已由信号量限制，
+     * 队列容纳全部阶段任务，间隙内提交的任务排队等待而不是被拒绝
+     */
+    @Bean
+    public ThreadPoolTaskExecutor transferPipelineExecutor(TransferPipelineProperties properties) {
+        int stageThreads = properties.getMaxConcurrentTransfers() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stageThreads);
+        executor.setMaxPoolSize(stageThreads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(stageThreads);
+        executor.setThreadNamePrefix("transfer-pipeline-");
+        executor.initialize();
+        return executor;
+    }
+}
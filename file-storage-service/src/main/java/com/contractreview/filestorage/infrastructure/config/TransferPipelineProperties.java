@@ -0,0 +1,37 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 加密上传流水线配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file-storage.pipeline")
+@Data
+public class TransferPipelineProperties {
+
+    /**
+     * 是否启用读取、加密、上传三段流水线，关闭时退回整块加密后上传
+     */
+    private boolean enabled = true;
+
+    /**
+     * 每个缓冲块的大小
+     */
+    private DataSize chunkSize = DataSize.ofMegabytes(1);
+
+    /**
+     * 每段之间的缓冲块数量（单次传输最多占用 2 * queueDepth 个缓冲块）
+     */
+    private int queueDepth = 4;
+
+    /**
+     * 同时进行的流水线传输数，超出时排队等待
+     */
+    private int maxConcurrentTransfers = 16;
+}
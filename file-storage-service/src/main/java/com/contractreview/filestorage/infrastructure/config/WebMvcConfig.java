@@ -0,0 +1,41 @@
+package com.contractreview.filestorage.infrastructure.config;
+
+import com.contractreview.filestorage.infrastructure.concurrency.ConcurrencyLimiters;
+import com.contractreview.filestorage.infrastructure.concurrency.LaneBulkheads;
+import com.contractreview.filestorage.interfaces.rest.support.ConcurrencyLimitInterceptor;
+import com.contractreview.filestorage.interfaces.rest.support.LaneBulkheadInterceptor;
+import com.contractreview.filestorage.interfaces.rest.support.ResponseReservationInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC配置
+ * 
+ * @author ContractReview Team
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ConcurrencyLimiters> concurrencyLimiters;
+    private final ObjectProvider<LaneBulkheads> laneBulkheads;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 下载内容的传输预算在响应写出后释放，所有接口都需注册，否则预算不会归还
+        registry.addInterceptor(new ResponseReservationInterceptor());
+        // 控制器切片测试中不加载限制器，此时不注册拦截器
+        // 先按自适应上限快速拒绝，再进入通道隔离舱（可能短暂排队）
+        concurrencyLimiters.ifAvailable(limiters -> registry
+            .addInterceptor(new ConcurrencyLimitInterceptor(limiters, objectMapper))
+            .addPathPatterns("/api/v1/files/**"));
+        laneBulkheads.ifAvailable(bulkheads -> registry
+            .addInterceptor(new LaneBulkheadInterceptor(bulkheads, objectMapper))
+            .addPathPatterns("/api/v1/files/**"));
+    }
+}
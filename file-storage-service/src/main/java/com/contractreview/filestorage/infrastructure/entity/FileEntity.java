@@ -4,30 +4,56 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.annotations.SQLRestriction;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 /**
  * 文件实体类 - 对应数据库表
+ * JPA查询只可见已提交的记录，未提交记录通过原生SQL访问；
+ * 表按 attachment_time（UUID中的时间戳）按月分区，按主键更新和删除时会带上分区键
  * 
  * @author ContractReview Team
  */
 @Entity
 @Table(name = "file")
+@SQLRestriction("status = 'COMMITTED'")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class FileEntity {
 
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_COMMITTED = "COMMITTED";
+    public static final String STATUS_ABANDONED = "ABANDONED";
+    public static final String STATUS_DELETED = "DELETED";
+
+    /**
+     * 主键序列步长，需与数据库序列的INCREMENT一致
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * 序列按块分配（pooled），一次取号可供一个批次的插入使用，插入才能合并为JDBC批量语句
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_id_seq")
+    @SequenceGenerator(name = "file_id_seq", sequenceName = "file_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "attachment_uuid", nullable = false, unique = true, length = 50)
     private String attachmentUuid;
 
+    /**
+     * 分区键：attachmentUuid 的时间戳部分，创建后不可修改
+     */
+    @PartitionKey
+    @Column(name = "attachment_time", nullable = false, updatable = false)
+    private LocalDateTime attachmentTime;
+
     @Column(name = "directory", length = 400)
     private String directory;
 
@@ -56,6 +82,25 @@ public class FileEntity {
     @Column(name = "encryption_algorithm", length = 20)
     private String encryptionAlgorithm;
 
+    /**
+     * 内容哈希，非空时内容存储在共享对象中（file_blob）
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * 过期时间，为空表示永久保存
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 记录状态：PENDING（对象传输中）、COMMITTED、ABANDONED（待清理）、DELETED（已删除，等待清理对象）
+     */
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_COMMITTED;
+
     @Column(name = "created_time")
     private LocalDateTime createdTime;
 
@@ -0,0 +1,54 @@
+package com.contractreview.filestorage.infrastructure.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 文件变更事件实体类 - 对应数据库表
+ * 
+ * @author ContractReview Team
+ */
+@Entity
+@Table(name = "file_event")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Column(name = "attachment_uuid", nullable = false, length = 50)
+    private String attachmentUuid;
+
+    @Column(name = "bucket_name", length = 60)
+    private String bucketName;
+
+    @Column(name = "file_url", length = 120)
+    private String fileUrl;
+
+    @Column(name = "file_name", length = 240)
+    private String fileName;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "source_type", length = 60)
+    private String sourceType;
+
+    /**
+     * 由数据库 clock_timestamp() 填充，记录实际写入时刻而非事务开始时刻
+     */
+    @Column(name = "created_time", insertable = false, updatable = false)
+    private LocalDateTime createdTime;
+}
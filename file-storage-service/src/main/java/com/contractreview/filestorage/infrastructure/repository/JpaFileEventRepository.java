@@ -0,0 +1,48 @@
+package com.contractreview.filestorage.infrastructure.repository;
+
+import com.contractreview.filestorage.infrastructure.entity.FileEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA文件变更事件仓储接口
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+public interface JpaFileEventRepository extends JpaRepository<FileEventEntity, Long> {
+
+    /**
+     * 查询指定ID之后、且写入时间早于 now() - settleMillis 的事件
+     */
+    @Query(value = "SELECT * FROM file_event " +
+                   "WHERE id > :afterId " +
+                   "AND (CAST(:bucketName AS varchar) IS NULL OR bucket_name = :bucketName) " +
+                   "AND created_time < clock_timestamp() - make_interval(secs => :settleMillis / 1000.0) " +
+                   "ORDER BY id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<FileEventEntity> findAfter(@Param("afterId") long afterId,
+                                    @Param("bucketName") String bucketName,
+                                    @Param("settleMillis") long settleMillis,
+                                    @Param("limit") int limit);
+
+    /**
+     * 获取当前最大事件ID
+     */
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM file_event", nativeQuery = true)
+    long findLatestId();
+
+    /**
+     * 删除早于 now() - retentionMillis 的事件
+     */
+    @Modifying
+    @Query(value = "DELETE FROM file_event " +
+                   "WHERE created_time < clock_timestamp() - make_interval(secs => :retentionMillis / 1000.0)",
+           nativeQuery = true)
+    int deleteOlderThan(@Param("retentionMillis") long retentionMillis);
+}
@@ -1,46 +1,173 @@
 package com.contractreview.filestorage.infrastructure.repository;
 
+import com.contractreview.filestorage.domain.repository.FileSummary;
 import com.contractreview.filestorage.infrastructure.entity.FileEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA文件资源仓储接口
+ * 按UUID访问的方法都带上分区键 attachmentTime，查询只访问对应月份的分区；
+ * 按URL的访问由仓储实现解析出UUID后按UUID查询
  * 
  * @author ContractReview Team
  */
 @Repository
 public interface JpaFileResourceRepository extends JpaRepository<FileEntity, Long> {
 
+    String SUMMARY_FIELDS = "f.attachmentUuid, f.fileUrl, f.fileName, f.fileSize, f.fileType, " +
+                            "f.bucketName, f.directory, f.isEncrypted, f.createdTime, f.updatedTime";
+
     /**
      * 根据UUID查找文件
      */
-    Optional<FileEntity> findByAttachmentUuid(String attachmentUuid);
+    Optional<FileEntity> findByAttachmentUuidAndAttachmentTime(String attachmentUuid, LocalDateTime attachmentTime);
 
     /**
-     * 根据文件URL查找文件
+     * 检查UUID是否存在
      */
-    Optional<FileEntity> findByFileUrl(String fileUrl);
+    boolean existsByAttachmentUuidAndAttachmentTime(String attachmentUuid, LocalDateTime attachmentTime);
 
     /**
-     * 根据UUID删除文件
+     * 根据UUID查询只读投影，构造DTO而非托管实体，不生成脏检查快照
      */
-    void deleteByAttachmentUuid(String attachmentUuid);
+    @Query("SELECT new com.contractreview.filestorage.domain.repository.FileSummary(" + SUMMARY_FIELDS + ") " +
+           "FROM FileEntity f WHERE f.attachmentUuid = :attachmentUuid AND f.attachmentTime = :attachmentTime")
+    Optional<FileSummary> findSummaryByAttachmentUuid(@Param("attachmentUuid") String attachmentUuid,
+                                                      @Param("attachmentTime") LocalDateTime attachmentTime);
 
     /**
-     * 根据文件URL删除文件
+     * 键集分页查询：从 (cursorTime, cursorId) 之后开始，按 created_time, id 升序
+     * 游标条件使用行值比较，可直接作为 (bucket_name, created_time, id) 索引的扫描起点；
+     * 拆成 OR 形式的条件无法作为索引范围边界，只能扫描后过滤
      */
-    void deleteByFileUrl(String fileUrl);
+    @Query("SELECT f FROM FileEntity f " +
+           "WHERE f.bucketName = :bucketName " +
+           "AND (:sourceType IS NULL OR f.sourceType = :sourceType) " +
+           "AND f.createdTime >= :createdFrom AND f.createdTime < :createdTo " +
+           "AND (f.createdTime, f.id) > (:cursorTime, :cursorId) " +
+           "ORDER BY f.createdTime ASC, f.id ASC")
+    List<FileEntity> findPageAfter(@Param("bucketName") String bucketName,
+                                   @Param("sourceType") String sourceType,
+                                   @Param("createdFrom") LocalDateTime createdFrom,
+                                   @Param("createdTo") LocalDateTime createdTo,
+                                   @Param("cursorTime") LocalDateTime cursorTime,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
 
     /**
-     * 检查UUID是否存在
+     * 待提交记录标记为已提交（实体上的已提交过滤条件不作用于原生SQL），同时记录去重存储的内容哈希
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET status = 'COMMITTED', content_hash = :contentHash, updated_time = :now " +
+                   "WHERE attachment_uuid = :attachmentUuid AND attachment_time = :attachmentTime " +
+                   "AND status = 'PENDING'", nativeQuery = true)
+    int markCommitted(@Param("attachmentUuid") String attachmentUuid,
+                      @Param("attachmentTime") LocalDateTime attachmentTime,
+                      @Param("contentHash") String contentHash,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 未提交记录标记为已放弃，已提交的记录不受影响
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET status = 'ABANDONED' " +
+                   "WHERE attachment_uuid = :attachmentUuid AND attachment_time = :attachmentTime " +
+                   "AND status IN ('PENDING', 'ABANDONED')", nativeQuery = true)
+    int markAbandoned(@Param("attachmentUuid") String attachmentUuid,
+                      @Param("attachmentTime") LocalDateTime attachmentTime);
+
+    /**
+     * 删除已放弃的记录
+     */
+    @Modifying
+    @Query(value = "DELETE FROM file WHERE attachment_uuid = :attachmentUuid AND attachment_time = :attachmentTime " +
+                   "AND status = 'ABANDONED'", nativeQuery = true)
+    int deleteAbandoned(@Param("attachmentUuid") String attachmentUuid,
+                        @Param("attachmentTime") LocalDateTime attachmentTime);
+
+    /**
+     * 已提交记录标记为已删除，立即进入删除队列
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET status = 'DELETED', purge_after = :now, updated_time = :now " +
+                   "WHERE id = :id AND attachment_time = :attachmentTime AND status = 'COMMITTED'", nativeQuery = true)
+    int markDeleted(@Param("id") Long id,
+                    @Param("attachmentTime") LocalDateTime attachmentTime,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 锁定一批已到期的已提交记录（走过期队列部分索引），跳过其他实例正在处理的记录
+     */
+    @Query(value = "SELECT * FROM file WHERE status = 'COMMITTED' AND expires_at IS NOT NULL " +
+                   "AND expires_at <= :now ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<FileEntity> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 到期记录批量标记为已删除，立即进入删除队列
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET status = 'DELETED', purge_after = :now, updated_time = :now " +
+                   "WHERE id IN (:ids) AND attachment_time IN (:attachmentTimes) AND status = 'COMMITTED'",
+           nativeQuery = true)
+    int markExpired(@Param("ids") List<Long> ids,
+                    @Param("attachmentTimes") Collection<LocalDateTime> attachmentTimes,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 锁定已到重试时间的已删除记录，跳过其他实例已锁定的记录
+     */
+    @Query(value = "SELECT * FROM file WHERE status = 'DELETED' AND purge_after <= :now " +
+                   "ORDER BY purge_after LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<FileEntity> lockPurgeable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 推迟已锁定记录的清理时间作为认领租约
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET purge_after = :leaseUntil " +
+                   "WHERE id IN (:ids) AND attachment_time IN (:attachmentTimes) AND status = 'DELETED'",
+           nativeQuery = true)
+    int claimPurge(@Param("ids") List<Long> ids,
+                   @Param("attachmentTimes") Collection<LocalDateTime> attachmentTimes,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 对象删除失败，按失败次数指数退避后重试
+     */
+    @Modifying
+    @Query(value = "UPDATE file SET purge_attempts = purge_attempts + 1, " +
+                   "purge_after = :now + make_interval(secs => LEAST(:maxBackoffSeconds, " +
+                   ":initialBackoffSeconds * power(2, purge_attempts))) " +
+                   "WHERE id IN (:ids) AND attachment_time IN (:attachmentTimes) AND status = 'DELETED'",
+           nativeQuery = true)
+    int deferPurge(@Param("ids") List<Long> ids,
+                   @Param("attachmentTimes") Collection<LocalDateTime> attachmentTimes,
+                   @Param("now") LocalDateTime now,
+                   @Param("initialBackoffSeconds") long initialBackoffSeconds,
+                   @Param("maxBackoffSeconds") long maxBackoffSeconds);
+
+    /**
+     * 删除队列长度
      */
-    boolean existsByAttachmentUuid(String attachmentUuid);
+    @Query(value = "SELECT count(*) FROM file WHERE status = 'DELETED'", nativeQuery = true)
+    long countDeleted();
 
     /**
-     * 检查文件URL是否存在
+     * 查询超时未提交和已放弃的记录
      */
-    boolean existsByFileUrl(String fileUrl);
-}
\ No newline at end of file
+    @Query(value = "SELECT * FROM file WHERE status IN ('PENDING', 'ABANDONED') " +
+                   "AND (status = 'ABANDONED' OR created_time < :pendingBefore) " +
+                   "ORDER BY created_time LIMIT :limit", nativeQuery = true)
+    List<FileEntity> findStaleUncommitted(@Param("pendingBefore") LocalDateTime pendingBefore,
+                                          @Param("limit") int limit);
+}
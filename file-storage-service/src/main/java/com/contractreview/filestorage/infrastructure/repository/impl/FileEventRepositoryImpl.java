@@ -0,0 +1,75 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileEvent;
+import com.contractreview.filestorage.domain.repository.FileEventRepository;
+import com.contractreview.filestorage.infrastructure.entity.FileEventEntity;
+import com.contractreview.filestorage.infrastructure.repository.JpaFileEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 文件变更事件仓储实现
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class FileEventRepositoryImpl implements FileEventRepository {
+
+    private final JpaFileEventRepository jpaRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(FileEvent event) {
+        jpaRepository.save(FileEventEntity.builder()
+                .eventType(event.getEventType().name())
+                .attachmentUuid(event.getAttachmentUuid())
+                .bucketName(event.getBucketName())
+                .fileUrl(event.getFileUrl())
+                .fileName(event.getFileName())
+                .fileSize(event.getFileSize())
+                .sourceType(event.getSourceType())
+                .build());
+    }
+
+    @Override
+    public List<FileEvent> findAfter(long afterId, String bucketName, Duration settleDelay, int limit) {
+        return jpaRepository.findAfter(afterId, bucketName, settleDelay.toMillis(), limit)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long findLatestId() {
+        return jpaRepository.findLatestId();
+    }
+
+    @Override
+    @Transactional
+    public int deleteOlderThan(Duration retention) {
+        return jpaRepository.deleteOlderThan(retention.toMillis());
+    }
+
+    /**
+     * 实体转领域对象
+     */
+    private FileEvent toDomain(FileEventEntity entity) {
+        return FileEvent.rebuild(
+                entity.getId(),
+                FileEvent.EventType.valueOf(entity.getEventType()),
+                entity.getAttachmentUuid(),
+                entity.getBucketName(),
+                entity.getFileUrl(),
+                entity.getFileName(),
+                entity.getFileSize(),
+                entity.getSourceType(),
+                entity.getCreatedTime()
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.infrastructure.config.GroupCommitProperties;
+import com.contractreview.filestorage.infrastructure.entity.FileEntity;
+import com.contractreview.filestorage.infrastructure.repository.JpaFileResourceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 文件记录组提交写入器
+ * 并发上传的插入请求进入队列，由单个写入线程在收集窗口内合并，
+ * 一个事务内批量插入并提交后再逐个完成调用方的Future。
+ * 持续上传速率因此不再受单行提交延迟限制；批次失败时逐条重试，单条记录的错误不影响同批其他记录。
+ * 调用方最多等待提交超时时长；写入线程遇到任何异常都会以异常完成所在批次，退出时以异常完成队列中剩余的记录，
+ * 调用方不会无限期等待
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Component
+public class FileInsertGroupCommitter {
+
+    private final JpaFileResourceRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public FileInsertGroupCommitter(JpaFileResourceRepository jpaRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    GroupCommitProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizeSummary = DistributionSummary.builder("file.group-commit.batch.size")
+            .description("每次组提交写入的记录数")
+            .register(meterRegistry);
+        meterRegistry.gauge("file.group-commit.queue.depth", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::run, "file-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 插入一条记录，等待所在批次提交后返回（主键已分配）
+     *
+     * @throws RejectedExecutionException 写入队列已满或写入器已停止
+     * @throws QueryTimeoutException 超过提交超时仍未提交
+     */
+    public FileEntity insert(FileEntity entity) {
+        if (!running) {
+            throw new RejectedExecutionException("文件记录写入器已停止");
+        }
+        PendingInsert pending = new PendingInsert(entity, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new RejectedExecutionException("文件记录写入队列已满，请稍后重试");
+        }
+        if (!running && queue.remove(pending)) {
+            // 入队时写入器已停止，写入线程可能已退出
+            throw new RejectedExecutionException("文件记录写入器已停止");
+        }
+        try {
+            return pending.future().get(properties.getCommitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 仍在队列中的记录不会再写入；已进入批次的记录可能稍后提交，作为待提交记录由对账任务清理
+            queue.remove(pending);
+            throw new QueryTimeoutException("文件记录写入等待超时: " + properties.getCommitTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new DataAccessResourceFailureException("等待文件记录写入时被中断", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new DataAccessResourceFailureException("文件记录写入失败", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<PendingInsert> batch = new ArrayList<>(properties.getMaxBatchSize());
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    // 停止时继续写完队列中剩余的记录
+                    queue.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+                }
+                if (!batch.isEmpty()) {
+                    writeOrFail(batch);
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            queue.drainTo(batch);
+            RejectedExecutionException stopped = new RejectedExecutionException("文件记录写入器已停止");
+            batch.forEach(pending -> pending.future().completeExceptionally(stopped));
+        }
+    }
+
+    /**
+     * 写入一个批次；逐条重试之外的任何异常都以异常完成批次中尚未完成的记录，写入线程继续处理后续批次
+     */
+    private void writeOrFail(List<PendingInsert> batch) {
+        try {
+            write(batch);
+        } catch (Throwable e) {
+            log.error("文件记录批量写入异常: size={}", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 阻塞等待第一条记录，然后在收集窗口内继续合并后续记录，直到窗口结束或批次已满
+     */
+    private void collect(List<PendingInsert> batch) throws InterruptedException {
+        PendingInsert first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getWindow().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            if (queue.drainTo(batch, properties.getMaxBatchSize() - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void write(List<PendingInsert> batch) {
+        List<FileEntity> entities = batch.stream().map(PendingInsert::entity).toList();
+        try {
+            List<FileEntity> saved = transactionTemplate.execute(status -> jpaRepository.saveAllAndFlush(entities));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(saved.get(i));
+            }
+            batchSizeSummary.record(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.warn("文件记录批量写入失败，逐条重试: size={}", batch.size(), e);
+            for (PendingInsert pending : batch) {
+                // 失败批次中已分配的主键随事务回滚作废，重新分配
+                pending.entity().setId(null);
+                write(List.of(pending));
+            }
+        }
+    }
+
+    record PendingInsert(FileEntity entity, CompletableFuture<FileEntity> future) {
+    }
+}
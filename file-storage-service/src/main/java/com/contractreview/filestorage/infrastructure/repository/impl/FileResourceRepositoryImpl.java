@@ -1,18 +1,43 @@
 package com.contractreview.filestorage.infrastructure.repository.impl;
 
+import com.contractreview.filestorage.domain.model.FileBlob;
+import com.contractreview.filestorage.domain.model.FileEvent;
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.model.valueobject.*;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
+import com.contractreview.filestorage.domain.repository.FileEventRepository;
+import com.contractreview.filestorage.domain.repository.FileListQuery;
 import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSummary;
+import com.contractreview.filestorage.infrastructure.config.FileExpiryProperties;
+import com.contractreview.filestorage.infrastructure.config.GroupCommitProperties;
 import com.contractreview.filestorage.infrastructure.entity.FileEntity;
 import com.contractreview.filestorage.infrastructure.repository.JpaFileResourceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 文件资源仓储实现
+ * 新增、提交和删除会在同一事务中追加文件变更事件；
+ * 按UUID和URL的查询在只读事务中执行（启用副本时路由到副本），由读己之写保护决定是否改查主库，
+ * 新增、提交和删除在事务提交后登记到读己之写保护；
+ * 按URL的访问从URL中解析出UUID，经UUID唯一索引查询后再校验记录的URL与请求一致；
+ * 按UUID的访问都带上UUID时间戳作为分区键，只访问一个月份分区；
+ * 去重存储的记录提交时增加共享对象的引用，物理删除时在同一事务中只为实际删除的行释放；
+ * 记录提交、标记删除和直接删除在事务提交后计入存储统计；
+ * 新记录未指定过期时间时按存储桶默认保存时长计算
  * 
  * @author ContractReview Team
  */
@@ -20,54 +45,319 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FileResourceRepositoryImpl implements FileResourceRepository {
 
+    private static final String FILE_COPY_SOURCE_TYPE = "FILE_COPY";
+
     private final JpaFileResourceRepository jpaRepository;
+    private final FileEventRepository fileEventRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final FileInsertGroupCommitter groupCommitter;
+    private final GroupCommitProperties groupCommitProperties;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final FileStatsAccumulator fileStatsAccumulator;
+    private final FileExpiryProperties fileExpiryProperties;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
     public FileResource save(FileResource fileResource) {
         FileEntity entity = toEntity(fileResource);
+        if (fileResource.getId() == null) {
+            applyBucketTtl(entity);
+        }
         FileEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        FileResource saved = toDomain(savedEntity);
+        readYourWritesGuard.recordWrite(saved.getAttachmentUuid().getValue());
+        if (fileResource.getId() == null) {
+            FileEvent.EventType eventType = FILE_COPY_SOURCE_TYPE.equals(fileResource.getSourceType())
+                    ? FileEvent.EventType.COPIED : FileEvent.EventType.UPLOADED;
+            fileEventRepository.append(FileEvent.of(eventType, saved));
+            fileStatsAccumulator.recordAdded(saved);
+        }
+        return saved;
+    }
+
+    /**
+     * 待提交记录是上传链路上唯一的插入，开启组提交时与并发上传合并为批量插入，调用线程不占用数据库连接
+     */
+    @Override
+    public FileResource savePending(FileResource fileResource) {
+        FileEntity entity = toEntity(fileResource);
+        entity.setStatus(FileEntity.STATUS_PENDING);
+        applyBucketTtl(entity);
+        if (groupCommitProperties.isEnabled()) {
+            return toDomain(groupCommitter.insert(entity));
+        }
+        return toDomain(jpaRepository.save(entity));
+    }
+
+    @Override
+    @Transactional
+    public FileResource commitPending(FileResource fileResource) {
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        if (jpaRepository.markCommitted(uuid, fileResource.getAttachmentUuid().getTimestamp(),
+                fileResource.getContentHash(), LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("待提交的文件记录不存在或已被放弃: " + uuid);
+        }
+        if (fileResource.isDeduplicated()) {
+            fileBlobRepository.addReference(blobOf(fileResource));
+        }
+        FileEvent.EventType eventType = FILE_COPY_SOURCE_TYPE.equals(fileResource.getSourceType())
+                ? FileEvent.EventType.COPIED : FileEvent.EventType.UPLOADED;
+        fileEventRepository.append(FileEvent.of(eventType, fileResource));
+        fileStatsAccumulator.recordAdded(fileResource);
+        readYourWritesGuard.recordWrite(uuid);
+        return fileResource;
+    }
+
+    @Override
+    @Transactional
+    public boolean abandonPending(AttachmentUuid uuid) {
+        return jpaRepository.markAbandoned(uuid.getValue(), uuid.getTimestamp()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAbandoned(AttachmentUuid uuid) {
+        jpaRepository.deleteAbandoned(uuid.getValue(), uuid.getTimestamp());
+    }
+
+    @Override
+    public List<FileResource> findStaleUncommitted(LocalDateTime pendingBefore, int limit) {
+        return jpaRepository.findStaleUncommitted(pendingBefore, limit).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean markDeleted(FileResource fileResource) {
+        if (jpaRepository.markDeleted(fileResource.getId(), fileResource.getAttachmentUuid().getTimestamp(),
+                LocalDateTime.now()) == 0) {
+            return false;
+        }
+        fileEventRepository.append(FileEvent.of(FileEvent.EventType.DELETED, fileResource));
+        fileStatsAccumulator.recordRemoved(fileResource);
+        readYourWritesGuard.recordWrite(fileResource.getAttachmentUuid().getValue());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<FileResource> expire(LocalDateTime now, int limit) {
+        List<FileResource> expired = jpaRepository.lockExpired(now, limit).stream()
+                .map(this::toDomain)
+                .toList();
+        if (!expired.isEmpty()) {
+            jpaRepository.markExpired(idsOf(expired), attachmentTimesOf(expired), now);
+            for (FileResource fileResource : expired) {
+                fileEventRepository.append(FileEvent.of(FileEvent.EventType.DELETED, fileResource));
+                fileStatsAccumulator.recordRemoved(fileResource);
+                readYourWritesGuard.recordWrite(fileResource.getAttachmentUuid().getValue());
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    @Transactional
+    public List<FileResource> claimPurgeable(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileResource> claimed = jpaRepository.lockPurgeable(now, limit).stream()
+                .map(this::toDomain)
+                .toList();
+        if (!claimed.isEmpty()) {
+            jpaRepository.claimPurge(idsOf(claimed), attachmentTimesOf(claimed), now.plus(lease));
+        }
+        return claimed;
+    }
+
+    /**
+     * 删除语句返回实际删除的行，已被其他实例或同步删除清理的行不会重复释放引用
+     */
+    @Override
+    @Transactional
+    public int purgeDeleted(List<FileResource> fileResources) {
+        if (fileResources.isEmpty()) {
+            return 0;
+        }
+        Object[] ids = idsOf(fileResources).toArray();
+        Object[] attachmentTimes = attachmentTimesOf(fileResources).stream().map(Timestamp::valueOf).toArray();
+        List<FileBlob> released = new ArrayList<>();
+        int[] purged = {0};
+        jdbcTemplate.query(
+                "DELETE FROM file WHERE id = ANY (?) AND attachment_time = ANY (?) AND status = 'DELETED' " +
+                "RETURNING bucket_name, content_hash",
+                statement -> {
+                    statement.setArray(1, statement.getConnection().createArrayOf("bigint", ids));
+                    statement.setArray(2, statement.getConnection().createArrayOf("timestamp", attachmentTimes));
+                },
+                rs -> {
+                    purged[0]++;
+                    String contentHash = rs.getString("content_hash");
+                    if (contentHash != null) {
+                        released.add(FileBlob.of(rs.getString("bucket_name"), contentHash));
+                    }
+                });
+        fileBlobRepository.releaseReferences(released);
+        return purged[0];
+    }
+
+    @Override
+    @Transactional
+    public void deferPurge(List<FileResource> fileResources, Duration initialBackoff, Duration maxBackoff) {
+        if (!fileResources.isEmpty()) {
+            jpaRepository.deferPurge(idsOf(fileResources), attachmentTimesOf(fileResources),
+                    LocalDateTime.now(), initialBackoff.toSeconds(), maxBackoff.toSeconds());
+        }
+    }
+
+    @Override
+    public long countDeleted() {
+        return jpaRepository.countDeleted();
     }
 
     @Override
     public Optional<FileResource> findByUuid(AttachmentUuid uuid) {
-        return jpaRepository.findByAttachmentUuid(uuid.getValue())
-                .map(this::toDomain);
+        return readYourWritesGuard.read(uuid.getValue(),
+                () -> jpaRepository.findByAttachmentUuidAndAttachmentTime(uuid.getValue(), uuid.getTimestamp())
+                        .map(this::toDomain),
+                Optional::isPresent);
     }
 
     @Override
     public Optional<FileResource> findByFileUrl(String fileUrl) {
-        return jpaRepository.findByFileUrl(fileUrl)
-                .map(this::toDomain);
+        return StorageLocation.parseUuid(fileUrl)
+                .flatMap(this::findByUuid)
+                .filter(fileResource -> fileUrl.equals(fileResource.getFileUrl()));
     }
 
     @Override
     @Transactional
     public void deleteByUuid(AttachmentUuid uuid) {
-        jpaRepository.deleteByAttachmentUuid(uuid.getValue());
+        jpaRepository.findByAttachmentUuidAndAttachmentTime(uuid.getValue(), uuid.getTimestamp())
+                .ifPresent(this::deleteWithEvent);
     }
 
     @Override
     @Transactional
     public void deleteByFileUrl(String fileUrl) {
-        jpaRepository.deleteByFileUrl(fileUrl);
+        StorageLocation.parseUuid(fileUrl)
+                .flatMap(uuid -> jpaRepository.findByAttachmentUuidAndAttachmentTime(uuid.getValue(), uuid.getTimestamp()))
+                .filter(entity -> fileUrl.equals(entity.getFileUrl()))
+                .ifPresent(this::deleteWithEvent);
     }
 
     @Override
     public boolean existsByUuid(AttachmentUuid uuid) {
-        return jpaRepository.existsByAttachmentUuid(uuid.getValue());
+        return readYourWritesGuard.read(uuid.getValue(),
+                () -> jpaRepository.existsByAttachmentUuidAndAttachmentTime(uuid.getValue(), uuid.getTimestamp()),
+                Boolean::booleanValue);
     }
 
     @Override
     public boolean existsByFileUrl(String fileUrl) {
-        return jpaRepository.existsByFileUrl(fileUrl);
+        return findSummaryByFileUrl(fileUrl).isPresent();
     }
 
     @Override
     public Optional<FileResource> findByFileUuid(String fileUuid) {
-        return jpaRepository.findByAttachmentUuid(fileUuid)
-                .map(this::toDomain);
+        LocalDateTime attachmentTime = attachmentTimeOf(fileUuid);
+        if (attachmentTime == null) {
+            return Optional.empty();
+        }
+        return readYourWritesGuard.read(fileUuid,
+                () -> jpaRepository.findByAttachmentUuidAndAttachmentTime(fileUuid, attachmentTime)
+                        .map(this::toDomain),
+                Optional::isPresent);
+    }
+
+    @Override
+    public Optional<FileSummary> findSummaryByUuid(String fileUuid) {
+        LocalDateTime attachmentTime = attachmentTimeOf(fileUuid);
+        if (attachmentTime == null) {
+            return Optional.empty();
+        }
+        return readYourWritesGuard.read(fileUuid,
+                () -> jpaRepository.findSummaryByAttachmentUuid(fileUuid, attachmentTime),
+                Optional::isPresent);
+    }
+
+    @Override
+    public Optional<FileSummary> findSummaryByFileUrl(String fileUrl) {
+        return StorageLocation.parseUuid(fileUrl)
+                .flatMap(uuid -> findSummaryByUuid(uuid.getValue()))
+                .filter(summary -> fileUrl.equals(summary.getFileUrl()));
+    }
+
+    @Override
+    public List<FileResource> findPage(FileListQuery query) {
+        FileCursor cursor = query.getEffectiveCursor();
+        return jpaRepository.findPageAfter(
+                        query.getBucketName(),
+                        query.getSourceType(),
+                        query.getEffectiveCreatedFrom(),
+                        query.getEffectiveCreatedTo(),
+                        cursor.getCreatedTime(),
+                        cursor.getId(),
+                        PageRequest.of(0, query.getLimit()))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private static List<Long> idsOf(List<FileResource> fileResources) {
+        return fileResources.stream().map(FileResource::getId).toList();
+    }
+
+    /**
+     * 按ID批量更新时同时带上分区键，只访问这批记录所在的月份分区
+     */
+    private static Set<LocalDateTime> attachmentTimesOf(List<FileResource> fileResources) {
+        return fileResources.stream()
+                .map(fileResource -> fileResource.getAttachmentUuid().getTimestamp())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 解析UUID中的时间戳作为分区键，格式不合法的UUID不存在对应记录，返回null
+     */
+    private static LocalDateTime attachmentTimeOf(String fileUuid) {
+        try {
+            return AttachmentUuid.of(fileUuid).getTimestamp();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 删除实体并追加删除事件
+     */
+    private void deleteWithEvent(FileEntity entity) {
+        FileResource fileResource = toDomain(entity);
+        jpaRepository.delete(entity);
+        if (fileResource.isDeduplicated()) {
+            fileBlobRepository.releaseReferences(List.of(blobOf(fileResource)));
+        }
+        fileEventRepository.append(FileEvent.of(FileEvent.EventType.DELETED, fileResource));
+        fileStatsAccumulator.recordRemoved(fileResource);
+        readYourWritesGuard.recordWrite(fileResource.getAttachmentUuid().getValue());
+    }
+
+    /**
+     * 新记录未指定过期时间时，按存储桶默认保存时长从创建时间起计算
+     */
+    private void applyBucketTtl(FileEntity entity) {
+        if (entity.getExpiresAt() != null) {
+            return;
+        }
+        Duration ttl = fileExpiryProperties.getBucketTtls().get(entity.getBucketName());
+        if (ttl != null) {
+            entity.setExpiresAt(entity.getCreatedTime().plus(ttl));
+        }
+    }
+
+    private static FileBlob blobOf(FileResource fileResource) {
+        return FileBlob.of(fileResource.getStorageLocation().getBucketName(), fileResource.getContentHash());
     }
 
     /**
@@ -77,6 +367,7 @@ public class FileResourceRepositoryImpl implements FileResourceRepository {
         return FileEntity.builder()
                 .id(fileResource.getId())
                 .attachmentUuid(fileResource.getAttachmentUuid().getValue())
+                .attachmentTime(fileResource.getAttachmentUuid().getTimestamp())
                 .directory(fileResource.getStorageLocation().getDirectory())
                 .fileUrl(fileResource.getStorageLocation().getFileUrl())
                 .fileType(fileResource.getMetadata().getFileType())
@@ -86,6 +377,8 @@ public class FileResourceRepositoryImpl implements FileResourceRepository {
                 .sourceType(fileResource.getSourceType())
                 .isEncrypted(fileResource.getEncryptionMetadata().getIsEncrypted())
                 .encryptionAlgorithm(fileResource.getEncryptionMetadata().getEncryptionAlgorithm())
+                .contentHash(fileResource.getContentHash())
+                .expiresAt(fileResource.getExpiresAt())
                 .createdTime(fileResource.getMetadata().getCreatedTime())
                 .updatedTime(fileResource.getMetadata().getUpdatedTime())
                 .build();
@@ -119,7 +412,9 @@ public class FileResourceRepositoryImpl implements FileResourceRepository {
                 metadata,
                 location,
                 encryption,
-                entity.getSourceType()
+                entity.getSourceType(),
+                entity.getContentHash(),
+                entity.getExpiresAt()
         );
     }
 }
\ No newline at end of file
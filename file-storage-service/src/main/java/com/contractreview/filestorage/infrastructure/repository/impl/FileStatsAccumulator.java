@@ -0,0 +1,160 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileStats;
+import com.contractreview.filestorage.domain.repository.FileStatsRepository;
+import com.contractreview.filestorage.infrastructure.config.FileStatsProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 存储统计累加器
+ * 文件记录提交和删除的事务提交后，把增量累加到内存中的分段计数表，由定时任务合并各分段后批量写入汇总表。
+ * 同一统计项的并发更新随机分散到不同分段，只在分段内按键加锁；
+ * 写入失败时增量放回累加器，下次重试；
+ * 定时写入与停机写入用 ReentrantLock 串行，持锁等待数据库时不占住虚拟线程的载体线程
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Component
+public class FileStatsAccumulator {
+
+    private final FileStatsRepository fileStatsRepository;
+    private final List<ConcurrentHashMap<StatsKey, Counter>> stripes;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public FileStatsAccumulator(FileStatsRepository fileStatsRepository, FileStatsProperties properties) {
+        this.fileStatsRepository = fileStatsRepository;
+        int stripeCount = Math.max(1, properties.getStripes());
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 记录新增的文件，在事务中调用时等事务提交后生效
+     */
+    public void recordAdded(FileResource fileResource) {
+        record(fileResource, 1);
+    }
+
+    /**
+     * 记录删除的文件，在事务中调用时等事务提交后生效
+     */
+    public void recordRemoved(FileResource fileResource) {
+        record(fileResource, -1);
+    }
+
+    /**
+     * 合并各分段的增量并写入汇总表
+     */
+    @Scheduled(fixedDelayString = "#{@fileStatsProperties.flushInterval.toMillis()}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<StatsKey, Counter> drained = drain();
+            List<FileStats> deltas = drained.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .map(entry -> entry.getKey().toStats(entry.getValue()))
+                .toList();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                fileStatsRepository.apply(deltas);
+                log.debug("存储统计已写入: items={}", deltas.size());
+            } catch (RuntimeException e) {
+                log.warn("存储统计写入失败，增量保留到下次写入: items={}", deltas.size(), e);
+                drained.forEach((key, counter) -> add(key, counter.fileCount, counter.totalBytes));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void record(FileResource fileResource, int sign) {
+        StatsKey key = new StatsKey(
+            fileResource.getStorageLocation().getBucketName(),
+            fileResource.getMetadata().getCreatedTime().toLocalDate(),
+            fileResource.getMetadata().getFileExtension(),
+            Boolean.TRUE.equals(fileResource.getEncryptionMetadata().getIsEncrypted()));
+        long bytes = sign * fileResource.getMetadata().getFileSize();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(key, sign, bytes);
+                }
+            });
+        } else {
+            add(key, sign, bytes);
+        }
+    }
+
+    /**
+     * compute在分段内对键加锁，与drain的移除互斥，增量不会加到已取出的计数上
+     */
+    void add(StatsKey key, long fileCount, long totalBytes) {
+        stripes.get(ThreadLocalRandom.current().nextInt(stripes.size()))
+            .compute(key, (k, counter) -> (counter != null ? counter : new Counter()).add(fileCount, totalBytes));
+    }
+
+    /**
+     * 逐个移除各分段的计数并按键合并；移除期间新到的增量留在分段中，下次写入
+     */
+    private Map<StatsKey, Counter> drain() {
+        Map<StatsKey, Counter> drained = new HashMap<>();
+        for (ConcurrentHashMap<StatsKey, Counter> stripe : stripes) {
+            for (StatsKey key : stripe.keySet()) {
+                stripe.computeIfPresent(key, (k, counter) -> {
+                    drained.computeIfAbsent(k, absent -> new Counter()).add(counter.fileCount, counter.totalBytes);
+                    return null;
+                });
+            }
+        }
+        return drained;
+    }
+
+    record StatsKey(String bucketName, LocalDate statDate, String fileExtension, boolean encrypted) {
+
+        FileStats toStats(Counter counter) {
+            return FileStats.of(bucketName, statDate, fileExtension, encrypted, counter.fileCount, counter.totalBytes);
+        }
+    }
+
+    /**
+     * 只在所属分段的键锁内读写
+     */
+    private static final class Counter {
+        private long fileCount;
+        private long totalBytes;
+
+        Counter add(long fileCount, long totalBytes) {
+            this.fileCount += fileCount;
+            this.totalBytes += totalBytes;
+            return this;
+        }
+
+        boolean isZero() {
+            return fileCount == 0 && totalBytes == 0;
+        }
+    }
+}
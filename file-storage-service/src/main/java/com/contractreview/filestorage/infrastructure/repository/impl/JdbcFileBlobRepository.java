@@ -0,0 +1,116 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileBlob;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 基于JDBC的共享对象仓储实现
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcFileBlobRepository implements FileBlobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean touchStored(FileBlob blob) {
+        return jdbcTemplate.update(
+            "UPDATE file_blob SET last_referenced = now() WHERE bucket_name = ? AND content_hash = ? AND stored",
+            blob.getBucketName(), blob.getContentHash()) > 0;
+    }
+
+    @Override
+    public boolean register(FileBlob blob, long fileSize) {
+        return jdbcTemplate.update(
+            "INSERT INTO file_blob (bucket_name, content_hash, file_size) VALUES (?, ?, ?) " +
+            "ON CONFLICT (bucket_name, content_hash) DO UPDATE SET last_referenced = now() " +
+            "WHERE file_blob.collecting_since IS NULL",
+            blob.getBucketName(), blob.getContentHash(), fileSize) > 0;
+    }
+
+    @Override
+    public void markStored(FileBlob blob) {
+        jdbcTemplate.update(
+            "UPDATE file_blob SET stored = true, last_referenced = now() WHERE bucket_name = ? AND content_hash = ?",
+            blob.getBucketName(), blob.getContentHash());
+    }
+
+    @Override
+    public void addReference(FileBlob blob) {
+        int updated = jdbcTemplate.update(
+            "UPDATE file_blob SET ref_count = ref_count + 1, last_referenced = now() " +
+            "WHERE bucket_name = ? AND content_hash = ? AND stored",
+            blob.getBucketName(), blob.getContentHash());
+        if (updated == 0) {
+            throw new IllegalStateException("共享对象不存在: " + blob.getBucketName() + "/" + blob.getContentHash());
+        }
+    }
+
+    @Override
+    public void releaseReferences(List<FileBlob> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE file_blob SET ref_count = ref_count - 1, last_referenced = now() " +
+            "WHERE bucket_name = ? AND content_hash = ? AND ref_count > 0",
+            blobs, blobs.size(), (statement, blob) -> {
+                statement.setString(1, blob.getBucketName());
+                statement.setString(2, blob.getContentHash());
+            });
+    }
+
+    /**
+     * 外层UPDATE重新检查条件：与上传的登记、复用并发时，已被刷新引用时间的对象不会被认领
+     */
+    @Override
+    public List<FileBlob> claimUnreferenced(Duration grace, int limit, Duration claimTimeout) {
+        return jdbcTemplate.query(
+            "UPDATE file_blob SET stored = false, collecting_since = now() " +
+            "WHERE (bucket_name, content_hash) IN (" +
+            "  SELECT bucket_name, content_hash FROM file_blob " +
+            "  WHERE ref_count = 0 AND last_referenced < now() - make_interval(secs => ?) " +
+            "  AND (collecting_since IS NULL OR collecting_since < now() - make_interval(secs => ?)) " +
+            "  ORDER BY last_referenced LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "AND ref_count = 0 AND last_referenced < now() - make_interval(secs => ?) " +
+            "RETURNING bucket_name, content_hash",
+            (rs, rowNum) -> FileBlob.of(rs.getString("bucket_name"), rs.getString("content_hash")),
+            grace.toSeconds(), claimTimeout.toSeconds(), limit, grace.toSeconds());
+    }
+
+    @Override
+    public void releaseClaims(List<FileBlob> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE file_blob SET stored = true, collecting_since = NULL " +
+            "WHERE bucket_name = ? AND content_hash = ? AND collecting_since IS NOT NULL",
+            blobs, blobs.size(), (statement, blob) -> {
+                statement.setString(1, blob.getBucketName());
+                statement.setString(2, blob.getContentHash());
+            });
+    }
+
+    @Override
+    public void deleteAll(List<FileBlob> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "DELETE FROM file_blob WHERE bucket_name = ? AND content_hash = ? " +
+            "AND ref_count = 0 AND collecting_since IS NOT NULL",
+            blobs, blobs.size(), (statement, blob) -> {
+                statement.setString(1, blob.getBucketName());
+                statement.setString(2, blob.getContentHash());
+            });
+    }
+}
@@ -0,0 +1,168 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.repository.FileExportQuery;
+import com.contractreview.filestorage.domain.repository.FileExportRepository;
+import com.contractreview.filestorage.infrastructure.config.FileExportProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 基于JDBC服务端游标的文件元数据导出实现
+ * 直接将结果集逐行写出，不经过JPA实体和领域对象，内存占用与表大小无关
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class JdbcFileExportRepository implements FileExportRepository {
+
+    private static final String[] COLUMNS = {
+        "id", "attachment_uuid", "directory", "file_url", "file_type", "file_name", "file_size",
+        "bucket_name", "source_type", "is_encrypted", "encryption_algorithm", "created_time", "updated_time"
+    };
+
+    private static final String SELECT_COLUMNS = String.join(", ", COLUMNS);
+
+    private static final String EXPORT_BY_ID_SQL =
+        "SELECT " + SELECT_COLUMNS + " FROM file WHERE id > ? AND status = 'COMMITTED' ORDER BY id";
+
+    private static final String EXPORT_BY_UPDATED_TIME_SQL =
+        "SELECT " + SELECT_COLUMNS + " FROM file WHERE (updated_time, id) > (?, ?) AND status = 'COMMITTED' ORDER BY updated_time, id";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final FileExportProperties exportProperties;
+
+    @Override
+    public long export(FileExportQuery query, OutputStream outputStream) {
+        try (Connection connection = dataSource.getConnection()) {
+            // PostgreSQL 仅在非自动提交模式下使用服务端游标按 fetchSize 分批拉取
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = prepare(connection, query)) {
+                statement.setFetchSize(exportProperties.getFetchSize());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    long rows = query.getFormat() == FileExportQuery.Format.CSV
+                        ? writeCsv(resultSet, outputStream)
+                        : writeNdjson(resultSet, outputStream);
+                    log.info("文件元数据导出完成: format={}, rows={}", query.getFormat(), rows);
+                    return rows;
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            log.error("文件元数据导出失败", e);
+            throw new RuntimeException("文件元数据导出失败", e);
+        }
+    }
+
+    private PreparedStatement prepare(Connection connection, FileExportQuery query) throws SQLException {
+        PreparedStatement statement;
+        if (query.isIncremental()) {
+            statement = connection.prepareStatement(EXPORT_BY_UPDATED_TIME_SQL);
+            statement.setTimestamp(1, Timestamp.valueOf(query.getUpdatedSince()));
+            statement.setLong(2, query.getEffectiveAfterId());
+        } else {
+            statement = connection.prepareStatement(EXPORT_BY_ID_SQL);
+            statement.setLong(1, query.getEffectiveAfterId());
+        }
+        return statement;
+    }
+
+    private long writeNdjson(ResultSet resultSet, OutputStream outputStream) throws SQLException, IOException {
+        long rows = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (resultSet.next()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", resultSet.getLong("id"));
+            generator.writeStringField("attachmentUuid", resultSet.getString("attachment_uuid"));
+            generator.writeStringField("directory", resultSet.getString("directory"));
+            generator.writeStringField("fileUrl", resultSet.getString("file_url"));
+            generator.writeStringField("fileType", resultSet.getString("file_type"));
+            generator.writeStringField("fileName", resultSet.getString("file_name"));
+            writeNullableLong(generator, "fileSize", resultSet, "file_size");
+            generator.writeStringField("bucketName", resultSet.getString("bucket_name"));
+            generator.writeStringField("sourceType", resultSet.getString("source_type"));
+            generator.writeBooleanField("isEncrypted", resultSet.getBoolean("is_encrypted"));
+            generator.writeStringField("encryptionAlgorithm", resultSet.getString("encryption_algorithm"));
+            generator.writeStringField("createdTime", formatTime(resultSet, "created_time"));
+            generator.writeStringField("updatedTime", formatTime(resultSet, "updated_time"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++rows % exportProperties.getFetchSize() == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return rows;
+    }
+
+    private long writeCsv(ResultSet resultSet, OutputStream outputStream) throws SQLException, IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+        while (resultSet.next()) {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String column = COLUMNS[i];
+                String value = column.endsWith("_time") ? formatTime(resultSet, column) : resultSet.getString(column);
+                writer.write(escapeCsv(value));
+            }
+            writer.write('\n');
+            if (++rows % exportProperties.getFetchSize() == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeNullableLong(JsonGenerator generator, String field, ResultSet resultSet, String column)
+            throws SQLException, IOException {
+        long value = resultSet.getLong(column);
+        if (resultSet.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private String formatTime(ResultSet resultSet, String column) throws SQLException {
+        LocalDateTime time = resultSet.getObject(column, LocalDateTime.class);
+        return time != null ? time.toString() : null;
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
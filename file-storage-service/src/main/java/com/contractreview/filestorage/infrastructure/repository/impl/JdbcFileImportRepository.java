@@ -0,0 +1,304 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportCheckpoint;
+import com.contractreview.filestorage.domain.model.valueobject.FileImportSkip;
+import com.contractreview.filestorage.domain.repository.FileImportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 基于PostgreSQL COPY的元数据批量导入实现
+ * 先COPY到会话级临时表，再 INSERT ... ON CONFLICT DO NOTHING 合并到file表，保证重复导入幂等；
+ * 分区键 attachment_time 在合并时由UUID的时间戳部分计算；
+ * 实际插入的记录在同一语句中汇总后累加到存储统计表。
+ * 导入锁为会话级咨询锁，由一个专用连接在导入期间持有，实例宕机断开连接时自动释放
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class JdbcFileImportRepository implements FileImportRepository {
+
+    private static final String COLUMNS =
+        "attachment_uuid, directory, file_url, file_type, file_name, file_size, bucket_name, " +
+        "source_type, is_encrypted, encryption_algorithm, created_time, updated_time";
+
+    private static final String CREATE_STAGING_SQL =
+        "CREATE TEMP TABLE IF NOT EXISTS file_import_staging (" +
+        "attachment_uuid varchar(50), directory varchar(400), file_url varchar(120), file_type varchar(240), " +
+        "file_name varchar(240), file_size bigint, bucket_name varchar(60), source_type varchar(60), " +
+        "is_encrypted boolean, encryption_algorithm varchar(20), created_time timestamp, updated_time timestamp" +
+        ") ON COMMIT DELETE ROWS";
+
+    private static final String COPY_SQL =
+        "COPY file_import_staging (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_SQL =
+        "WITH inserted AS (" +
+        "INSERT INTO file (" + COLUMNS + ", attachment_time) SELECT " + COLUMNS + ", " +
+        "to_timestamp(left(attachment_uuid, 14), 'YYYYMMDDHH24MISS')::timestamp FROM file_import_staging " +
+        "ON CONFLICT (attachment_uuid, attachment_time) DO NOTHING " +
+        "RETURNING bucket_name, created_time, file_name, is_encrypted, file_size), " +
+        "daily AS (" +
+        "SELECT bucket_name, created_time::date AS stat_date, " +
+        "COALESCE(lower(substring(file_name from '\\.([^.]*)$')), '') AS file_extension, " +
+        "COALESCE(is_encrypted, false) AS is_encrypted, count(*) AS file_count, " +
+        "COALESCE(sum(file_size), 0) AS total_bytes " +
+        "FROM inserted GROUP BY 1, 2, 3, 4), " +
+        "daily_upsert AS (" +
+        "INSERT INTO file_stats_daily (bucket_name, stat_date, file_extension, is_encrypted, file_count, total_bytes) " +
+        "SELECT * FROM daily ORDER BY 1, 2, 3, 4 " +
+        "ON CONFLICT (bucket_name, stat_date, file_extension, is_encrypted) DO UPDATE SET " +
+        "file_count = file_stats_daily.file_count + EXCLUDED.file_count, " +
+        "total_bytes = file_stats_daily.total_bytes + EXCLUDED.total_bytes, updated_time = now()), " +
+        "bucket_upsert AS (" +
+        "INSERT INTO file_stats_bucket (bucket_name, file_count, total_bytes, encrypted_count, encrypted_bytes) " +
+        "SELECT bucket_name, sum(file_count), sum(total_bytes), " +
+        "COALESCE(sum(file_count) FILTER (WHERE is_encrypted), 0), " +
+        "COALESCE(sum(total_bytes) FILTER (WHERE is_encrypted), 0) " +
+        "FROM daily GROUP BY bucket_name ORDER BY bucket_name " +
+        "ON CONFLICT (bucket_name) DO UPDATE SET " +
+        "file_count = file_stats_bucket.file_count + EXCLUDED.file_count, " +
+        "total_bytes = file_stats_bucket.total_bytes + EXCLUDED.total_bytes, " +
+        "encrypted_count = file_stats_bucket.encrypted_count + EXCLUDED.encrypted_count, " +
+        "encrypted_bytes = file_stats_bucket.encrypted_bytes + EXCLUDED.encrypted_bytes, updated_time = now()) " +
+        "SELECT count(*) FROM inserted";
+
+    private static final String UPSERT_CHECKPOINT_SQL =
+        "INSERT INTO file_import_checkpoint " +
+        "(bucket_name, date_prefix, last_object_key, imported_count, skipped_count, completed, updated_time) " +
+        "VALUES (?, ?, ?, ?, ?, ?, now()) " +
+        "ON CONFLICT (bucket_name, date_prefix) DO UPDATE SET " +
+        "last_object_key = COALESCE(EXCLUDED.last_object_key, file_import_checkpoint.last_object_key), " +
+        "imported_count = file_import_checkpoint.imported_count + EXCLUDED.imported_count, " +
+        "skipped_count = file_import_checkpoint.skipped_count + EXCLUDED.skipped_count, " +
+        "completed = EXCLUDED.completed, updated_time = now()";
+
+    private static final String INSERT_SKIPPED_SQL =
+        "INSERT INTO file_import_skipped (bucket_name, object_key, date_prefix, reason) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (bucket_name, object_key) DO UPDATE SET " +
+        "date_prefix = EXCLUDED.date_prefix, reason = EXCLUDED.reason, skipped_time = now()";
+
+    private static final String SELECT_SKIPPED_SQL =
+        "SELECT object_key, reason FROM file_import_skipped WHERE bucket_name = ? ORDER BY object_key LIMIT ?";
+
+    private static final int REASON_MAX_LENGTH = 400;
+
+    private static final String LOCK_KEY_PREFIX = "file_import:";
+
+    /**
+     * pg_locks 中64位咨询锁的键拆为 classid（高32位）和 objid（低32位），objsubid 为1
+     */
+    private static final String IS_LOCKED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_locks WHERE locktype = 'advisory' AND objsubid = 1 " +
+        "AND granted AND ((classid::bigint << 32) | objid::bigint) = hashtext(?)::bigint)";
+
+    private static final String SELECT_CHECKPOINT_SQL =
+        "SELECT bucket_name, date_prefix, last_object_key, imported_count, skipped_count, completed, updated_time " +
+        "FROM file_import_checkpoint WHERE bucket_name = ?";
+
+    private static final RowMapper<FileImportCheckpoint> CHECKPOINT_ROW_MAPPER = (rs, rowNum) ->
+        FileImportCheckpoint.of(
+            rs.getString("bucket_name"),
+            rs.getString("date_prefix"),
+            rs.getString("last_object_key"),
+            rs.getLong("imported_count"),
+            rs.getLong("skipped_count"),
+            rs.getBoolean("completed"),
+            rs.getObject("updated_time", LocalDateTime.class)
+        );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int importBatch(String bucketName, String datePrefix, List<FileResource> batch,
+                           String lastObjectKey, List<FileImportSkip> skipped, boolean completed) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int inserted = 0;
+                if (!batch.isEmpty()) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(CREATE_STAGING_SQL);
+                    }
+                    connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(toCsv(batch)));
+                    try (Statement statement = connection.createStatement();
+                         ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+                        resultSet.next();
+                        inserted = resultSet.getInt(1);
+                    }
+                }
+
+                if (!skipped.isEmpty()) {
+                    try (PreparedStatement statement = connection.prepareStatement(INSERT_SKIPPED_SQL)) {
+                        for (FileImportSkip skip : skipped) {
+                            statement.setString(1, bucketName);
+                            statement.setString(2, skip.getObjectKey());
+                            statement.setString(3, datePrefix);
+                            statement.setString(4, StringUtils.abbreviate(skip.getReason(), REASON_MAX_LENGTH));
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                    }
+                }
+
+                try (PreparedStatement statement = connection.prepareStatement(UPSERT_CHECKPOINT_SQL)) {
+                    statement.setString(1, bucketName);
+                    statement.setString(2, datePrefix);
+                    statement.setString(3, lastObjectKey);
+                    statement.setLong(4, inserted);
+                    statement.setLong(5, skipped.size());
+                    statement.setBoolean(6, completed);
+                    statement.executeUpdate();
+                }
+
+                connection.commit();
+                return inserted;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            log.error("批量导入元数据失败: bucket={}, prefix={}, size={}", bucketName, datePrefix, batch.size(), e);
+            throw new RuntimeException("批量导入元数据失败", e);
+        }
+    }
+
+    @Override
+    public Optional<FileImportCheckpoint> findCheckpoint(String bucketName, String datePrefix) {
+        return jdbcTemplate.query(SELECT_CHECKPOINT_SQL + " AND date_prefix = ?",
+                CHECKPOINT_ROW_MAPPER, bucketName, datePrefix)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<FileImportCheckpoint> findCheckpoints(String bucketName) {
+        return jdbcTemplate.query(SELECT_CHECKPOINT_SQL + " ORDER BY date_prefix",
+            CHECKPOINT_ROW_MAPPER, bucketName);
+    }
+
+    @Override
+    public List<FileImportSkip> findSkipped(String bucketName, int limit) {
+        return jdbcTemplate.query(SELECT_SKIPPED_SQL,
+            (rs, rowNum) -> FileImportSkip.of(rs.getString("object_key"), rs.getString("reason")),
+            bucketName, limit);
+    }
+
+    @Override
+    public Optional<ImportLock> tryLock(String bucketName) {
+        String lockKey = LOCK_KEY_PREFIX + bucketName;
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            if (!queryBoolean(connection, "SELECT pg_try_advisory_lock(hashtext(?))", lockKey)) {
+                connection.close();
+                return Optional.empty();
+            }
+            Connection holder = connection;
+            return Optional.of(() -> unlock(holder, lockKey));
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new RuntimeException("获取存储桶导入锁失败: " + bucketName, e);
+        }
+    }
+
+    @Override
+    public boolean isLocked(String bucketName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_LOCKED_SQL, Boolean.class,
+            LOCK_KEY_PREFIX + bucketName));
+    }
+
+    /**
+     * 释放咨询锁后归还连接；释放失败时中止连接，结束会话以释放锁，避免持锁的连接回到连接池
+     */
+    private void unlock(Connection connection, String lockKey) {
+        try {
+            queryBoolean(connection, "SELECT pg_advisory_unlock(hashtext(?))", lockKey);
+        } catch (SQLException e) {
+            log.warn("释放存储桶导入锁失败，中止连接: key={}", lockKey, e);
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException abortFailure) {
+                log.debug("中止数据库连接失败", abortFailure);
+            }
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql, String lockKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("关闭数据库连接失败", e);
+        }
+    }
+
+    /**
+     * 转换为COPY CSV格式，未加引号的空字段表示NULL
+     */
+    private String toCsv(List<FileResource> batch) {
+        StringBuilder csv = new StringBuilder(batch.size() * 256);
+        for (FileResource resource : batch) {
+            appendField(csv, resource.getAttachmentUuid().getValue()).append(',');
+            appendField(csv, resource.getStorageLocation().getDirectory()).append(',');
+            appendField(csv, resource.getStorageLocation().getFileUrl()).append(',');
+            appendField(csv, resource.getMetadata().getFileType()).append(',');
+            appendField(csv, resource.getMetadata().getFileName()).append(',');
+            csv.append(resource.getMetadata().getFileSize()).append(',');
+            appendField(csv, resource.getStorageLocation().getBucketName()).append(',');
+            appendField(csv, resource.getSourceType()).append(',');
+            csv.append(resource.getEncryptionMetadata().getIsEncrypted()).append(',');
+            appendField(csv, resource.getEncryptionMetadata().getEncryptionAlgorithm()).append(',');
+            csv.append(resource.getMetadata().getCreatedTime()).append(',');
+            csv.append(resource.getMetadata().getUpdatedTime()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private StringBuilder appendField(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
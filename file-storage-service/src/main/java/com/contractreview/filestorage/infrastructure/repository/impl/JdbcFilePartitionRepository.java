@@ -0,0 +1,80 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.repository.FilePartitionRepository;
+import com.contractreview.filestorage.infrastructure.config.FilePartitionProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 基于PostgreSQL声明式分区的月份分区仓储实现
+ * 分区表名为 file_pyyyyMM，范围为当月1日（含）到次月1日（不含）。
+ * 建立和分离分区需要file表上的锁，在独立事务中设置锁等待上限后执行，
+ * 等锁超时抛出 {@link org.springframework.dao.PessimisticLockingFailureException}，不会排在长事务后面阻塞业务读写
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+public class JdbcFilePartitionRepository implements FilePartitionRepository {
+
+    private static final String PARTITION_PREFIX = "file_p";
+    private static final DateTimeFormatter SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FilePartitionProperties properties;
+
+    public JdbcFilePartitionRepository(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       FilePartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'file'::regclass AND c.relname ~ '^file_p[0-9]{6}$' ORDER BY c.relname",
+                String.class)
+            .stream()
+            .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX_FORMATTER))
+            .toList();
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        executeWithLockTimeout(String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF file FOR VALUES FROM ('%s') TO ('%s')",
+            tableName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public boolean hasUncommitted(YearMonth month) {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + tableName(month) + " WHERE status <> 'COMMITTED')", Boolean.class));
+    }
+
+    @Override
+    public void detachPartition(YearMonth month) {
+        executeWithLockTimeout("ALTER TABLE file DETACH PARTITION " + tableName(month));
+    }
+
+    private void executeWithLockTimeout(String ddl) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + properties.getLockTimeout().toMillis() + "ms'");
+            jdbcTemplate.execute(ddl);
+        });
+    }
+
+    private static String tableName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMATTER);
+    }
+}
@@ -0,0 +1,109 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
+import com.contractreview.filestorage.domain.model.valueobject.EncryptionMetadata;
+import com.contractreview.filestorage.domain.model.valueobject.FileMetadata;
+import com.contractreview.filestorage.domain.model.valueobject.StorageLocation;
+import com.contractreview.filestorage.domain.repository.FileSearchQuery;
+import com.contractreview.filestorage.domain.repository.FileSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基于JDBC的文件元数据搜索实现
+ * 只拼接有值的条件，避免 "? IS NULL OR ..." 形式的条件使执行计划无法利用索引；
+ * 文件名和类型的子串匹配使用 ILIKE，由 pg_trgm GIN 索引支持；
+ * 指定存储桶时按 (bucket_name, created_time, id) 索引排序，跨存储桶搜索按 (created_time, id) 索引排序
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcFileSearchRepository implements FileSearchRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT id, attachment_uuid, directory, file_url, file_type, file_name, file_size, bucket_name, " +
+        "source_type, is_encrypted, encryption_algorithm, content_hash, expires_at, created_time, updated_time " +
+        "FROM file WHERE status = 'COMMITTED'";
+
+    private static final RowMapper<FileResource> ROW_MAPPER = (rs, rowNum) ->
+        FileResource.rebuild(
+            rs.getLong("id"),
+            AttachmentUuid.of(rs.getString("attachment_uuid")),
+            FileMetadata.of(
+                rs.getString("file_name"),
+                rs.getString("file_type"),
+                rs.getObject("file_size", Long.class),
+                rs.getObject("created_time", LocalDateTime.class),
+                rs.getObject("updated_time", LocalDateTime.class)),
+            StorageLocation.of(
+                rs.getString("bucket_name"),
+                rs.getString("directory"),
+                rs.getString("file_url")),
+            EncryptionMetadata.of(
+                rs.getObject("is_encrypted", Boolean.class),
+                rs.getString("encryption_algorithm")),
+            rs.getString("source_type"),
+            rs.getString("content_hash"),
+            rs.getObject("expires_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 只读事务，启用副本时在副本上执行
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FileResource> search(FileSearchQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        if (query.getBucketName() != null) {
+            sql.append(" AND bucket_name = ?");
+            args.add(query.getBucketName());
+        }
+        if (query.getKeyword() != null) {
+            sql.append(" AND file_name ILIKE ?");
+            args.add(containsPattern(query.getKeyword()));
+        }
+        if (query.getFileType() != null) {
+            sql.append(" AND file_type ILIKE ?");
+            args.add(containsPattern(query.getFileType()));
+        }
+        if (query.getCreatedFrom() != null) {
+            sql.append(" AND created_time >= ?");
+            args.add(query.getCreatedFrom());
+        }
+        if (query.getCreatedTo() != null) {
+            sql.append(" AND created_time < ?");
+            args.add(query.getCreatedTo());
+        }
+        if (query.getBefore() != null) {
+            sql.append(" AND (created_time, id) < (?, ?)");
+            args.add(query.getBefore().getCreatedTime());
+            args.add(query.getBefore().getId());
+        }
+        sql.append(" ORDER BY created_time DESC, id DESC LIMIT ?");
+        args.add(query.getLimit());
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 转义LIKE通配符（默认转义字符为反斜杠）后构造子串匹配模式
+     */
+    private static String containsPattern(String keyword) {
+        String escaped = keyword
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,120 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.repository.BucketStats;
+import com.contractreview.filestorage.domain.repository.FileStats;
+import com.contractreview.filestorage.domain.repository.FileStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 基于JDBC的存储统计仓储实现
+ * 增量以 INSERT ... ON CONFLICT DO UPDATE 累加；多个实例同时写入时按主键顺序更新，避免互相死锁
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcFileStatsRepository implements FileStatsRepository {
+
+    private static final Comparator<FileStats> KEY_ORDER = Comparator
+        .comparing(FileStats::getBucketName)
+        .thenComparing(FileStats::getStatDate)
+        .thenComparing(FileStats::getFileExtension)
+        .thenComparing(FileStats::isEncrypted);
+
+    private static final String UPSERT_DAILY_SQL =
+        "INSERT INTO file_stats_daily (bucket_name, stat_date, file_extension, is_encrypted, file_count, total_bytes) " +
+        "VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (bucket_name, stat_date, file_extension, is_encrypted) DO UPDATE SET " +
+        "file_count = file_stats_daily.file_count + EXCLUDED.file_count, " +
+        "total_bytes = file_stats_daily.total_bytes + EXCLUDED.total_bytes, updated_time = now()";
+
+    private static final String UPSERT_BUCKET_SQL =
+        "INSERT INTO file_stats_bucket (bucket_name, file_count, total_bytes, encrypted_count, encrypted_bytes) " +
+        "VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (bucket_name) DO UPDATE SET " +
+        "file_count = file_stats_bucket.file_count + EXCLUDED.file_count, " +
+        "total_bytes = file_stats_bucket.total_bytes + EXCLUDED.total_bytes, " +
+        "encrypted_count = file_stats_bucket.encrypted_count + EXCLUDED.encrypted_count, " +
+        "encrypted_bytes = file_stats_bucket.encrypted_bytes + EXCLUDED.encrypted_bytes, updated_time = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void apply(List<FileStats> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<FileStats> daily = deltas.stream().sorted(KEY_ORDER).toList();
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, daily, daily.size(), (statement, delta) -> {
+            statement.setString(1, delta.getBucketName());
+            statement.setDate(2, Date.valueOf(delta.getStatDate()));
+            statement.setString(3, delta.getFileExtension());
+            statement.setBoolean(4, delta.isEncrypted());
+            statement.setLong(5, delta.getFileCount());
+            statement.setLong(6, delta.getTotalBytes());
+        });
+
+        // 按存储桶合并后写入，TreeMap保证更新顺序
+        Map<String, long[]> buckets = new TreeMap<>();
+        for (FileStats delta : daily) {
+            long[] totals = buckets.computeIfAbsent(delta.getBucketName(), bucketName -> new long[4]);
+            totals[0] += delta.getFileCount();
+            totals[1] += delta.getTotalBytes();
+            if (delta.isEncrypted()) {
+                totals[2] += delta.getFileCount();
+                totals[3] += delta.getTotalBytes();
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_BUCKET_SQL, List.copyOf(buckets.entrySet()), buckets.size(),
+            (statement, entry) -> {
+                statement.setString(1, entry.getKey());
+                for (int i = 0; i < 4; i++) {
+                    statement.setLong(i + 2, entry.getValue()[i]);
+                }
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BucketStats> findBucketStats() {
+        return jdbcTemplate.query(
+            "SELECT bucket_name, file_count, total_bytes, encrypted_count, encrypted_bytes, updated_time " +
+            "FROM file_stats_bucket ORDER BY bucket_name",
+            (rs, rowNum) -> BucketStats.of(
+                rs.getString("bucket_name"),
+                rs.getLong("file_count"),
+                rs.getLong("total_bytes"),
+                rs.getLong("encrypted_count"),
+                rs.getLong("encrypted_bytes"),
+                rs.getObject("updated_time", LocalDateTime.class)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FileStats> findDailyStats(String bucketName, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            "SELECT bucket_name, stat_date, file_extension, is_encrypted, file_count, total_bytes " +
+            "FROM file_stats_daily WHERE bucket_name = ? AND stat_date >= ? AND stat_date < ? " +
+            "ORDER BY stat_date, file_extension, is_encrypted",
+            (rs, rowNum) -> FileStats.of(
+                rs.getString("bucket_name"),
+                rs.getObject("stat_date", LocalDate.class),
+                rs.getString("file_extension"),
+                rs.getBoolean("is_encrypted"),
+                rs.getLong("file_count"),
+                rs.getLong("total_bytes")),
+            bucketName, Date.valueOf(from), Date.valueOf(to));
+    }
+}
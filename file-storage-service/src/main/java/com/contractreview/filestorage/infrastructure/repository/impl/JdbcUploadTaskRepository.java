@@ -0,0 +1,95 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.UploadTask;
+import com.contractreview.filestorage.domain.repository.UploadTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 基于JDBC的异步上传任务仓储实现
+ * 
+ * @author ContractReview Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUploadTaskRepository implements UploadTaskRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String COLUMNS =
+        "attachment_uuid, bucket_name, file_name, file_type, file_size, is_encrypted, status, " +
+        "error_message, created_time, updated_time";
+
+    private static final RowMapper<UploadTask> ROW_MAPPER = (rs, rowNum) ->
+        UploadTask.rebuild(
+            rs.getString("attachment_uuid"),
+            rs.getString("bucket_name"),
+            rs.getString("file_name"),
+            rs.getString("file_type"),
+            rs.getLong("file_size"),
+            rs.getBoolean("is_encrypted"),
+            UploadTask.Status.valueOf(rs.getString("status")),
+            rs.getString("error_message"),
+            rs.getObject("created_time", LocalDateTime.class),
+            rs.getObject("updated_time", LocalDateTime.class)
+        );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(UploadTask task) {
+        jdbcTemplate.update(
+            "INSERT INTO file_upload_task (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            task.getAttachmentUuid(),
+            task.getBucketName(),
+            task.getFileName(),
+            task.getFileType(),
+            task.getFileSize(),
+            task.isEncrypted(),
+            task.getStatus().name(),
+            task.getErrorMessage(),
+            task.getCreatedTime(),
+            task.getUpdatedTime());
+    }
+
+    @Override
+    public void updateStatus(String attachmentUuid, UploadTask.Status status, String errorMessage) {
+        jdbcTemplate.update(
+            "UPDATE file_upload_task SET status = ?, error_message = ?, updated_time = ? WHERE attachment_uuid = ?",
+            status.name(),
+            StringUtils.abbreviate(errorMessage, MAX_ERROR_LENGTH),
+            LocalDateTime.now(),
+            attachmentUuid);
+    }
+
+    @Override
+    public Optional<UploadTask> findByUuid(String attachmentUuid) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM file_upload_task WHERE attachment_uuid = ?",
+                ROW_MAPPER, attachmentUuid)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<UploadTask> findUnfinished() {
+        return jdbcTemplate.query(
+            "SELECT " + COLUMNS + " FROM file_upload_task WHERE status IN ('PENDING', 'PROCESSING') " +
+            "ORDER BY created_time",
+            ROW_MAPPER);
+    }
+
+    @Override
+    public int deleteFinishedBefore(LocalDateTime updatedBefore) {
+        return jdbcTemplate.update(
+            "DELETE FROM file_upload_task WHERE status IN ('COMPLETED', 'FAILED') AND updated_time < ?",
+            updatedBefore);
+    }
+}
@@ -0,0 +1,120 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.infrastructure.config.ReplicaProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 副本读取的读己之写保护
+ * 元数据查询默认在只读事务中执行（路由到副本）；本实例写入的文件在事务提交后的窗口内直接查主库，
+ * 窗口按记录的提交时间计算，与UUID生成时间无关（长时间上传、复制和删除都在提交后才开始计时）；
+ * 副本未命中时总是改查主库，覆盖其他实例刚写入的文件和复制延迟超过窗口的情况
+ * 
+ * @author ContractReview Team
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final ReplicaProperties properties;
+    private final TransactionTemplate replicaTemplate;
+    private final TransactionTemplate primaryTemplate;
+
+    /**
+     * UUID到最近一次提交时间（System.nanoTime），按提交顺序入队，超出窗口后移除
+     */
+    private final Map<String, Long> committedAt = new ConcurrentHashMap<>();
+    private final Queue<RecentWrite> commitOrder = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public ReadYourWritesGuard(ReplicaProperties properties, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.replicaTemplate = new TransactionTemplate(transactionManager);
+        this.replicaTemplate.setReadOnly(true);
+        this.primaryTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 记录文件写入，在事务中调用时以事务提交时间为准
+     */
+    public void recordWrite(String uuid) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(uuid);
+                }
+            });
+        } else {
+            remember(uuid);
+        }
+    }
+
+    /**
+     * 执行只读查询
+     *
+     * @param uuid   查询的文件UUID，未知时传null
+     * @param lookup 查询
+     * @param found  判断查询结果是否命中
+     */
+    public <T> T read(String uuid, Supplier<T> lookup, Predicate<T> found) {
+        if (!properties.isEnabled()) {
+            return replicaTemplate.execute(status -> lookup.get());
+        }
+        if (uuid != null && isRecent(uuid)) {
+            return primaryTemplate.execute(status -> lookup.get());
+        }
+        T result = replicaTemplate.execute(status -> lookup.get());
+        if (found.test(result)) {
+            return result;
+        }
+        return primaryTemplate.execute(status -> lookup.get());
+    }
+
+    private boolean isRecent(String uuid) {
+        Long committed = committedAt.get(uuid);
+        return committed != null && System.nanoTime() - committed < properties.getReadYourWritesWindow().toNanos();
+    }
+
+    private void remember(String uuid) {
+        long now = System.nanoTime();
+        committedAt.put(uuid, now);
+        commitOrder.add(new RecentWrite(uuid, now));
+        evictExpired(now);
+    }
+
+    /**
+     * 移除窗口外的记录；只由一个线程执行，其他线程跳过
+     */
+    private void evictExpired(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long window = properties.getReadYourWritesWindow().toNanos();
+            RecentWrite head;
+            while ((head = commitOrder.peek()) != null && now - head.committedAt() >= window) {
+                commitOrder.poll();
+                committedAt.remove(head.uuid(), head.committedAt());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    record RecentWrite(String uuid, long committedAt) {
+    }
+}
@@ -25,6 +25,7 @@ public class AESEncryptionProvider implements EncryptionProvider {
     private static final String ALGORITHM_NAME = "AES-256-CBC";
     private static final int KEY_LENGTH = 32; // 256 bits
     private static final int IV_LENGTH = 16; // 128 bits
+    private static final int BLOCK_SIZE = 16;
 
     @Override
     public byte[] encrypt(byte[] data, String key) {
@@ -91,6 +92,37 @@ public class AESEncryptionProvider implements EncryptionProvider {
         }
     }
 
+    @Override
+    public StreamingEncryption createStreamingEncryption(String key) {
+        try {
+            if (!validateKey(key)) {
+                throw new IllegalArgumentException("无效的加密密钥格式");
+            }
+
+            byte[] keyBytes = Base64.getDecoder().decode(key);
+            SecretKeySpec secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+
+            byte[] iv = new byte[IV_LENGTH];
+            new SecureRandom().nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+            return new StreamingEncryption(iv, cipher);
+
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("初始化流式加密失败", e);
+            throw new RuntimeException("初始化流式加密失败", e);
+        }
+    }
+
+    @Override
+    public long getEncryptedSize(long plainSize) {
+        // PKCS5填充总会补齐到下一个完整分组
+        return IV_LENGTH + (plainSize / BLOCK_SIZE + 1) * BLOCK_SIZE;
+    }
+
     @Override
     public boolean validateKey(String key) {
         if (StringUtils.isBlank(key)) {
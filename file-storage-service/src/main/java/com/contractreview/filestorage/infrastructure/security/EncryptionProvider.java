@@ -1,5 +1,7 @@
 package com.contractreview.filestorage.infrastructure.security;
 
+import javax.crypto.Cipher;
+
 /**
  * 加密提供者接口
  * 
@@ -17,6 +19,17 @@ public interface EncryptionProvider {
      */
     byte[] decrypt(byte[] encryptedData, String key);
 
+    /**
+     * 生成随机IV并创建流式加密Cipher
+     * 调用方需先输出返回的IV，再输出Cipher的结果，得到与 {@link #encrypt} 相同的数据格式
+     */
+    StreamingEncryption createStreamingEncryption(String key);
+
+    /**
+     * 计算明文加密后的总长度（含IV）
+     */
+    long getEncryptedSize(long plainSize);
+
     /**
      * 验证密钥格式
      */
@@ -26,4 +39,10 @@ public interface EncryptionProvider {
      * 获取算法名称
      */
     String getAlgorithmName();
-}
\ No newline at end of file
+
+    /**
+     * 流式加密上下文
+     */
+    record StreamingEncryption(byte[] iv, Cipher cipher) {
+    }
+}
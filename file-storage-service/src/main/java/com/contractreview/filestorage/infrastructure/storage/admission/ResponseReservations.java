@@ -0,0 +1,71 @@
+package com.contractreview.filestorage.infrastructure.storage.admission;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 当前请求持有的传输预算
+ * 下载读出的内容在写出到客户端之前一直驻留内存，预算不能在读取完成时释放。
+ * 请求拦截器在处理请求前打开作用域，请求线程上预留的预算挂到作用域上，
+ * 由拦截器在响应写出结束后（异步写出时在异步处理结束时）统一释放；
+ * 未打开作用域的线程（后台任务等）由调用方在用完内容后自行释放
+ *
+ * @author ContractReview Team
+ */
+public final class ResponseReservations {
+
+    private static final ThreadLocal<ResponseReservations> CURRENT = new ThreadLocal<>();
+
+    private final List<TransferBudget.Reservation> reservations = new ArrayList<>();
+    private boolean released;
+
+    private ResponseReservations() {
+    }
+
+    /**
+     * 为当前线程正在处理的请求打开作用域
+     */
+    public static ResponseReservations open() {
+        ResponseReservations scope = new ResponseReservations();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 请求处理线程返回时调用，作用域内的预算仍由 {@link #release()} 释放
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 把预算挂到当前请求上，响应写出结束后释放
+     *
+     * @return 当前线程没有打开作用域时返回false，调用方需自行释放
+     */
+    public static boolean hold(TransferBudget.Reservation reservation) {
+        ResponseReservations scope = CURRENT.get();
+        return scope != null && scope.add(reservation);
+    }
+
+    private synchronized boolean add(TransferBudget.Reservation reservation) {
+        if (released) {
+            return false;
+        }
+        reservations.add(reservation);
+        return true;
+    }
+
+    /**
+     * 释放作用域内的全部预算（重复调用无副作用）
+     */
+    public void release() {
+        List<TransferBudget.Reservation> held;
+        synchronized (this) {
+            released = true;
+            held = new ArrayList<>(reservations);
+            reservations.clear();
+        }
+        held.forEach(TransferBudget.Reservation::close);
+    }
+}
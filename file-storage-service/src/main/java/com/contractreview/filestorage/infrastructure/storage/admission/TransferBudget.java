@@ -0,0 +1,185 @@
+package com.contractreview.filestorage.infrastructure.storage.admission;
+
+import com.contractreview.filestorage.infrastructure.config.TransferAdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 传输字节预算
+ * 传输开始前按预计占用的内存字节数预留全局预算（及存储桶预算），结束后释放；
+ * 预算不足时在超时时间内排队等待，超时抛出 {@link TransferBudgetExceededException}。
+ * 超过预算上限的单个请求按上限预留，保证其在空闲时仍可单独执行
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Component
+public class TransferBudget {
+
+    private static final String GLOBAL_SCOPE = "global";
+
+    private final TransferAdmissionProperties properties;
+    private final long globalLimit;
+    private final Map<String, Long> bucketLimits = new HashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<String, Long> bucketReserved = new HashMap<>();
+    private long globalReserved;
+    private int waiting;
+
+    private final Counter rejectedCounter;
+
+    public TransferBudget(TransferAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.globalLimit = properties.getGlobalBudget().toBytes();
+        properties.getBucketBudgets().forEach((bucketName, budget) -> bucketLimits.put(bucketName, budget.toBytes()));
+
+        registerGauges(meterRegistry, GLOBAL_SCOPE, globalLimit, () -> globalReserved);
+        bucketLimits.forEach((bucketName, limit) ->
+            registerGauges(meterRegistry, bucketName, limit, () -> bucketReserved.getOrDefault(bucketName, 0L)));
+        Gauge.builder("file.transfer.budget.waiting", this, budget -> budget.read(() -> (long) budget.waiting))
+            .description("等待传输预算的请求数")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("file.transfer.budget.rejected")
+            .description("因传输预算不足被拒绝的请求数")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 预留传输预算，预算不足时最多等待配置的超时时间
+     *
+     * @throws TransferBudgetExceededException 等待超时
+     */
+    public Reservation reserve(String bucketName, long bytes) {
+        return acquire(bucketName, bytes, properties.getAcquireTimeout());
+    }
+
+    /**
+     * 预留传输预算，预算不足时立即拒绝，用于不能阻塞调用方线程的场景
+     *
+     * @throws TransferBudgetExceededException 预算不足
+     */
+    public Reservation tryReserve(String bucketName, long bytes) {
+        return acquire(bucketName, bytes, Duration.ZERO);
+    }
+
+    private Reservation acquire(String bucketName, long bytes, Duration timeout) {
+        if (!properties.isEnabled() || bytes <= 0) {
+            return Reservation.NONE;
+        }
+        Long bucketLimit = bucketLimits.get(bucketName);
+        long amount = Math.min(bytes, bucketLimit != null ? Math.min(globalLimit, bucketLimit) : globalLimit);
+
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (!fits(bucketName, bucketLimit, amount)) {
+                    if (remainingNanos <= 0) {
+                        rejectedCounter.increment();
+                        log.warn("传输预算不足: bucket={}, bytes={}, globalReserved={}", bucketName, amount, globalReserved);
+                        throw new TransferBudgetExceededException("服务繁忙，传输预算不足，请稍后重试");
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+            } finally {
+                waiting--;
+            }
+            globalReserved += amount;
+            if (bucketLimit != null) {
+                bucketReserved.merge(bucketName, amount, Long::sum);
+            }
+            return new Reservation(this, bucketLimit != null ? bucketName : null, amount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCounter.increment();
+            throw new TransferBudgetExceededException("等待传输预算时被中断");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(String bucketName, Long bucketLimit, long amount) {
+        if (globalReserved + amount > globalLimit) {
+            return false;
+        }
+        return bucketLimit == null || bucketReserved.getOrDefault(bucketName, 0L) + amount <= bucketLimit;
+    }
+
+    private void release(String bucketName, long amount) {
+        lock.lock();
+        try {
+            globalReserved -= amount;
+            if (bucketName != null) {
+                bucketReserved.merge(bucketName, -amount, Long::sum);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long read(java.util.function.LongSupplier supplier) {
+        lock.lock();
+        try {
+            return supplier.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry, String scope, long limit,
+                                java.util.function.LongSupplier reserved) {
+        Tags tags = Tags.of("scope", scope);
+        Gauge.builder("file.transfer.budget.limit", () -> limit)
+            .tags(tags)
+            .baseUnit("bytes")
+            .description("传输字节预算上限")
+            .register(meterRegistry);
+        Gauge.builder("file.transfer.budget.reserved", this, budget -> budget.read(reserved))
+            .tags(tags)
+            .baseUnit("bytes")
+            .description("已预留的传输字节数")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 已预留的传输预算，关闭时释放（重复关闭无副作用）
+     */
+    public static final class Reservation implements AutoCloseable {
+
+        static final Reservation NONE = new Reservation(null, null, 0);
+
+        private final TransferBudget budget;
+        private final String bucketName;
+        private final long amount;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Reservation(TransferBudget budget, String bucketName, long amount) {
+            this.budget = budget;
+            this.bucketName = bucketName;
+            this.amount = amount;
+        }
+
+        @Override
+        public void close() {
+            if (budget != null && closed.compareAndSet(false, true)) {
+                budget.release(bucketName, amount);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.contractreview.filestorage.infrastructure.storage.admission;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 传输字节预算不足，请求在等待时间内未能准入
+ * 
+ * @author ContractReview Team
+ */
+public class TransferBudgetExceededException extends RejectedExecutionException {
+
+    public TransferBudgetExceededException(String message) {
+        super(message);
+    }
+}
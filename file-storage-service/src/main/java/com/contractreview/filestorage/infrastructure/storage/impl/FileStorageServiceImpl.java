@@ -1,16 +1,40 @@
 package com.contractreview.filestorage.infrastructure.storage.impl;
 
+import com.contractreview.filestorage.domain.model.FileBlob;
 import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.valueobject.StorageLocation;
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
 import com.contractreview.filestorage.domain.service.EncryptionService;
 import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.DeduplicationProperties;
+import com.contractreview.filestorage.infrastructure.config.TransferPipelineProperties;
+import com.contractreview.filestorage.infrastructure.storage.admission.ResponseReservations;
+import com.contractreview.filestorage.infrastructure.storage.admission.TransferBudget;
+import com.contractreview.filestorage.infrastructure.storage.pipeline.EncryptUploadPipeline;
 import com.contractreview.filestorage.infrastructure.storage.provider.StorageProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 文件存储服务实现
@@ -24,25 +48,16 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     private final StorageProvider storageProvider;
     private final EncryptionService encryptionService;
+    private final EncryptUploadPipeline encryptUploadPipeline;
+    private final TransferPipelineProperties pipelineProperties;
+    private final TransferBudget transferBudget;
+    private final DeduplicationProperties deduplicationProperties;
+    private final FileBlobRepository fileBlobRepository;
 
     @Override
     public void storeFile(FileResource fileResource, MultipartFile file) {
-        try {
-            String bucketName = fileResource.getStorageLocation().getBucketName();
-            String objectKey = fileResource.getObjectKey();
-            
-            storageProvider.uploadFile(
-                bucketName,
-                objectKey,
-                file.getInputStream(),
-                file.getSize(),
-                file.getContentType()
-            );
-            
-            log.info("文件存储成功: uuid={}, fileName={}", 
-                fileResource.getAttachmentUuid().getValue(), 
-                fileResource.getMetadata().getFileName());
-                
+        try (InputStream inputStream = file.getInputStream()) {
+            storeFile(fileResource, inputStream, file.getSize(), file.getContentType());
         } catch (IOException e) {
             log.error("文件存储失败: uuid={}", fileResource.getAttachmentUuid().getValue(), e);
             throw new RuntimeException("文件存储失败", e);
@@ -51,14 +66,61 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     @Override
     public void storeEncryptedFile(FileResource fileResource, MultipartFile file, String publicKey) {
-        try {
+        try (InputStream inputStream = file.getInputStream()) {
+            storeEncryptedFile(fileResource, inputStream, file.getContentType(), publicKey);
+        } catch (IOException e) {
+            log.error("加密文件存储失败: uuid={}", fileResource.getAttachmentUuid().getValue(), e);
+            throw new RuntimeException("加密文件存储失败", e);
+        }
+    }
+
+    @Override
+    public void storeFile(FileResource fileResource, InputStream inputStream, long size, String contentType) {
+        String bucketName = fileResource.getStorageLocation().getBucketName();
+        String objectKey = fileResource.getObjectKey();
+
+        try (TransferBudget.Reservation ignored = transferBudget.reserve(bucketName, size)) {
+            storageProvider.uploadFile(bucketName, objectKey, inputStream, size, contentType);
+        }
+
+        log.info("文件存储成功: uuid={}, fileName={}", 
+            fileResource.getAttachmentUuid().getValue(), 
+            fileResource.getMetadata().getFileName());
+    }
+
+    @Override
+    public void storeEncryptedFile(FileResource fileResource, InputStream inputStream, String contentType,
+                                   String publicKey) {
+        Long fileSize = fileResource.getMetadata().getFileSize();
+        String bucketName = fileResource.getStorageLocation().getBucketName();
+        if (pipelineProperties.isEnabled() && fileSize != null) {
+            // 按流水线实际分配的明文块和密文块预留
+            try (TransferBudget.Reservation ignored =
+                     transferBudget.reserve(bucketName, encryptUploadPipeline.bufferBytes(fileSize))) {
+                // 读取、加密、上传并行执行
+                encryptUploadPipeline.encryptAndUpload(
+                    bucketName,
+                    fileResource.getObjectKey(),
+                    inputStream,
+                    fileSize,
+                    contentType,
+                    publicKey
+                );
+            }
+            log.info("加密文件存储成功: uuid={}, fileName={}", 
+                fileResource.getAttachmentUuid().getValue(), 
+                fileResource.getMetadata().getFileName());
+            return;
+        }
+
+        // 整块加密时明文和密文同时驻留内存
+        try (TransferBudget.Reservation ignored = transferBudget.reserve(bucketName, 2 * sizeOf(fileResource))) {
             // 读取文件内容
-            byte[] fileData = file.getBytes();
+            byte[] fileData = inputStream.readAllBytes();
             
             // 加密文件内容
             byte[] encryptedData = encryptionService.encrypt(fileData, publicKey);
             
-            String bucketName = fileResource.getStorageLocation().getBucketName();
             String objectKey = fileResource.getObjectKey();
             
             // 存储加密后的文件
@@ -67,7 +129,7 @@ public class FileStorageServiceImpl implements FileStorageService {
                 objectKey,
                 new ByteArrayInputStream(encryptedData),
                 encryptedData.length,
-                file.getContentType()
+                contentType
             );
             
             log.info("加密文件存储成功: uuid={}, fileName={}", 
@@ -80,12 +142,60 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public boolean isDeduplicationEnabled() {
+        return deduplicationProperties.isEnabled();
+    }
+
+    @Override
+    public FileResource storeDeduplicated(FileResource fileResource, InputStreamSource content, long size,
+                                          String contentType) {
+        String bucketName = fileResource.getStorageLocation().getBucketName();
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        try {
+            FileBlob blob = FileBlob.of(bucketName, sha256(content));
+            if (fileBlobRepository.touchStored(blob)) {
+                log.info("文件内容已存在，复用共享对象: uuid={}, hash={}", uuid, blob.getContentHash());
+                return fileResource.withContentHash(blob.getContentHash());
+            }
+
+            if (!fileBlobRepository.register(blob, size)) {
+                // 共享对象正被回收，本次按独立对象存储
+                log.info("共享对象回收中，按独立对象存储: uuid={}, hash={}", uuid, blob.getContentHash());
+                try (InputStream inputStream = content.getInputStream()) {
+                    storeFile(fileResource, inputStream, size, contentType);
+                }
+                return fileResource;
+            }
+            try (TransferBudget.Reservation ignored = transferBudget.reserve(bucketName, size);
+                 InputStream inputStream = content.getInputStream()) {
+                storageProvider.uploadFile(bucketName, StorageLocation.blobObjectKey(blob.getContentHash()),
+                    inputStream, size, contentType);
+            }
+            fileBlobRepository.markStored(blob);
+
+            log.info("文件存储成功（共享对象）: uuid={}, hash={}", uuid, blob.getContentHash());
+            return fileResource.withContentHash(blob.getContentHash());
+        } catch (IOException e) {
+            log.error("文件存储失败: uuid={}", uuid, e);
+            throw new RuntimeException("文件存储失败", e);
+        }
+    }
+
     @Override
     public byte[] retrieveFile(FileResource fileResource) {
         String bucketName = fileResource.getStorageLocation().getBucketName();
         String objectKey = fileResource.getObjectKey();
         
-        byte[] fileData = storageProvider.downloadFile(bucketName, objectKey);
+        byte[] fileData;
+        TransferBudget.Reservation reservation = transferBudget.reserve(bucketName, retrievalBytes(fileResource));
+        try {
+            fileData = storageProvider.downloadFile(bucketName, objectKey);
+        } catch (RuntimeException e) {
+            reservation.close();
+            throw e;
+        }
+        holdUntilResponseWritten(reservation);
         
         log.info("文件获取成功: uuid={}, size={}", 
             fileResource.getAttachmentUuid().getValue(), fileData.length);
@@ -93,16 +203,116 @@ public class FileStorageServiceImpl implements FileStorageService {
         return fileData;
     }
 
+    @Override
+    public CompletableFuture<byte[]> retrieveFileAsync(FileResource fileResource, Executor executor) {
+        String bucketName = fileResource.getStorageLocation().getBucketName();
+        String objectKey = fileResource.getObjectKey();
+
+        // 异步下载不能阻塞调用线程排队，预算不足时直接拒绝
+        TransferBudget.Reservation reservation;
+        try {
+            reservation = transferBudget.tryReserve(bucketName, retrievalBytes(fileResource));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 读取成功时预算随请求保留到响应写出结束，失败时立即释放；
+        // 下载队列已满时执行器拒绝任务，也要以失败结束结果，否则预算永不释放
+        boolean held = ResponseReservations.hold(reservation);
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        result.whenComplete((fileData, e) -> {
+            if (e != null || !held) {
+                reservation.close();
+            }
+        });
+        try {
+            storageProvider.downloadFileAsync(bucketName, objectKey).whenComplete((inputStream, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                try {
+                    executor.execute(() -> readFully(fileResource, inputStream, result));
+                } catch (RejectedExecutionException e) {
+                    closeQuietly(inputStream);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<InputStream> openFileAsync(FileResource fileResource, long bufferBytes) {
+        String bucketName = fileResource.getStorageLocation().getBucketName();
+        String objectKey = fileResource.getObjectKey();
+
+        // 内容按调用方的缓冲分块流过，内存中只保留一个分块
+        TransferBudget.Reservation reservation;
+        try {
+            reservation = transferBudget.tryReserve(bucketName, Math.min(bufferBytes, sizeOf(fileResource)));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        boolean held = ResponseReservations.hold(reservation);
+        CompletableFuture<InputStream> content;
+        try {
+            content = storageProvider.downloadFileAsync(bucketName, objectKey);
+        } catch (RuntimeException e) {
+            reservation.close();
+            return CompletableFuture.failedFuture(e);
+        }
+        return content.whenComplete((inputStream, e) -> {
+            if (e != null || !held) {
+                reservation.close();
+            }
+        });
+    }
+
+    private void readFully(FileResource fileResource, InputStream inputStream, CompletableFuture<byte[]> result) {
+        try (InputStream in = inputStream) {
+            byte[] fileData = in.readAllBytes();
+            log.info("文件获取成功: uuid={}, size={}",
+                fileResource.getAttachmentUuid().getValue(), fileData.length);
+            result.complete(fileData);
+        } catch (IOException e) {
+            result.completeExceptionally(new RuntimeException("文件读取失败", e));
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("关闭对象输入流失败", e);
+        }
+    }
+
     @Override
     public byte[] retrieveAndDecryptFile(FileResource fileResource, String publicKey) {
         String bucketName = fileResource.getStorageLocation().getBucketName();
         String objectKey = fileResource.getObjectKey();
         
-        // 获取加密文件
-        byte[] encryptedData = storageProvider.downloadFile(bucketName, objectKey);
-        
-        // 解密文件内容
-        byte[] decryptedData = encryptionService.decrypt(encryptedData, publicKey);
+        byte[] encryptedData;
+        byte[] decryptedData;
+        // 密文和解密后的明文同时驻留内存
+        TransferBudget.Reservation reservation = transferBudget.reserve(bucketName, 2 * sizeOf(fileResource));
+        try {
+            // 获取加密文件
+            encryptedData = storageProvider.downloadFile(bucketName, objectKey);
+            
+            // 解密文件内容
+            decryptedData = encryptionService.decrypt(encryptedData, publicKey);
+        } catch (RuntimeException e) {
+            reservation.close();
+            throw e;
+        }
+        holdUntilResponseWritten(reservation);
         
         log.info("加密文件获取并解密成功: uuid={}, encryptedSize={}, decryptedSize={}", 
             fileResource.getAttachmentUuid().getValue(), encryptedData.length, decryptedData.length);
@@ -110,8 +320,33 @@ public class FileStorageServiceImpl implements FileStorageService {
         return decryptedData;
     }
 
+    @Override
+    public void copyFile(FileResource source, FileResource target) {
+        if (target.isDeduplicated()) {
+            // 同一存储桶内的副本引用同一共享对象，无需复制
+            log.info("文件复制成功（共享对象）: sourceUuid={}, targetUuid={}",
+                source.getAttachmentUuid().getValue(),
+                target.getAttachmentUuid().getValue());
+            return;
+        }
+        storageProvider.copyFile(
+            source.getStorageLocation().getBucketName(),
+            source.getObjectKey(),
+            target.getStorageLocation().getBucketName(),
+            target.getObjectKey()
+        );
+
+        log.info("文件复制成功: sourceUuid={}, targetUuid={}",
+            source.getAttachmentUuid().getValue(),
+            target.getAttachmentUuid().getValue());
+    }
+
     @Override
     public void deleteFile(FileResource fileResource) {
+        if (fileResource.isDeduplicated()) {
+            // 共享对象由回收任务在引用全部释放后删除
+            return;
+        }
         String bucketName = fileResource.getStorageLocation().getBucketName();
         String objectKey = fileResource.getObjectKey();
 
@@ -122,6 +357,52 @@ public class FileStorageServiceImpl implements FileStorageService {
             fileResource.getMetadata().getFileName());
     }
 
+    @Override
+    public List<FileResource> deleteFiles(List<FileResource> fileResources) {
+        Map<String, List<FileResource>> byBucket = fileResources.stream()
+            .filter(resource -> !resource.isDeduplicated())
+            .collect(Collectors.groupingBy(resource -> resource.getStorageLocation().getBucketName()));
+
+        List<FileResource> failed = new ArrayList<>();
+        byBucket.forEach((bucketName, resources) -> {
+            Map<String, FileResource> byObjectKey = resources.stream()
+                .collect(Collectors.toMap(FileResource::getObjectKey, Function.identity(), (a, b) -> a));
+            try {
+                for (String objectKey : storageProvider.deleteFiles(bucketName, new ArrayList<>(byObjectKey.keySet()))) {
+                    failed.add(byObjectKey.get(objectKey));
+                }
+            } catch (RuntimeException e) {
+                log.warn("批量删除文件失败: bucket={}, count={}", bucketName, resources.size(), e);
+                failed.addAll(resources);
+            }
+        });
+
+        log.info("批量删除文件完成: total={}, failed={}", fileResources.size(), failed.size());
+        return failed;
+    }
+
+    @Override
+    public List<FileBlob> deleteBlobs(List<FileBlob> blobs) {
+        Map<String, List<FileBlob>> byBucket = blobs.stream()
+            .collect(Collectors.groupingBy(FileBlob::getBucketName));
+
+        List<FileBlob> failed = new ArrayList<>();
+        byBucket.forEach((bucketName, bucketBlobs) -> {
+            Map<String, FileBlob> byObjectKey = bucketBlobs.stream()
+                .collect(Collectors.toMap(blob -> StorageLocation.blobObjectKey(blob.getContentHash()),
+                    Function.identity()));
+            try {
+                for (String objectKey : storageProvider.deleteFiles(bucketName, new ArrayList<>(byObjectKey.keySet()))) {
+                    failed.add(byObjectKey.get(objectKey));
+                }
+            } catch (RuntimeException e) {
+                log.warn("批量删除共享对象失败: bucket={}, count={}", bucketName, bucketBlobs.size(), e);
+                failed.addAll(bucketBlobs);
+            }
+        });
+        return failed;
+    }
+
     @Override
     public String generatePreviewUrl(FileResource fileResource, int expireSeconds) {
         String bucketName = fileResource.getStorageLocation().getBucketName();
@@ -134,4 +415,52 @@ public class FileStorageServiceImpl implements FileStorageService {
             
         return storageProvider.generatePresignedUrl(bucketName, objectKey, expireSeconds);
     }
-}
\ No newline at end of file
+
+    /**
+     * 读取内容计算SHA-256（本地暂存的内容，不占用传输预算）
+     */
+    private static String sha256(InputStreamSource content) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(content.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 下载内容需要的预算：调用方解密时密文和明文同时驻留内存
+     */
+    private static long retrievalBytes(FileResource fileResource) {
+        return fileResource.requiresDecryption() ? 2 * sizeOf(fileResource) : sizeOf(fileResource);
+    }
+
+    /**
+     * 读出的内容在写出到客户端之前一直驻留内存，预算随请求保留到响应写出结束；
+     * 不在请求中（后台任务）时立即释放
+     */
+    private static void holdUntilResponseWritten(TransferBudget.Reservation reservation) {
+        if (!ResponseReservations.hold(reservation)) {
+            reservation.close();
+        }
+    }
+
+    private static long sizeOf(FileResource fileResource) {
+        Long fileSize = fileResource.getMetadata().getFileSize();
+        return fileSize != null ? fileSize : 0L;
+    }
+
+    @Override
+    public List<String> listPrefixes(String bucketName, String prefix) {
+        return storageProvider.listPrefixes(bucketName, prefix);
+    }
+
+    @Override
+    public List<StoredObject> listObjects(String bucketName, String prefix, String startAfter, int maxKeys) {
+        return storageProvider.listObjects(bucketName, prefix, startAfter, maxKeys);
+    }
+}
@@ -0,0 +1,342 @@
+package com.contractreview.filestorage.infrastructure.storage.pipeline;
+
+import com.contractreview.filestorage.infrastructure.config.TransferPipelineProperties;
+import com.contractreview.filestorage.infrastructure.security.EncryptionProvider;
+import com.contractreview.filestorage.infrastructure.storage.provider.StorageProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 加密上传流水线
+ * 读取、AES加密、网络上传三个阶段在不同线程中并行执行，阶段之间通过有界队列传递可复用的缓冲块，
+ * 使CPU密集的加密与网络上传重叠。输出格式与 {@link EncryptionProvider#encrypt} 一致（IV + 密文）。
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@Component
+public class EncryptUploadPipeline {
+
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * 加密输出比输入最多多一个分组
+     */
+    private static final int CIPHER_OVERHEAD = 16;
+
+    private final StorageProvider storageProvider;
+    private final EncryptionProvider encryptionProvider;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final int queueDepth;
+    private final Semaphore transfers;
+
+    public EncryptUploadPipeline(StorageProvider storageProvider,
+                                 EncryptionProvider encryptionProvider,
+                                 TransferPipelineProperties properties,
+                                 @Qualifier("transferPipelineExecutor") ThreadPoolTaskExecutor executor) {
+        this.storageProvider = storageProvider;
+        this.encryptionProvider = encryptionProvider;
+        this.executor = executor;
+        this.chunkSize = (int) properties.getChunkSize().toBytes();
+        this.queueDepth = properties.getQueueDepth();
+        this.transfers = new Semaphore(properties.getMaxConcurrentTransfers());
+    }
+
+    /**
+     * 流水线加密并上传
+     *
+     * @param plainSize 明文长度，用于预先计算密文长度，避免对象存储退化为未知长度的分片上传
+     */
+    public void encryptAndUpload(String bucketName, String objectKey, InputStream source, long plainSize,
+                                 String contentType, String key) {
+        EncryptionProvider.StreamingEncryption encryption = encryptionProvider.createStreamingEncryption(key);
+        long encryptedSize = encryptionProvider.getEncryptedSize(plainSize);
+
+        try {
+            transfers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("等待加密上传名额时被中断", e);
+        }
+
+        int transferChunkSize = chunkSizeFor(plainSize);
+        Transfer transfer = new Transfer(transferChunkSize, queueDepthFor(plainSize, transferChunkSize));
+        try {
+            transfer.start(executor, () -> transfer.read(source));
+            transfer.start(executor, () -> transfer.encrypt(encryption.cipher()));
+
+            InputStream encryptedStream = new SequenceInputStream(
+                new ByteArrayInputStream(encryption.iv()), transfer.output());
+            storageProvider.uploadFile(bucketName, objectKey, encryptedStream, encryptedSize, contentType);
+
+            // 对象存储按声明长度读取，剩余数据说明实际内容比声明的文件大小更长
+            if (encryptedStream.read() != -1) {
+                throw new IllegalStateException("文件内容长度与声明的文件大小不一致");
+            }
+            transfer.checkSucceeded();
+        } catch (IOException e) {
+            transfer.fail(e);
+            throw new RuntimeException("加密上传失败", e);
+        } catch (RuntimeException e) {
+            transfer.fail(e);
+            throw e;
+        } finally {
+            transfer.cancel();
+            transfer.awaitStages();
+            transfers.release();
+        }
+    }
+
+    /**
+     * 单次传输在内存中分配的缓冲字节数（明文块和密文块）
+     */
+    public long bufferBytes(long plainSize) {
+        int transferChunkSize = chunkSizeFor(plainSize);
+        return (long) queueDepthFor(plainSize, transferChunkSize) * (2L * transferChunkSize + CIPHER_OVERHEAD);
+    }
+
+    /**
+     * 分块不超过文件大小，小文件不按完整分块分配缓冲
+     */
+    private int chunkSizeFor(long plainSize) {
+        return (int) Math.max(1, Math.min(chunkSize, plainSize));
+    }
+
+    /**
+     * 缓冲块数不超过文件实际需要的块数（末尾多一块用于读到文件结束）
+     */
+    private int queueDepthFor(long plainSize, int transferChunkSize) {
+        return (int) Math.min(queueDepth, plainSize / transferChunkSize + 1);
+    }
+
+    /**
+     * 缓冲块
+     */
+    private static final class Chunk {
+
+        private static final Chunk END = new Chunk(0);
+
+        private final byte[] data;
+        private int length;
+
+        private Chunk(int capacity) {
+            this.data = new byte[capacity];
+        }
+    }
+
+    /**
+     * 单次传输的流水线状态
+     */
+    private static final class Transfer {
+
+        private final BlockingQueue<Chunk> plainFree;
+        private final BlockingQueue<Chunk> plainFull;
+        private final BlockingQueue<Chunk> cipherFree;
+        private final BlockingQueue<Chunk> cipherFull;
+        private final CountDownLatch stages = new CountDownLatch(2);
+        private int unstarted = 2;
+
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+
+        private Transfer(int chunkSize, int queueDepth) {
+            plainFree = new ArrayBlockingQueue<>(queueDepth);
+            plainFull = new ArrayBlockingQueue<>(queueDepth + 1);
+            cipherFree = new ArrayBlockingQueue<>(queueDepth);
+            cipherFull = new ArrayBlockingQueue<>(queueDepth + 1);
+            for (int i = 0; i < queueDepth; i++) {
+                plainFree.add(new Chunk(chunkSize));
+                cipherFree.add(new Chunk(chunkSize + CIPHER_OVERHEAD));
+            }
+        }
+
+        /**
+         * 提交阶段任务（仅由调用线程调用）
+         */
+        private void start(ThreadPoolTaskExecutor executor, Runnable stage) {
+            executor.execute(stage);
+            unstarted--;
+        }
+
+        /**
+         * 读取阶段：把源数据读入空闲缓冲块
+         */
+        private void read(InputStream source) {
+            try {
+                while (true) {
+                    Chunk chunk = take(plainFree);
+                    chunk.length = source.readNBytes(chunk.data, 0, chunk.data.length);
+                    if (chunk.length > 0) {
+                        put(plainFull, chunk);
+                    }
+                    if (chunk.length < chunk.data.length) {
+                        put(plainFull, Chunk.END);
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                stages.countDown();
+            }
+        }
+
+        /**
+         * 加密阶段：明文块加密到空闲密文块，明文块归还读取阶段复用
+         */
+        private void encrypt(Cipher cipher) {
+            try {
+                while (true) {
+                    Chunk plain = take(plainFull);
+                    Chunk encrypted = take(cipherFree);
+                    if (plain == Chunk.END) {
+                        encrypted.length = cipher.doFinal(encrypted.data, 0);
+                        put(cipherFull, encrypted);
+                        put(cipherFull, Chunk.END);
+                        return;
+                    }
+                    encrypted.length = cipher.update(plain.data, 0, plain.length, encrypted.data, 0);
+                    put(plainFree, plain);
+                    put(cipherFull, encrypted);
+                }
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                stages.countDown();
+            }
+        }
+
+        /**
+         * 上传阶段读取的密文流，读完的密文块归还加密阶段复用
+         */
+        private InputStream output() {
+            return new InputStream() {
+
+                private Chunk current;
+                private int position;
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] single = new byte[1];
+                    int n = read(single, 0, 1);
+                    return n == -1 ? -1 : single[0] & 0xFF;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    while (!finished && (current == null || position == current.length)) {
+                        if (current != null) {
+                            recycle(current);
+                            current = null;
+                        }
+                        Chunk next = awaitOutput();
+                        if (next == Chunk.END) {
+                            finished = true;
+                        } else {
+                            current = next;
+                            position = 0;
+                        }
+                    }
+                    if (finished) {
+                        return -1;
+                    }
+                    int n = Math.min(length, current.length - position);
+                    System.arraycopy(current.data, position, buffer, offset, n);
+                    position += n;
+                    return n;
+                }
+            };
+        }
+
+        private Chunk awaitOutput() throws IOException {
+            try {
+                return take(cipherFull);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("加密上传被中断", e);
+            } catch (IllegalStateException e) {
+                throw new IOException("加密流水线失败", failure != null ? failure : e);
+            }
+        }
+
+        private void recycle(Chunk chunk) throws IOException {
+            try {
+                put(cipherFree, chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("加密上传被中断", e);
+            } catch (IllegalStateException e) {
+                throw new IOException("加密流水线失败", failure != null ? failure : e);
+            }
+        }
+
+        private Chunk take(BlockingQueue<Chunk> queue) throws InterruptedException {
+            while (true) {
+                checkNotCancelled();
+                Chunk chunk = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    return chunk;
+                }
+            }
+        }
+
+        private void put(BlockingQueue<Chunk> queue, Chunk chunk) throws InterruptedException {
+            while (!queue.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkNotCancelled();
+            }
+        }
+
+        private void checkNotCancelled() {
+            if (cancelled) {
+                throw new IllegalStateException("加密流水线已取消");
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+            cancelled = true;
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        private void checkSucceeded() {
+            if (failure != null) {
+                throw new RuntimeException("加密流水线失败", failure);
+            }
+        }
+
+        private void awaitStages() {
+            // 未能提交的阶段不会自行结束
+            for (int i = 0; i < unstarted; i++) {
+                stages.countDown();
+            }
+            try {
+                stages.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.contractreview.filestorage.infrastructure.storage.provider;
 
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
 import com.contractreview.filestorage.domain.service.BucketNameValidator;
 import io.minio.*;
 import io.minio.errors.*;
 import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +17,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MinIO存储提供者实现
@@ -24,7 +33,13 @@ import java.security.NoSuchAlgorithmException;
 @Slf4j
 public class MinIOStorageProvider implements StorageProvider {
 
+    /**
+     * 单次CopyObject支持的最大对象大小（S3限制为5GB），超过时改用Compose分片复制
+     */
+    private static final long MAX_COPY_OBJECT_SIZE = 5L * 1024 * 1024 * 1024;
+
     private final MinioClient minioClient;
+    private final MinioAsyncClient minioAsyncClient;
 
     @Override
     public void uploadFile(String bucketName, String objectKey, InputStream inputStream, long size, String contentType) {
@@ -74,6 +89,54 @@ public class MinIOStorageProvider implements StorageProvider {
         }
     }
 
+    @Override
+    public CompletableFuture<InputStream> downloadFileAsync(String bucketName, String objectKey) {
+        try {
+            return minioAsyncClient.getObject(
+                GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build()
+            ).<InputStream>thenApply(response -> response)
+             .exceptionally(e -> {
+                 log.error("文件下载失败: bucket={}, objectKey={}", bucketName, objectKey, e);
+                 throw new RuntimeException("文件下载失败", e);
+             });
+        } catch (Exception e) {
+            log.error("文件下载失败: bucket={}, objectKey={}", bucketName, objectKey, e);
+            return CompletableFuture.failedFuture(new RuntimeException("文件下载失败", e));
+        }
+    }
+
+    @Override
+    public List<String> deleteFiles(String bucketName, List<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return List.of();
+        }
+        List<DeleteObject> objects = objectKeys.stream().map(DeleteObject::new).toList();
+        List<String> failedKeys = new ArrayList<>();
+        try {
+            // 结果是惰性的，遍历时才实际发送请求（SDK按每批1000个对象拆分）
+            for (Result<DeleteError> result : minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .objects(objects)
+                        .build())) {
+                DeleteError error = result.get();
+                if (!"NoSuchKey".equals(error.code())) {
+                    log.warn("文件删除失败: bucket={}, objectKey={}, code={}, message={}",
+                        bucketName, error.objectName(), error.code(), error.message());
+                    failedKeys.add(error.objectName());
+                }
+            }
+        } catch (Exception e) {
+            log.error("批量删除文件失败: bucket={}, count={}", bucketName, objectKeys.size(), e);
+            throw new RuntimeException("批量删除文件失败", e);
+        }
+        log.info("批量删除文件完成: bucket={}, count={}, failed={}", bucketName, objectKeys.size(), failedKeys.size());
+        return failedKeys;
+    }
+
     @Override
     public void deleteFile(String bucketName, String objectKey) {
         try {
@@ -91,6 +154,55 @@ public class MinIOStorageProvider implements StorageProvider {
         }
     }
 
+    @Override
+    public void copyFile(String sourceBucketName, String sourceObjectKey, String targetBucketName, String targetObjectKey) {
+        try {
+            createBucketIfNotExists(targetBucketName);
+
+            StatObjectResponse stat = minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(sourceBucketName)
+                    .object(sourceObjectKey)
+                    .build()
+            );
+
+            if (stat.size() > MAX_COPY_OBJECT_SIZE) {
+                minioClient.composeObject(
+                    ComposeObjectArgs.builder()
+                        .bucket(targetBucketName)
+                        .object(targetObjectKey)
+                        .sources(List.of(
+                            ComposeSource.builder()
+                                .bucket(sourceBucketName)
+                                .object(sourceObjectKey)
+                                .build()
+                        ))
+                        .build()
+                );
+            } else {
+                minioClient.copyObject(
+                    CopyObjectArgs.builder()
+                        .bucket(targetBucketName)
+                        .object(targetObjectKey)
+                        .source(
+                            CopySource.builder()
+                                .bucket(sourceBucketName)
+                                .object(sourceObjectKey)
+                                .build()
+                        )
+                        .build()
+                );
+            }
+
+            log.info("文件复制成功: {}/{} -> {}/{}, size={}",
+                sourceBucketName, sourceObjectKey, targetBucketName, targetObjectKey, stat.size());
+        } catch (Exception e) {
+            log.error("文件复制失败: {}/{} -> {}/{}",
+                sourceBucketName, sourceObjectKey, targetBucketName, targetObjectKey, e);
+            throw new RuntimeException("文件复制失败", e);
+        }
+    }
+
     @Override
     public boolean fileExists(String bucketName, String objectKey) {
         try {
@@ -167,4 +279,62 @@ public class MinIOStorageProvider implements StorageProvider {
             throw new RuntimeException("生成预签名URL失败", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<String> listPrefixes(String bucketName, String prefix) {
+        try {
+            List<String> prefixes = new ArrayList<>();
+            Iterable<Result<Item>> results = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .recursive(false)
+                    .build()
+            );
+            for (Result<Item> result : results) {
+                Item item = result.get();
+                if (item.isDir()) {
+                    prefixes.add(item.objectName());
+                }
+            }
+            return prefixes;
+        } catch (Exception e) {
+            log.error("列出前缀失败: bucket={}, prefix={}", bucketName, prefix, e);
+            throw new RuntimeException("列出前缀失败", e);
+        }
+    }
+
+    @Override
+    public List<StoredObject> listObjects(String bucketName, String prefix, String startAfter, int maxKeys) {
+        try {
+            ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .recursive(true)
+                .maxKeys(maxKeys);
+            if (startAfter != null) {
+                args.startAfter(startAfter);
+            }
+
+            // SDK按maxKeys惰性翻页，这里只消费一页
+            List<StoredObject> objects = new ArrayList<>(maxKeys);
+            for (Result<Item> result : minioClient.listObjects(args.build())) {
+                Item item = result.get();
+                if (item.isDir()) {
+                    continue;
+                }
+                LocalDateTime lastModified = item.lastModified() != null
+                    ? item.lastModified().withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime()
+                    : null;
+                objects.add(StoredObject.of(item.objectName(), item.size(), lastModified));
+                if (objects.size() >= maxKeys) {
+                    break;
+                }
+            }
+            return objects;
+        } catch (Exception e) {
+            log.error("列出对象失败: bucket={}, prefix={}, startAfter={}", bucketName, prefix, startAfter, e);
+            throw new RuntimeException("列出对象失败", e);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.contractreview.filestorage.infrastructure.storage.provider;
 
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
+
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 存储提供者接口
@@ -19,11 +23,28 @@ public interface StorageProvider {
      */
     byte[] downloadFile(String bucketName, String objectKey);
 
+    /**
+     * 异步下载文件，响应头到达后完成；返回的流由调用方读取并关闭
+     */
+    CompletableFuture<InputStream> downloadFileAsync(String bucketName, String objectKey);
+
     /**
      * 删除文件
      */
     void deleteFile(String bucketName, String objectKey);
 
+    /**
+     * 批量删除同一存储桶中的文件，对象不存在视为删除成功
+     *
+     * @return 删除失败的对象键
+     */
+    List<String> deleteFiles(String bucketName, List<String> objectKeys);
+
+    /**
+     * 服务端复制文件（数据不经过本服务，支持跨存储桶）
+     */
+    void copyFile(String sourceBucketName, String sourceObjectKey, String targetBucketName, String targetObjectKey);
+
     /**
      * 检查文件是否存在
      */
@@ -43,4 +64,14 @@ public interface StorageProvider {
      * @return 预签名URL
      */
     String generatePresignedUrl(String bucketName, String objectKey, int expireSeconds);
-}
\ No newline at end of file
+
+    /**
+     * 列出前缀下一级的子前缀（非递归）
+     */
+    List<String> listPrefixes(String bucketName, String prefix);
+
+    /**
+     * 按键顺序分页列出前缀下的对象（递归）
+     */
+    List<StoredObject> listObjects(String bucketName, String prefix, String startAfter, int maxKeys);
+}
@@ -0,0 +1,87 @@
+package com.contractreview.filestorage.interfaces.rest.controller;
+
+import com.contractreview.filestorage.application.service.FileEventService;
+import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileEventPageResponse;
+import com.ruoyi.feign.annotation.RemotePreAuthorize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 文件变更事件控制器
+ *
+ * @author ContractReview Team
+ */
+@Tag(name = "File Events", description = "文件变更事件订阅接口")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/files/events")
+@RequiredArgsConstructor
+public class FileEventController {
+
+    private final FileEventService fileEventService;
+
+    /**
+     * 分页拉取文件变更事件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @Operation(
+            summary = "分页拉取文件变更事件",
+            description = "按事件ID升序返回上传、复制和删除事件。保存返回的nextCursor，下次作为after传入即可续传。"
+    )
+    @GetMapping
+    public ResponseEntity<ApiResponse<FileEventPageResponse>> listEvents(
+            @Parameter(description = "上次返回的nextCursor（可选，为空时从最早的事件开始）", example = "0")
+            @RequestParam(value = "after", required = false) Long after,
+            @Parameter(description = "存储桶名称（可选）", example = "contracts-bucket")
+            @RequestParam(value = "bucketName", required = false) String bucketName,
+            @Parameter(description = "每页数量（默认100，最大1000）", example = "100")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(fileEventService.listEvents(after, bucketName, limit)));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("文件事件参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("文件事件查询失败: after={}", after, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "文件事件查询失败"));
+        }
+    }
+
+    /**
+     * 以SSE订阅文件变更事件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @Operation(
+            summary = "订阅文件变更事件（SSE）",
+            description = "事件名为事件类型（UPLOADED/COPIED/DELETED），事件id为游标。断线重连时浏览器会携带Last-Event-ID自动续传；" +
+                    "未提供after和Last-Event-ID时只推送订阅之后的新事件。"
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @Parameter(description = "起始游标（可选，不包含）", example = "0")
+            @RequestParam(value = "after", required = false) Long after,
+            @Parameter(description = "存储桶名称（可选）", example = "contracts-bucket")
+            @RequestParam(value = "bucketName", required = false) String bucketName,
+            @Parameter(hidden = true)
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long cursor = after;
+        if (cursor == null && StringUtils.isNumeric(lastEventId)) {
+            cursor = Long.parseLong(lastEventId);
+        }
+        return fileEventService.subscribe(cursor, bucketName);
+    }
+}
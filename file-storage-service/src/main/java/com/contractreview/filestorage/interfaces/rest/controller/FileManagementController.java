@@ -0,0 +1,292 @@
+package com.contractreview.filestorage.interfaces.rest.controller;
+
+import com.contractreview.filestorage.application.service.FileImportService;
+import com.contractreview.filestorage.application.service.FileManagementService;
+import com.contractreview.filestorage.domain.repository.FileExportQuery;
+import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.BucketStatsResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.DailyStatsResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileImportResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FilePageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ruoyi.feign.annotation.RemotePreAuthorize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 文件管理控制器
+ *
+ * @author ContractReview Team
+ */
+@Tag(name = "File Management", description = "文件管理相关接口")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/files")
+@RequiredArgsConstructor
+public class FileManagementController {
+
+    private final FileManagementService fileManagementService;
+    private final FileImportService fileImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 分页列出文件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @Operation(
+            summary = "分页列出文件",
+            description = "按存储桶、来源类型和创建时间范围列出文件，按创建时间升序。使用返回的nextCursor获取下一页。"
+    )
+    @GetMapping("/list")
+    public ResponseEntity<ApiResponse<FilePageResponse>> listFiles(
+            @Parameter(description = "存储桶名称", required = true, example = "contracts-bucket")
+            @RequestParam("bucketName") String bucketName,
+            @Parameter(description = "来源类型（可选）", example = "UUID_UPLOAD")
+            @RequestParam(value = "sourceType", required = false) String sourceType,
+            @Parameter(description = "创建时间下界（包含，ISO格式）", example = "2024-09-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "创建时间上界（不包含，ISO格式）", example = "2024-10-01T00:00:00")
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "上一页返回的游标（可选）")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "每页数量（默认100，最大500）", example = "100")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+
+        try {
+            FilePageResponse response = fileManagementService.listFiles(
+                bucketName, sourceType, createdFrom, createdTo, cursor, limit);
+
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("文件列表参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("文件列表查询失败: bucketName={}", bucketName, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "文件列表查询失败"));
+        }
+    }
+
+    /**
+     * 搜索文件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @Operation(
+            summary = "搜索文件",
+            description = "按文件名关键字、文件类型、存储桶和创建时间范围搜索文件，文件名和类型为子串匹配（不区分大小写），" +
+                    "按创建时间倒序。使用返回的nextCursor获取下一页。"
+    )
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<FilePageResponse>> searchFiles(
+            @Parameter(description = "存储桶名称（可选）", example = "contracts-bucket")
+            @RequestParam(value = "bucketName", required = false) String bucketName,
+            @Parameter(description = "文件名关键字（可选）", example = "采购合同")
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @Parameter(description = "文件类型关键字（可选）", example = "pdf")
+            @RequestParam(value = "fileType", required = false) String fileType,
+            @Parameter(description = "创建时间下界（包含，ISO格式）", example = "2024-09-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "创建时间上界（不包含，ISO格式）", example = "2024-10-01T00:00:00")
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "上一页返回的游标（可选）")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "每页数量（默认100，最大500）", example = "100")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+
+        try {
+            FilePageResponse response = fileManagementService.searchFiles(
+                bucketName, keyword, fileType, createdFrom, createdTo, cursor, limit);
+
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("文件搜索参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("文件搜索失败: bucketName={}, keyword={}", bucketName, keyword, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "文件搜索失败"));
+        }
+    }
+
+    /**
+     * 查询存储桶统计
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin')")
+    @Operation(
+            summary = "查询存储桶统计",
+            description = "返回各存储桶的文件数和容量（区分加密和不加密），数据来自增量维护的汇总表，" +
+                    "最近几秒内的变更可能尚未计入。"
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<BucketStatsResponse>>> getBucketStats() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(fileManagementService.getBucketStats()));
+
+        } catch (Exception e) {
+            log.error("存储桶统计查询失败", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "存储桶统计查询失败"));
+        }
+    }
+
+    /**
+     * 查询存储桶按日统计
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin')")
+    @Operation(
+            summary = "查询存储桶按日统计",
+            description = "按文件创建日期返回存储桶的文件数和容量，按扩展名和是否加密细分，日期范围最长366天。"
+    )
+    @GetMapping("/stats/daily")
+    public ResponseEntity<ApiResponse<List<DailyStatsResponse>>> getDailyStats(
+            @Parameter(description = "存储桶名称", required = true, example = "contracts-bucket")
+            @RequestParam("bucketName") String bucketName,
+            @Parameter(description = "开始日期（包含，默认结束日期前30天）", example = "2024-09-01")
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "结束日期（不包含，默认明天）", example = "2024-10-01")
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(fileManagementService.getDailyStats(bucketName, from, to)));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("按日统计参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("按日统计查询失败: bucketName={}", bucketName, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "按日统计查询失败"));
+        }
+    }
+
+    /**
+     * 流式导出文件元数据
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin')")
+    @Operation(
+            summary = "导出文件元数据",
+            description = "以NDJSON或CSV格式流式导出file表。传入updatedSince时按(updatedTime, id)增量导出，" +
+                    "否则按id导出；afterId为上次导出的最后一条记录ID。"
+    )
+    @GetMapping("/export")
+    public void exportMetadata(
+            @Parameter(description = "导出格式：ndjson（默认）或 csv", example = "ndjson")
+            @RequestParam(value = "format", required = false) String format,
+            @Parameter(description = "水位线：上次导出的最后一条记录ID（可选）", example = "0")
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @Parameter(description = "水位线：只导出该时间之后更新的记录（可选，ISO格式）", example = "2024-09-01T00:00:00")
+            @RequestParam(value = "updatedSince", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            HttpServletResponse response) throws IOException {
+
+        FileExportQuery query;
+        try {
+            query = fileManagementService.buildExportQuery(format, afterId, updatedSince);
+        } catch (IllegalArgumentException e) {
+            log.warn("文件导出参数错误: {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("FS001", e.getMessage()));
+            return;
+        }
+
+        String fileName = "file-export-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+            + "." + query.getFormat().getExtension();
+        response.setContentType(query.getFormat().getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        // 响应头已发送后无法再改变状态码，导出中途失败只能记录日志并中断连接
+        fileManagementService.exportMetadata(query, response.getOutputStream());
+    }
+
+    /**
+     * 从MinIO存储桶回填文件元数据
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin')")
+    @Operation(
+            summary = "从存储桶导入文件元数据",
+            description = "扫描存储桶中 yyyy/MM/dd/{uuid}/{fileName} 布局的对象并批量写入file表，按日期前缀并行执行。" +
+                    "任务异步运行，可断点续传，已存在的UUID会被跳过。"
+    )
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<FileImportResponse>> importFromBucket(
+            @Parameter(description = "存储桶名称", required = true, example = "contracts-bucket")
+            @RequestParam("bucketName") String bucketName,
+            @Parameter(description = "日期前缀（可选）：yyyy/、yyyy/MM/ 或 yyyy/MM/dd/", example = "2024/09/")
+            @RequestParam(value = "prefix", required = false) String prefix) {
+
+        try {
+            FileImportResponse response = fileImportService.startImport(bucketName, prefix);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "导入任务已启动"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("文件导入参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("文件导入任务冲突: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("文件导入启动失败: bucketName={}", bucketName, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "文件导入启动失败"));
+        }
+    }
+
+    /**
+     * 查询存储桶导入进度
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin')")
+    @Operation(summary = "查询导入进度", description = "返回存储桶各日期前缀的导入检查点")
+    @GetMapping("/import/status")
+    public ResponseEntity<ApiResponse<FileImportResponse>> getImportStatus(
+            @Parameter(description = "存储桶名称", required = true, example = "contracts-bucket")
+            @RequestParam("bucketName") String bucketName) {
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(fileImportService.getImportStatus(bucketName)));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("导入进度参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("导入进度查询失败: bucketName={}", bucketName, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "导入进度查询失败"));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.contractreview.filestorage.interfaces.rest.controller;
 
 import com.contractreview.filestorage.application.service.UrlBasedFileService;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
 import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
+import com.contractreview.filestorage.interfaces.rest.support.ConcurrencyLane;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,7 +25,9 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * URL操作控制器
@@ -31,6 +36,7 @@ import java.util.Map;
  */
 @Tag(name = "URL-based Operations", description = "基于URL的文件操作接口")
 @RestController
+@ConcurrencyLane(RequestLane.METADATA)
 @RequestMapping("/api/v1/files")
 @RequiredArgsConstructor
 @Slf4j
@@ -43,6 +49,7 @@ public class UrlBasedFileController {
             summary = "通过URL上传文件",
             description = "上传文件到MinIO存储桶并返回访问URL。支持AES-256加密存储。"
     )
+    @ConcurrencyLane(RequestLane.TRANSFER)
     @PostMapping(value = "/upload-by-url", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<FileUploadResponse>> uploadByUrl(
             @Parameter(description = "要上传的文件", required = true, schema = @Schema(type = "string", format = "binary"))
@@ -52,15 +59,23 @@ public class UrlBasedFileController {
             @Parameter(description = "加密公钥（可选）", required = false)
             @RequestParam(value = "publicKey", required = false) String publicKey,
             @Parameter(description = "是否需要生成预览", required = false, example = "false")
-            @RequestParam(value = "needPreview", required = false, defaultValue = "false") boolean needPreview) {
+            @RequestParam(value = "needPreview", required = false, defaultValue = "false") boolean needPreview,
+            @Parameter(description = "保存时长（分钟，可选），到期后自动删除；不传时使用存储桶默认保存时长", example = "1440")
+            @RequestParam(value = "ttlMinutes", required = false) Long ttlMinutes) {
         
         try {
-            FileUploadResponse response = urlBasedFileService.uploadByUrl(file, bucketName, publicKey, needPreview);
+            FileUploadResponse response = urlBasedFileService.uploadByUrl(file, bucketName, publicKey, needPreview,
+                ttlMinutes != null ? Duration.ofMinutes(ttlMinutes) : null);
             return ResponseEntity.ok(ApiResponse.success(response, "文件上传成功"));
         } catch (IllegalArgumentException e) {
             log.warn("文件上传参数错误: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("FS004", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("文件上传被拒绝: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error("FS009", e.getMessage()));
         } catch (Exception e) {
             log.error("文件上传失败", e);
             return ResponseEntity.internalServerError()
@@ -72,6 +87,7 @@ public class UrlBasedFileController {
      * 通过URL下载文件
      */
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
+    @ConcurrencyLane(RequestLane.TRANSFER)
     @GetMapping("/download-by-url")
     public ResponseEntity<?> downloadByUrl(
             @RequestParam("fileUrl") String fileUrl,
@@ -101,6 +117,11 @@ public class UrlBasedFileController {
             log.warn("文件下载参数错误: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("文件下载被拒绝: fileUrl={}", fileUrl);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error("FS010", e.getMessage()));
         } catch (Exception e) {
             log.error("文件下载失败: fileUrl={}", fileUrl, e);
             return ResponseEntity.internalServerError()
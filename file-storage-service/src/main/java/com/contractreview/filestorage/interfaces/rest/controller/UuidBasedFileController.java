@@ -1,9 +1,19 @@
 package com.contractreview.filestorage.interfaces.rest.controller;
 
+import com.contractreview.filestorage.application.service.AsyncDownloadService;
+import com.contractreview.filestorage.application.service.AsyncUploadService;
 import com.contractreview.filestorage.application.service.UuidBasedFileService;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.config.AsyncDownloadProperties;
 import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadTaskResponse;
+import com.contractreview.filestorage.interfaces.rest.support.ConcurrencyLane;
+import com.contractreview.filestorage.interfaces.rest.support.ConcurrencyLimitInterceptor;
+import com.contractreview.filestorage.interfaces.rest.support.NonBlockingResponseWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ruoyi.feign.annotation.RemotePreAuthorize;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,17 +22,25 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * UUID模式文件操作控制器
@@ -32,17 +50,23 @@ import java.util.Map;
 @Tag(name = "UUID-based Operations", description = "基于UUID的文件操作接口")
 @Slf4j
 @RestController
+@ConcurrencyLane(RequestLane.METADATA)
 @RequestMapping("/api/v1/files/uuid")
 @RequiredArgsConstructor
 public class UuidBasedFileController {
 
     private final UuidBasedFileService uuidBasedFileService;
+    private final AsyncUploadService asyncUploadService;
+    private final AsyncDownloadService asyncDownloadService;
+    private final AsyncDownloadProperties asyncDownloadProperties;
+    private final ObjectMapper objectMapper;
 
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
     @Operation(
             summary = "通过UUID上传文件",
             description = "使用指定UUID上传文件到MinIO存储桶。UUID格式：{timestamp}-{randomString}。支持AES-256加密存储。"
     )
+    @ConcurrencyLane(RequestLane.TRANSFER)
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<FileUploadResponse>> uploadByUuid(
             @Parameter(description = "要上传的文件", required = true, schema = @Schema(type = "string", format = "binary"))
@@ -52,10 +76,13 @@ public class UuidBasedFileController {
             @Parameter(description = "加密私钥（可选）", required = false)
             @RequestParam(value = "privateKey", required = false) String privateKey,
             @Parameter(description = "是否需要生成预览", required = false, example = "false")
-            @RequestParam(value = "needPreview", required = false, defaultValue = "false") boolean needPreview) {
+            @RequestParam(value = "needPreview", required = false, defaultValue = "false") boolean needPreview,
+            @Parameter(description = "保存时长（分钟，可选），到期后自动删除；不传时使用存储桶默认保存时长", example = "1440")
+            @RequestParam(value = "ttlMinutes", required = false) Long ttlMinutes) {
         
         try {
-            FileUploadResponse response = uuidBasedFileService.uploadByUuid(file, bucketName, privateKey, needPreview);
+            FileUploadResponse response = uuidBasedFileService.uploadByUuid(file, bucketName, privateKey, needPreview,
+                ttlMinutes != null ? Duration.ofMinutes(ttlMinutes) : null);
             
             return ResponseEntity.ok(ApiResponse.success(response, "文件上传成功"));
             
@@ -63,6 +90,11 @@ public class UuidBasedFileController {
             log.warn("UUID文件上传参数错误: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("FS004", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("UUID文件上传被拒绝: fileName={}", file.getOriginalFilename());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error("FS009", e.getMessage()));
         } catch (Exception e) {
             log.error("UUID文件上传失败: fileName={}", file.getOriginalFilename(), e);
             return ResponseEntity.internalServerError()
@@ -70,10 +102,76 @@ public class UuidBasedFileController {
         }
     }
 
+    /**
+     * 异步上传文件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
+    @Operation(
+            summary = "异步上传文件",
+            description = "文件暂存到服务端磁盘后立即返回202和分配的UUID，加密和写入MinIO在后台完成。" +
+                    "通过 /upload/status 查询进度，状态为COMPLETED后文件可用。"
+    )
+    @ConcurrencyLane(RequestLane.TRANSFER)
+    @PostMapping(value = "/upload/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<FileUploadTaskResponse>> submitUpload(
+            @Parameter(description = "要上传的文件", required = true, schema = @Schema(type = "string", format = "binary"))
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "存储桶名称", required = true, example = "contracts-bucket")
+            @RequestParam("bucketName") String bucketName,
+            @Parameter(description = "加密私钥（可选）", required = false)
+            @RequestParam(value = "privateKey", required = false) String privateKey) {
+
+        try {
+            FileUploadTaskResponse response = asyncUploadService.submitUpload(file, bucketName, privateKey);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "文件上传已受理"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("异步上传参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS004", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("异步上传队列已满: fileName={}", file.getOriginalFilename());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error("FS009", e.getMessage()));
+        } catch (Exception e) {
+            log.error("异步上传受理失败: fileName={}", file.getOriginalFilename(), e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS009", "文件上传失败"));
+        }
+    }
+
+    /**
+     * 查询异步上传状态
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common,guest')")
+    @Operation(summary = "查询异步上传状态", description = "状态：PENDING、PROCESSING、COMPLETED、FAILED")
+    @GetMapping("/upload/status")
+    public ResponseEntity<ApiResponse<FileUploadTaskResponse>> getUploadStatus(
+            @Parameter(description = "文件UUID", required = true)
+            @RequestParam("fileUuid") String fileUuid) {
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success(asyncUploadService.getUploadStatus(fileUuid)));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("上传状态查询参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("上传状态查询失败: fileUuid={}", fileUuid, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS001", "上传状态查询失败"));
+        }
+    }
+
     /**
      * 通过UUID下载文件
      */
     @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
+    @ConcurrencyLane(RequestLane.TRANSFER)
     @GetMapping("/download")
     public ResponseEntity<?> downloadByUuid(
             @RequestParam("fileUuid") String fileUuid,
@@ -90,10 +188,7 @@ public class UuidBasedFileController {
             headers.setContentLength(fileData.length);
 
             // Fix Content-Disposition header for non-ASCII characters
-            String encodedFileName = UriUtils.encode(fileInfo.getFileName(), StandardCharsets.UTF_8);
-            String contentDisposition = String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s",
-                encodedFileName, encodedFileName);
-            headers.add(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+            headers.add(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(fileInfo.getFileName()));
             
             return ResponseEntity.ok()
                 .headers(headers)
@@ -103,6 +198,11 @@ public class UuidBasedFileController {
             log.warn("UUID文件下载参数错误: {}", e.getMessage());
             return ResponseEntity.badRequest()
                 .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("UUID文件下载被拒绝: fileUuid={}", fileUuid);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error("FS010", e.getMessage()));
         } catch (Exception e) {
             log.error("UUID文件下载失败: fileUuid={}", fileUuid, e);
             return ResponseEntity.internalServerError()
@@ -110,6 +210,60 @@ public class UuidBasedFileController {
         }
     }
 
+    /**
+     * 通过UUID异步下载文件
+     * 请求线程在发起对象获取后即释放，响应内容通过Servlet非阻塞I/O写出，慢客户端不占用线程
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
+    @Operation(
+            summary = "通过UUID异步下载文件",
+            description = "与 /download 返回相同的内容，适用于大量并发或慢速客户端。下载队列已满时返回503。"
+    )
+    @ConcurrencyLane(RequestLane.TRANSFER)
+    @GetMapping("/download/async")
+    public void downloadByUuidAsync(
+            @RequestParam("fileUuid") String fileUuid,
+            @RequestParam(value = "privateKey", required = false) String privateKey,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        CompletableFuture<AsyncDownloadService.DownloadedFile> download;
+        try {
+            download = asyncDownloadService.downloadByUuid(fileUuid, privateKey);
+        } catch (IllegalArgumentException e) {
+            log.warn("UUID文件下载参数错误: {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("FS001", e.getMessage()));
+            return;
+        }
+
+        // 内容准备好即结束服务端处理，向客户端写出的时间不计入并发限制的延迟反馈
+        Runnable serviceCompleted = ConcurrencyLimitInterceptor.serviceCompletion(request);
+        NonBlockingResponseWriter writer = new NonBlockingResponseWriter(request.startAsync(),
+            asyncDownloadProperties.getTimeout().toMillis(),
+            (int) asyncDownloadProperties.getWriteChunkSize().toBytes());
+        download.whenComplete((file, error) -> {
+            serviceCompleted.run();
+            if (error == null) {
+                writer.write(asyncResponse -> {
+                    asyncResponse.setContentType(file.fileType());
+                    asyncResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(file.fileName()));
+                }, file.content(), file.contentLength());
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof RejectedExecutionException) {
+                log.warn("异步下载队列已满: fileUuid={}", fileUuid);
+                writeError(writer, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "下载队列已满，请稍后重试");
+            } else {
+                log.error("UUID文件异步下载失败: fileUuid={}", fileUuid, cause);
+                writeError(writer, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "文件下载失败");
+            }
+        });
+    }
+
     /**
      * 通过UUID查询文件信息
      */
@@ -156,6 +310,38 @@ public class UuidBasedFileController {
         }
     }
 
+    /**
+     * 通过UUID复制文件
+     */
+    @RemotePreAuthorize("@ss.hasAnyRoles('admin,common')")
+    @Operation(
+            summary = "通过UUID复制文件",
+            description = "在MinIO服务端复制文件并分配新的UUID，文件内容不经过本服务。目标存储桶为空时复制到源存储桶。"
+    )
+    @ConcurrencyLane(RequestLane.TRANSFER)
+    @PostMapping("/copy")
+    public ResponseEntity<ApiResponse<FileUploadResponse>> copyByUuid(
+            @Parameter(description = "源文件UUID", required = true)
+            @RequestParam("fileUuid") String fileUuid,
+            @Parameter(description = "目标存储桶名称（可选）", required = false, example = "contracts-bucket")
+            @RequestParam(value = "targetBucketName", required = false) String targetBucketName) {
+
+        try {
+            FileUploadResponse response = uuidBasedFileService.copyByUuid(fileUuid, targetBucketName);
+
+            return ResponseEntity.ok(ApiResponse.success(response, "文件复制成功"));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("UUID文件复制参数错误: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("FS001", e.getMessage()));
+        } catch (Exception e) {
+            log.error("UUID文件复制失败: fileUuid={}", fileUuid, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("FS011", "文件复制失败"));
+        }
+    }
+
     /**
      * 生成UUID文件预览URL
      */
@@ -180,4 +366,26 @@ public class UuidBasedFileController {
                 .body(ApiResponse.error("FS001", "生成预览URL失败"));
         }
     }
-}
\ No newline at end of file
+
+    private void writeError(NonBlockingResponseWriter writer, int status, String message) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.error("FS010", message));
+        } catch (JsonProcessingException e) {
+            body = new byte[0];
+        }
+        writer.write(asyncResponse -> {
+            asyncResponse.setStatus(status);
+            if (status == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+                asyncResponse.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            }
+            asyncResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            asyncResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }, body);
+    }
+
+    private String contentDisposition(String fileName) {
+        String encodedFileName = UriUtils.encode(fileName, StandardCharsets.UTF_8);
+        return String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s", encodedFileName, encodedFileName);
+    }
+}
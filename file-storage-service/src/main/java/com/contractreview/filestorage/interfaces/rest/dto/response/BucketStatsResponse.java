@@ -0,0 +1,29 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 存储桶统计响应
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketStatsResponse {
+
+    private String bucketName;
+    private Long fileCount;
+    private Long totalBytes;
+    private Long encryptedCount;
+    private Long encryptedBytes;
+    private Long plainCount;
+    private Long plainBytes;
+    private LocalDateTime updatedTime;
+}
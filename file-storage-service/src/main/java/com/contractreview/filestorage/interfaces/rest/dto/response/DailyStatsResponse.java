@@ -0,0 +1,26 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 按日存储统计响应（按扩展名和是否加密细分）
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatsResponse {
+
+    private LocalDate statDate;
+    private String fileExtension;
+    private Boolean isEncrypted;
+    private Long fileCount;
+    private Long totalBytes;
+}
@@ -0,0 +1,24 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 文件变更事件分页响应
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEventPageResponse {
+
+    private List<FileEventResponse> items;
+    private Long nextCursor;
+    private Boolean hasMore;
+}
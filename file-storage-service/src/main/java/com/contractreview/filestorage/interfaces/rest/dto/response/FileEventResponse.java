@@ -0,0 +1,33 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文件变更事件响应
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEventResponse {
+
+    private Long id;
+    private String eventType;
+    private String uuid;
+    private String bucketName;
+    private String fileUrl;
+    private String fileName;
+    private Long fileSize;
+    private String sourceType;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private LocalDateTime createdTime;
+}
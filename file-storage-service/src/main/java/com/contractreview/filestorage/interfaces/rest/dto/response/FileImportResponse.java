@@ -0,0 +1,58 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 存储桶元数据导入进度响应
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileImportResponse {
+
+    private String bucketName;
+    private Boolean running;
+    private Long importedCount;
+    private Long skippedCount;
+    private Integer completedPrefixes;
+    private Integer totalPrefixes;
+    private List<PrefixProgress> prefixes;
+    private List<SkippedObject> skippedObjects;
+
+    /**
+     * 单个日期前缀的导入进度
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PrefixProgress {
+        private String datePrefix;
+        private String lastObjectKey;
+        private Long importedCount;
+        private Long skippedCount;
+        private Boolean completed;
+        private LocalDateTime updatedTime;
+    }
+
+    /**
+     * 导入时跳过的对象及原因
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SkippedObject {
+        private String objectKey;
+        private String reason;
+    }
+}
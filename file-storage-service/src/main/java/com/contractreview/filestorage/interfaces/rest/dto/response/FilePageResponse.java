@@ -0,0 +1,24 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 文件分页响应（键集分页）
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilePageResponse {
+
+    private List<FileInfoResponse> items;
+    private String nextCursor;
+    private Boolean hasMore;
+}
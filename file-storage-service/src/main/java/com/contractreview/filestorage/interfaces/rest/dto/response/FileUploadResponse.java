@@ -25,6 +25,11 @@ public class FileUploadResponse {
     private Long fileSize;
     private String fileType;
     private Boolean isEncrypted;
+
+    /**
+     * 过期时间，为空表示永久保存
+     */
+    private LocalDateTime expiresAt;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
     private LocalDateTime timestamp;
@@ -0,0 +1,36 @@
+package com.contractreview.filestorage.interfaces.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 异步上传任务响应
+ * 
+ * @author ContractReview Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadTaskResponse {
+
+    private String uuid;
+    private String status;
+    private String bucketName;
+    private String fileName;
+    private Long fileSize;
+    private String fileType;
+    private Boolean isEncrypted;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private LocalDateTime createdTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private LocalDateTime updatedTime;
+}
@@ -0,0 +1,20 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标注接口所属的请求通道，按通道进行并发限制；方法上的标注优先于类上的标注
+ * 
+ * @author ContractReview Team
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLane {
+
+    RequestLane value();
+}
@@ -0,0 +1,164 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.contractreview.filestorage.infrastructure.concurrency.ConcurrencyLimiters;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.config.ConcurrencyLimitProperties;
+import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文件接口并发限制拦截器
+ * 按 {@link ConcurrencyLane} 标注的通道获取许可，超过当前并发上限时立即拒绝；
+ * 请求结束后按耗时和响应状态反馈给限制器。异步写出的请求在异步处理结束时才释放许可，
+ * 但只按服务端处理的耗时反馈：向慢客户端写出的时间不代表服务端拥塞，不计入延迟
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final ConcurrencyLimiters concurrencyLimiters;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        RequestLane lane = RequestLanes.resolve(handler);
+        if (!concurrencyLimiters.isEnabled() || lane == null) {
+            return true;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.get(lane);
+        if (!limiter.tryAcquire()) {
+            concurrencyLimiters.recordRejected(lane);
+            log.warn("请求超过并发上限被拒绝: lane={}, limit={}, uri={}",
+                lane, limiter.getLimit(), request.getRequestURI());
+            reject(response, concurrencyLimiters.getLaneConfig(lane));
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        if (request.isAsyncStarted()) {
+            permit.markHandlerReturned();
+            try {
+                request.getAsyncContext().addListener(permit);
+                return;
+            } catch (IllegalStateException e) {
+                // 异步处理已结束
+            }
+        }
+        permit.release(ex != null || response.getStatus() >= 500);
+    }
+
+    /**
+     * 获取标记服务端处理结束的回调，需在请求处理线程上调用，返回的回调可在任意线程执行
+     * 异步写出的请求在内容准备好、开始写出前调用，此后的耗时不计入延迟反馈；
+     * 未调用时以处理方法返回的时间为准
+     */
+    public static Runnable serviceCompletion(HttpServletRequest request) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        return permit != null ? permit::markServiceCompleted : () -> {
+        };
+    }
+
+    private void reject(HttpServletResponse response, ConcurrencyLimitProperties.Lane config) throws IOException {
+        response.setStatus(config.getRejectStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(config.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("FS012", "服务繁忙，请稍后重试"));
+    }
+
+    /**
+     * 已获取的许可，只释放一次
+     */
+    private static final class Permit implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicLong serviceEndNanos = new AtomicLong();
+        private volatile long handlerEndNanos;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+        }
+
+        void markServiceCompleted() {
+            serviceEndNanos.compareAndSet(0, System.nanoTime());
+        }
+
+        void markHandlerReturned() {
+            handlerEndNanos = System.nanoTime();
+        }
+
+        void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(endNanos() - startNanos, dropped);
+            }
+        }
+
+        private long endNanos() {
+            long serviceEnd = serviceEndNanos.get();
+            if (serviceEnd != 0) {
+                return serviceEnd;
+            }
+            long handlerEnd = handlerEndNanos;
+            return handlerEnd != 0 ? handlerEnd : System.nanoTime();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            boolean failed = event.getSuppliedResponse() instanceof HttpServletResponse response
+                && response.getStatus() >= 500;
+            release(failed);
+        }
+
+        /**
+         * 服务端处理结束后的超时和出错是客户端写出慢或连接断开，不视为失败
+         */
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(serviceEndNanos.get() == 0);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(serviceEndNanos.get() == 0);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.concurrency.LaneBulkheads;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLaneContext;
+import com.contractreview.filestorage.interfaces.rest.dto.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 请求通道隔离拦截器
+ * 请求处理线程按通道分配上限，传输请求占满自己的份额后排队或被拒绝，不会挤占元数据请求的线程；
+ * 同时记录当前线程的通道，供数据源限制该通道持有的数据库连接数
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LaneBulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String LANE_ATTRIBUTE = LaneBulkheadInterceptor.class.getName() + ".LANE";
+
+    private final LaneBulkheads laneBulkheads;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        RequestLane lane = RequestLanes.resolve(handler);
+        if (!laneBulkheads.isEnabled() || lane == null) {
+            return true;
+        }
+
+        boolean acquired;
+        try {
+            acquired = laneBulkheads.tryAcquireCall(lane);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("请求通道已满: lane={}, uri={}", lane, request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("FS012", "服务繁忙，请稍后重试"));
+            return false;
+        }
+        request.setAttribute(LANE_ATTRIBUTE, lane);
+        RequestLaneContext.set(lane);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestLane lane = (RequestLane) request.getAttribute(LANE_ATTRIBUTE);
+        if (lane == null) {
+            return;
+        }
+        request.removeAttribute(LANE_ATTRIBUTE);
+        RequestLaneContext.clear();
+        // 异步写出不占用请求线程，处理方法返回即归还线程份额
+        laneBulkheads.releaseCall(lane);
+    }
+}
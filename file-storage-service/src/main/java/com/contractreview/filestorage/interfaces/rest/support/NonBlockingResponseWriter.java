@@ -0,0 +1,168 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 基于Servlet异步I/O的响应写出器
+ * 仅在输出缓冲区可写时写出数据，慢客户端不会占用任何线程；内容从输入流分块读取，内存中只保留一个分块。
+ * 超时、出错和正常写完三种结束方式只会生效一种，结束时关闭输入流
+ * 
+ * @author ContractReview Team
+ */
+@Slf4j
+public class NonBlockingResponseWriter implements AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final int chunkSize;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicReference<InputStream> source = new AtomicReference<>();
+
+    public NonBlockingResponseWriter(AsyncContext asyncContext, long timeoutMillis, int chunkSize) {
+        this.asyncContext = asyncContext;
+        this.chunkSize = chunkSize;
+        asyncContext.setTimeout(timeoutMillis);
+        asyncContext.addListener(this);
+    }
+
+    /**
+     * 设置响应头并注册写监听器，开始非阻塞写出
+     * 响应头只能在此回调中设置：超时后响应对象可能已被容器回收
+     *
+     * @return 已超时或已开始写出时返回false
+     */
+    public boolean write(Consumer<HttpServletResponse> headers, byte[] data) {
+        return write(headers, new ByteArrayInputStream(data), data.length);
+    }
+
+    /**
+     * 设置响应头并注册写监听器，输出缓冲区可写时才从输入流读取下一块写出；
+     * 读取对象存储的短暂等待在容器线程上进行，等待客户端接收时不占用线程。
+     * 输入流由写出器关闭，未能开始写出时也会关闭
+     *
+     * @param contentLength 内容长度，未知时传-1（分块传输编码）
+     * @return 已超时或已开始写出时返回false
+     */
+    public boolean write(Consumer<HttpServletResponse> headers, InputStream content, long contentLength) {
+        if (finished.get() || !started.compareAndSet(false, true)) {
+            closeQuietly(content);
+            return false;
+        }
+        source.set(content);
+        if (finished.get()) {
+            // 与超时并发：超时处理可能已经错过了刚设置的输入流
+            closeSource();
+            return false;
+        }
+        try {
+            HttpServletResponse response = getResponse();
+            headers.accept(response);
+            if (contentLength >= 0) {
+                response.setContentLengthLong(contentLength);
+            }
+            ServletOutputStream outputStream = response.getOutputStream();
+            outputStream.setWriteListener(new StreamWriteListener(outputStream, content));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("非阻塞写出启动失败", e);
+            complete();
+            return false;
+        }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        // 尚未开始写出时返回503，写出过程中超时只能中断连接
+        if (started.compareAndSet(false, true)) {
+            getResponse().setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        log.debug("异步响应出错", event.getThrowable());
+        complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        finished.set(true);
+        closeSource();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private HttpServletResponse getResponse() {
+        return (HttpServletResponse) asyncContext.getResponse();
+    }
+
+    private void complete() {
+        if (finished.compareAndSet(false, true)) {
+            closeSource();
+            asyncContext.complete();
+        }
+    }
+
+    private void closeSource() {
+        InputStream content = source.getAndSet(null);
+        if (content != null) {
+            closeQuietly(content);
+        }
+    }
+
+    private static void closeQuietly(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            log.debug("关闭响应内容流失败", e);
+        }
+    }
+
+    private final class StreamWriteListener implements WriteListener {
+
+        private final ServletOutputStream outputStream;
+        private final InputStream content;
+        private final byte[] buffer = new byte[chunkSize];
+        private long written;
+
+        private StreamWriteListener(ServletOutputStream outputStream, InputStream content) {
+            this.outputStream = outputStream;
+            this.content = content;
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            while (outputStream.isReady()) {
+                int length = content.read(buffer);
+                if (length == -1) {
+                    complete();
+                    return;
+                }
+                outputStream.write(buffer, 0, length);
+                written += length;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("响应写出中断: written={}", written, t);
+            complete();
+        }
+    }
+}
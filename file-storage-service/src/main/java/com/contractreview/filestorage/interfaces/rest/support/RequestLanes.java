@@ -0,0 +1,29 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 解析处理方法所属的请求通道
+ * 
+ * @author ContractReview Team
+ */
+final class RequestLanes {
+
+    private RequestLanes() {
+    }
+
+    /**
+     * 方法上的 {@link ConcurrencyLane} 优先于类上的标注，均未标注时返回null
+     */
+    static RequestLane resolve(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        ConcurrencyLane annotation = handlerMethod.getMethodAnnotation(ConcurrencyLane.class);
+        if (annotation == null) {
+            annotation = handlerMethod.getBeanType().getAnnotation(ConcurrencyLane.class);
+        }
+        return annotation != null ? annotation.value() : null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.storage.admission.ResponseReservations;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 下载内容传输预算拦截器
+ * 请求处理期间预留的传输预算在响应写出后才释放：同步响应在处理完成（响应体已写出）时释放，
+ * 异步写出的响应在异步处理结束（写完、超时或出错）时释放
+ *
+ * @author ContractReview Team
+ */
+public class ResponseReservationInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = ResponseReservationInterceptor.class.getName() + ".SCOPE";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, ResponseReservations.open());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ResponseReservations scope = (ResponseReservations) request.getAttribute(SCOPE_ATTRIBUTE);
+        ResponseReservations.clear();
+        if (scope == null) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+
+        if (request.isAsyncStarted()) {
+            try {
+                request.getAsyncContext().addListener(new ReleaseOnAsyncEnd(scope));
+                return;
+            } catch (IllegalStateException e) {
+                // 异步处理已结束
+            }
+        }
+        scope.release();
+    }
+
+    private record ReleaseOnAsyncEnd(ResponseReservations scope) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            scope.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            scope.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            scope.release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- 删除队列索引：只包含待清理的DELETED记录
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_file_deleted_purge_after
+    ON file (purge_after) WHERE status = 'DELETED';
@@ -0,0 +1,7 @@
+-- 主键改为按块分配：序列每次递增50，应用一次取号得到一段连续主键，批量插入无需逐行取号
+-- 按pooled方式分配（取到的值为段尾），直接使用列默认值nextval的写入（批量导入）与应用分配的主键段不会重叠
+DO $$
+BEGIN
+    EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', pg_get_serial_sequence('file', 'id'));
+END
+$$;
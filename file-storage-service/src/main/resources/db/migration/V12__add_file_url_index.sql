@@ -0,0 +1,4 @@
+-- 按URL查询、判断存在和删除（findByFileUrl / existsByFileUrl / deleteByFileUrl）
+-- 部分环境缺少该索引导致全表扫描；按UUID的查询和更新走 uk_file_attachment_uuid 唯一约束
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_file_file_url
+    ON file (file_url);
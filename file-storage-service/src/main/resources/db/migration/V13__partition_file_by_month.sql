@@ -0,0 +1,170 @@
+-- file表按月范围分区：分区键 attachment_time 取自 attachment_uuid 的时间戳部分（yyyyMMddHHmmss）
+-- 按UUID的查询和更新同时带上分区键，只访问一个分区；过期月份可整体分离（DETACH）归档，无需逐行删除
+-- 普通表不能原地转换为分区表，按以下阶段在线迁移（本脚本不在事务内执行，见同名 .conf），迁移期间原表正常读写：
+--   1. 新建分区表 file_partitioned 及其索引，原表上的触发器把此后的写入同步到分区表
+--   2. 按主键分批复制存量数据，每批单独提交，只短暂锁定本批行
+--   3. 短事务内删除原表、分区表改名为 file（只有元数据操作，等待锁超时则迁移失败，可修复后重新执行）
+-- attachment_uuid 时间戳不合法（非数字、月份或日期越界）的记录无法确定分区，复制到 file_attachment_quarantine 待人工处理，不进入新表
+-- 主键和唯一约束必须包含分区键；attachment_time 由 attachment_uuid 唯一确定，(attachment_uuid, attachment_time) 唯一即 attachment_uuid 唯一
+-- 此后的月份分区由应用定时预建（file-storage.partition），超出已建范围的记录落入默认分区
+
+-- 解析UUID时间戳，不合法时返回NULL
+CREATE OR REPLACE FUNCTION file_attachment_time(uuid varchar) RETURNS timestamp
+    LANGUAGE plpgsql IMMUTABLE AS $$
+BEGIN
+    IF uuid !~ '^[0-9]{14}' THEN
+        RETURN NULL;
+    END IF;
+    RETURN make_timestamp(substr(uuid, 1, 4)::int, substr(uuid, 5, 2)::int, substr(uuid, 7, 2)::int,
+                          substr(uuid, 9, 2)::int, substr(uuid, 11, 2)::int, substr(uuid, 13, 2)::int);
+EXCEPTION
+    WHEN datetime_field_overflow OR invalid_datetime_format THEN
+        RETURN NULL;
+END
+$$;
+
+-- 阶段1：分区表、隔离表和同步触发器
+DO $$
+DECLARE
+    first_month     date;
+    last_month      date := date_trunc('month', now())::date + interval '3 months';
+    partition_month date;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'file'::regclass) = 'p'
+        OR to_regclass('file_partitioned') IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    CREATE TABLE file_partitioned (
+        LIKE file INCLUDING DEFAULTS,
+        attachment_time timestamp NOT NULL
+    ) PARTITION BY RANGE (attachment_time);
+
+    SELECT coalesce(date_trunc('month', min(file_attachment_time(attachment_uuid)))::date,
+                    date_trunc('month', now())::date)
+      INTO first_month
+      FROM file;
+
+    partition_month := first_month;
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF file_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       'file_p' || to_char(partition_month, 'YYYYMM'), partition_month, partition_month + interval '1 month');
+        partition_month := partition_month + interval '1 month';
+    END LOOP;
+    CREATE TABLE file_pdefault PARTITION OF file_partitioned DEFAULT;
+
+    -- 切换前与原表的约束、索引重名，先用临时名称，切换时改回
+    ALTER TABLE file_partitioned ADD CONSTRAINT file_partitioned_pkey PRIMARY KEY (id, attachment_time);
+    ALTER TABLE file_partitioned ADD CONSTRAINT uk_file_partitioned_attachment_uuid UNIQUE (attachment_uuid, attachment_time);
+
+    -- 重建V2、V3、V8、V10、V12的索引（分区表上的索引会在每个分区上创建）
+    CREATE INDEX idx_file_partitioned_bucket_created_id ON file_partitioned (bucket_name, created_time, id);
+    CREATE INDEX idx_file_partitioned_updated_id ON file_partitioned (updated_time, id);
+    CREATE INDEX idx_file_partitioned_uncommitted ON file_partitioned (created_time) WHERE status IN ('PENDING', 'ABANDONED');
+    CREATE INDEX idx_file_partitioned_deleted_purge_after ON file_partitioned (purge_after) WHERE status = 'DELETED';
+    CREATE INDEX idx_file_partitioned_file_url ON file_partitioned (file_url);
+
+    CREATE TABLE IF NOT EXISTS file_attachment_quarantine (
+        LIKE file,
+        quarantined_time timestamp NOT NULL DEFAULT now()
+    );
+END
+$$;
+
+-- 原表的写入同步到分区表：更新和删除先删除旧行，新增和更新再写入新行；时间戳不合法的行写入隔离表
+CREATE OR REPLACE FUNCTION file_partition_sync() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+DECLARE
+    partition_key timestamp;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM file_partitioned p
+         WHERE p.id = OLD.id AND p.attachment_time = file_attachment_time(OLD.attachment_uuid);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        partition_key := file_attachment_time(NEW.attachment_uuid);
+        IF partition_key IS NULL THEN
+            INSERT INTO file_attachment_quarantine SELECT (NEW).*;
+        ELSE
+            INSERT INTO file_partitioned SELECT (NEW).*, partition_key ON CONFLICT DO NOTHING;
+        END IF;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DO $$
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'file'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+    DROP TRIGGER IF EXISTS file_partition_sync ON file;
+    CREATE TRIGGER file_partition_sync AFTER INSERT OR UPDATE OR DELETE ON file
+        FOR EACH ROW EXECUTE FUNCTION file_partition_sync();
+END
+$$;
+
+-- 阶段2：按主键分批复制存量数据；本批行加共享锁，并发更新等本批提交后再经触发器同步，不会被旧版本覆盖
+CREATE OR REPLACE PROCEDURE file_partition_backfill(batch_size int)
+    LANGUAGE plpgsql AS $$
+DECLARE
+    last_id bigint := 0;
+    next_id bigint;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'file'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+    LOOP
+        WITH batch AS (
+            SELECT * FROM file WHERE id > last_id ORDER BY id LIMIT batch_size FOR SHARE
+        ), copied AS (
+            INSERT INTO file_partitioned
+            SELECT b.*, file_attachment_time(b.attachment_uuid) FROM batch b
+             WHERE file_attachment_time(b.attachment_uuid) IS NOT NULL
+            ON CONFLICT DO NOTHING
+        ), quarantined AS (
+            INSERT INTO file_attachment_quarantine
+            SELECT b.* FROM batch b
+             WHERE file_attachment_time(b.attachment_uuid) IS NULL
+        )
+        SELECT max(id) INTO next_id FROM batch;
+
+        EXIT WHEN next_id IS NULL;
+        last_id := next_id;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+CALL file_partition_backfill(10000);
+
+-- 阶段3：切换；只有元数据操作，锁等待超过5秒则放弃，避免排队阻塞业务请求
+DO $$
+DECLARE
+    id_sequence text := pg_get_serial_sequence('file', 'id');
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'file'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+
+    SET LOCAL lock_timeout = '5s';
+    LOCK TABLE file IN ACCESS EXCLUSIVE MODE;
+
+    EXECUTE format('ALTER SEQUENCE %s OWNED BY NONE', id_sequence);
+    DROP TABLE file;
+    ALTER TABLE file_partitioned RENAME TO file;
+    EXECUTE format('ALTER SEQUENCE %s OWNED BY file.id', id_sequence);
+
+    ALTER TABLE file RENAME CONSTRAINT file_partitioned_pkey TO file_pkey;
+    ALTER TABLE file RENAME CONSTRAINT uk_file_partitioned_attachment_uuid TO uk_file_attachment_uuid;
+    ALTER INDEX idx_file_partitioned_bucket_created_id RENAME TO idx_file_bucket_created_id;
+    ALTER INDEX idx_file_partitioned_updated_id RENAME TO idx_file_updated_id;
+    ALTER INDEX idx_file_partitioned_uncommitted RENAME TO idx_file_uncommitted;
+    ALTER INDEX idx_file_partitioned_deleted_purge_after RENAME TO idx_file_deleted_purge_after;
+    ALTER INDEX idx_file_partitioned_file_url RENAME TO idx_file_file_url;
+END
+$$;
+
+DROP PROCEDURE IF EXISTS file_partition_backfill(int);
+DROP FUNCTION IF EXISTS file_partition_sync();
+DROP FUNCTION IF EXISTS file_attachment_time(varchar);
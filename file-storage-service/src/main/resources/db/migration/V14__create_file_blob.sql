@@ -0,0 +1,20 @@
+-- 内容寻址去重存储：相同内容（SHA-256）在每个存储桶中只存储一份对象，对象键为 blobs/{hash前2位}/{hash}
+-- file.content_hash 非空的记录指向共享对象；为空的记录仍按 yyyy/MM/dd/{uuid}/{fileName} 独立存储
+ALTER TABLE file ADD COLUMN IF NOT EXISTS content_hash varchar(64);
+
+-- 共享对象引用计数：已提交及已标记删除的记录各持有一个引用，记录物理删除时同一事务内释放
+-- stored 表示对象已写入MinIO；last_referenced 为最近一次上传复用或释放的时间，回收任务只回收宽限期外无引用的对象
+CREATE TABLE IF NOT EXISTS file_blob (
+    bucket_name     varchar(60)  NOT NULL,
+    content_hash    varchar(64)  NOT NULL,
+    file_size       bigint,
+    ref_count       bigint       NOT NULL DEFAULT 0,
+    stored          boolean      NOT NULL DEFAULT false,
+    last_referenced timestamp    NOT NULL DEFAULT now(),
+    created_time    timestamp    NOT NULL DEFAULT now(),
+    PRIMARY KEY (bucket_name, content_hash)
+);
+
+-- 回收队列：只包含无引用的对象
+CREATE INDEX IF NOT EXISTS idx_file_blob_unreferenced
+    ON file_blob (last_referenced) WHERE ref_count = 0;
@@ -0,0 +1,3 @@
+-- 按URL的查询、判断存在和删除改为从URL中解析UUID后走 uk_file_attachment_uuid，不再需要V12的 file_url 索引
+-- 分区表上的索引不支持 DROP INDEX CONCURRENTLY；删除索引只需短暂的排他锁
+DROP INDEX IF EXISTS idx_file_file_url;
@@ -0,0 +1,12 @@
+-- 元数据搜索：文件名、文件类型子串匹配（ILIKE '%关键字%'）走 pg_trgm GIN 索引
+-- 中文文件名需数据库的 LC_CTYPE 为UTF-8区域（如 zh_CN.UTF-8、en_US.UTF-8），C区域下pg_trgm会忽略非ASCII字符
+-- 少于3个字符的关键字无法提取三元组，由存储桶和创建时间条件缩小范围后过滤
+-- 分区表上不支持 CREATE INDEX CONCURRENTLY，建索引期间阻塞file表写入；
+-- 大表可先在各分区上并发建索引后挂载到同名父索引，本脚本随后因 IF NOT EXISTS 跳过
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_file_file_name_trgm
+    ON file USING gin (file_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_file_file_type_trgm
+    ON file USING gin (file_type gin_trgm_ops);
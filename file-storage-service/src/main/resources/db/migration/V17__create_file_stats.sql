@@ -0,0 +1,47 @@
+-- 存储统计汇总表：新增和删除时由各实例在内存中累加，按批次增量写入；容量查询不再扫描file表
+-- 统计口径为已提交的记录（标记删除即扣减），字节数为记录的文件大小（去重共享对象按引用分别计入）
+
+-- 按存储桶、创建日期、扩展名和是否加密汇总
+CREATE TABLE IF NOT EXISTS file_stats_daily (
+    bucket_name    varchar(60)  NOT NULL,
+    stat_date      date         NOT NULL,
+    file_extension varchar(240) NOT NULL,
+    is_encrypted   boolean      NOT NULL,
+    file_count     bigint       NOT NULL DEFAULT 0,
+    total_bytes    bigint       NOT NULL DEFAULT 0,
+    updated_time   timestamp    NOT NULL DEFAULT now(),
+    PRIMARY KEY (bucket_name, stat_date, file_extension, is_encrypted)
+);
+
+-- 按存储桶汇总，容量接口只读取该表（行数等于存储桶数）
+CREATE TABLE IF NOT EXISTS file_stats_bucket (
+    bucket_name     varchar(60) PRIMARY KEY,
+    file_count      bigint      NOT NULL DEFAULT 0,
+    total_bytes     bigint      NOT NULL DEFAULT 0,
+    encrypted_count bigint      NOT NULL DEFAULT 0,
+    encrypted_bytes bigint      NOT NULL DEFAULT 0,
+    updated_time    timestamp   NOT NULL DEFAULT now()
+);
+
+-- 由现有记录初始化（只在汇总表为空时执行，脚本可重复执行）
+INSERT INTO file_stats_daily (bucket_name, stat_date, file_extension, is_encrypted, file_count, total_bytes)
+SELECT bucket_name,
+       created_time::date,
+       COALESCE(lower(substring(file_name from '\.([^.]*)$')), ''),
+       COALESCE(is_encrypted, false),
+       count(*),
+       COALESCE(sum(file_size), 0)
+FROM file
+WHERE status = 'COMMITTED'
+  AND NOT EXISTS (SELECT 1 FROM file_stats_daily)
+GROUP BY 1, 2, 3, 4;
+
+INSERT INTO file_stats_bucket (bucket_name, file_count, total_bytes, encrypted_count, encrypted_bytes)
+SELECT bucket_name,
+       sum(file_count),
+       sum(total_bytes),
+       COALESCE(sum(file_count) FILTER (WHERE is_encrypted), 0),
+       COALESCE(sum(total_bytes) FILTER (WHERE is_encrypted), 0)
+FROM file_stats_daily
+WHERE NOT EXISTS (SELECT 1 FROM file_stats_bucket)
+GROUP BY bucket_name;
@@ -0,0 +1,8 @@
+-- 文件过期：expires_at 为空表示永久保存；到期的已提交记录由生命周期任务分批标记为DELETED，
+-- 随后复用删除队列批量删除对象并物理删除记录
+ALTER TABLE file ADD COLUMN IF NOT EXISTS expires_at timestamp;
+
+-- 过期队列索引：只包含设置了过期时间的已提交记录，永久文件不进入索引
+-- 分区表上不支持 CREATE INDEX CONCURRENTLY；新列全部为空，建索引只需扫描表、不写入索引项
+CREATE INDEX IF NOT EXISTS idx_file_expires_at
+    ON file (expires_at) WHERE status = 'COMMITTED' AND expires_at IS NOT NULL;
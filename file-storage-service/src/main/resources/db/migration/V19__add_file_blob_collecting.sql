@@ -0,0 +1,3 @@
+-- 共享对象回收分两步：短事务认领（标记回收中）后在事务外删除MinIO对象，再删除记录
+-- collecting_since 非空表示回收中：上传不再复用或登记该对象，超过认领租约仍未删除的对象可被重新认领
+ALTER TABLE file_blob ADD COLUMN IF NOT EXISTS collecting_since timestamp;
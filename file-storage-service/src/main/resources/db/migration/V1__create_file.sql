@@ -0,0 +1,18 @@
+-- 基线：文件元数据表
+-- 已有数据库首次启用Flyway时按版本1建立基线（baseline-on-migrate），不会执行本脚本
+CREATE TABLE IF NOT EXISTS file (
+    id                   bigserial     PRIMARY KEY,
+    attachment_uuid      varchar(50)   NOT NULL,
+    directory            varchar(400),
+    file_url             varchar(120),
+    file_type            varchar(240),
+    file_name            varchar(240),
+    file_size            bigint,
+    bucket_name          varchar(60),
+    source_type          varchar(60),
+    is_encrypted         boolean       DEFAULT false,
+    encryption_algorithm varchar(20),
+    created_time         timestamp,
+    updated_time         timestamp,
+    CONSTRAINT uk_file_attachment_uuid UNIQUE (attachment_uuid)
+);
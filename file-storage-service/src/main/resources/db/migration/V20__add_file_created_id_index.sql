@@ -0,0 +1,7 @@
+-- 跨存储桶搜索：不带 bucket_name 条件时按 created_time DESC, id DESC 排序并键集翻页，
+-- (bucket_name, created_time, id) 索引无法提供该顺序，需要单独的 (created_time, id) 索引反向扫描
+-- 只包含已提交记录，与搜索条件 status = 'COMMITTED' 一致
+-- 分区表上不支持 CREATE INDEX CONCURRENTLY，建索引期间阻塞file表写入；
+-- 大表可先在各分区上并发建索引后挂载到同名父索引，本脚本随后因 IF NOT EXISTS 跳过
+CREATE INDEX IF NOT EXISTS idx_file_created_id
+    ON file (created_time, id) WHERE status = 'COMMITTED';
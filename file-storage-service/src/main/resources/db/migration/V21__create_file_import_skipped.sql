@@ -0,0 +1,10 @@
+-- 存储桶元数据导入跳过记录：对象键不符合 yyyy/MM/dd/{uuid}/{fileName} 布局或元数据无效的对象逐个记录原因，
+-- 与检查点在同一事务中写入，导入进度中可查看
+CREATE TABLE IF NOT EXISTS file_import_skipped (
+    bucket_name  varchar(60)   NOT NULL,
+    object_key   varchar(1024) NOT NULL,
+    date_prefix  varchar(20)   NOT NULL,
+    reason       varchar(400)  NOT NULL,
+    skipped_time timestamp     NOT NULL DEFAULT now(),
+    PRIMARY KEY (bucket_name, object_key)
+);
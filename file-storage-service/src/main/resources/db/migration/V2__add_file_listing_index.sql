@@ -0,0 +1,3 @@
+-- 文件列表键集分页索引：bucket_name 等值过滤 + (created_time, id) 有序扫描
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_file_bucket_created_id
+    ON file (bucket_name, created_time, id);
@@ -0,0 +1,3 @@
+-- 增量导出索引：按 (updated_time, id) 水位线顺序扫描
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_file_updated_id
+    ON file (updated_time, id);
@@ -0,0 +1,11 @@
+-- 存储桶元数据导入检查点：每个日期前缀一行，支持断点续传
+CREATE TABLE IF NOT EXISTS file_import_checkpoint (
+    bucket_name     varchar(60)  NOT NULL,
+    date_prefix     varchar(20)  NOT NULL,
+    last_object_key varchar(400),
+    imported_count  bigint       NOT NULL DEFAULT 0,
+    skipped_count   bigint       NOT NULL DEFAULT 0,
+    completed       boolean      NOT NULL DEFAULT false,
+    updated_time    timestamp    NOT NULL DEFAULT now(),
+    PRIMARY KEY (bucket_name, date_prefix)
+);
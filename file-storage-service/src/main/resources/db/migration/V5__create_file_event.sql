@@ -0,0 +1,15 @@
+-- 文件变更事件日志：与file表写入处于同一事务，按id顺序供变更订阅消费
+CREATE TABLE IF NOT EXISTS file_event (
+    id              bigserial    PRIMARY KEY,
+    event_type      varchar(20)  NOT NULL,
+    attachment_uuid varchar(50)  NOT NULL,
+    bucket_name     varchar(60),
+    file_url        varchar(120),
+    file_name       varchar(240),
+    file_size       bigint,
+    source_type     varchar(60),
+    created_time    timestamp    NOT NULL DEFAULT clock_timestamp()
+);
+
+-- 过期事件清理
+CREATE INDEX IF NOT EXISTS idx_file_event_created_time ON file_event (created_time);
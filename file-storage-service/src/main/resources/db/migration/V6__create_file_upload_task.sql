@@ -0,0 +1,17 @@
+-- 异步上传任务：文件已暂存到本地磁盘，由后台线程写入MinIO并保存元数据
+CREATE TABLE IF NOT EXISTS file_upload_task (
+    attachment_uuid varchar(50)  PRIMARY KEY,
+    bucket_name     varchar(60)  NOT NULL,
+    file_name       varchar(240) NOT NULL,
+    file_type       varchar(240),
+    file_size       bigint,
+    is_encrypted    boolean      NOT NULL DEFAULT false,
+    status          varchar(20)  NOT NULL,
+    error_message   varchar(500),
+    created_time    timestamp    NOT NULL,
+    updated_time    timestamp    NOT NULL
+);
+
+-- 服务重启后恢复未完成任务
+CREATE INDEX IF NOT EXISTS idx_file_upload_task_unfinished
+    ON file_upload_task (created_time) WHERE status IN ('PENDING', 'PROCESSING');
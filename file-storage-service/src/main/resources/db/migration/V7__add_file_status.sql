@@ -0,0 +1,4 @@
+-- 上传两阶段提交：先写入PENDING记录，对象传输完成后更新为COMMITTED
+-- 失败或超时未提交的记录标记为ABANDONED，删除对象后再删除记录
+-- 常量默认值只修改表元数据，不重写已有数据
+ALTER TABLE file ADD COLUMN IF NOT EXISTS status varchar(20) NOT NULL DEFAULT 'COMMITTED';
@@ -0,0 +1,3 @@
+-- 未提交记录清理索引：只包含少量PENDING/ABANDONED记录
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_file_uncommitted
+    ON file (created_time) WHERE status IN ('PENDING', 'ABANDONED');
@@ -0,0 +1,4 @@
+-- 异步删除：删除时只将记录标记为DELETED，由后台任务批量删除对象后再物理删除记录
+-- purge_attempts 为对象删除失败次数，purge_after 为下次允许重试的时间（指数退避）
+ALTER TABLE file ADD COLUMN IF NOT EXISTS purge_attempts integer NOT NULL DEFAULT 0;
+ALTER TABLE file ADD COLUMN IF NOT EXISTS purge_after timestamp;
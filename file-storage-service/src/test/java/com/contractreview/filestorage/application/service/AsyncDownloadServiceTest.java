@@ -0,0 +1,107 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.AsyncDownloadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 异步下载应用服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncDownloadServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private FileResourceRepository fileResourceRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private ThreadPoolTaskExecutor downloadExecutor;
+
+    private AsyncDownloadService asyncDownloadService;
+
+    @BeforeEach
+    void setUp() {
+        asyncDownloadService = new AsyncDownloadService(fileStorageService, fileResourceRepository,
+            encryptionService, downloadExecutor, new AsyncDownloadProperties());
+    }
+
+    @Test
+    void downloadByUuid_加密文件在获取后解密() throws Exception {
+        // Given
+        FileResource fileResource = FileResource.create("test.pdf", "application/pdf", 12L,
+            "test-bucket", "UUID_UPLOAD", true);
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        when(fileResourceRepository.findByFileUuid(uuid)).thenReturn(Optional.of(fileResource));
+        when(fileStorageService.retrieveFileAsync(fileResource, downloadExecutor))
+            .thenReturn(CompletableFuture.completedFuture("cipher".getBytes()));
+        when(encryptionService.decrypt(any(), eq("key"))).thenReturn("test content".getBytes());
+
+        // When
+        AsyncDownloadService.DownloadedFile file = asyncDownloadService.downloadByUuid(uuid, "key").join();
+
+        // Then
+        assertEquals("test.pdf", file.fileName());
+        assertEquals("application/pdf", file.fileType());
+        assertEquals(12L, file.contentLength());
+        assertArrayEquals("test content".getBytes(), file.content().readAllBytes());
+    }
+
+    @Test
+    void downloadByUuid_未加密文件直接返回对象内容流() throws Exception {
+        // Given
+        FileResource fileResource = FileResource.create("test.pdf", "application/pdf", 12L,
+            "test-bucket", "UUID_UPLOAD", false);
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        InputStream objectContent = new ByteArrayInputStream("test content".getBytes());
+        when(fileResourceRepository.findByFileUuid(uuid)).thenReturn(Optional.of(fileResource));
+        when(fileStorageService.openFileAsync(fileResource, DataSize.ofKilobytes(64).toBytes()))
+            .thenReturn(CompletableFuture.completedFuture(objectContent));
+
+        // When
+        AsyncDownloadService.DownloadedFile file = asyncDownloadService.downloadByUuid(uuid, null).join();
+
+        // Then
+        assertSame(objectContent, file.content());
+        assertEquals(12L, file.contentLength());
+        verify(fileStorageService, never()).retrieveFileAsync(any(), any());
+    }
+
+    @Test
+    void downloadByUuid_加密文件缺少私钥时不发起获取() {
+        // Given
+        FileResource fileResource = FileResource.create("test.pdf", "application/pdf", 12L,
+            "test-bucket", "UUID_UPLOAD", true);
+        String uuid = fileResource.getAttachmentUuid().getValue();
+        when(fileResourceRepository.findByFileUuid(uuid)).thenReturn(Optional.of(fileResource));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> asyncDownloadService.downloadByUuid(uuid, null));
+        verify(fileStorageService, never()).retrieveFileAsync(any(), any());
+    }
+}
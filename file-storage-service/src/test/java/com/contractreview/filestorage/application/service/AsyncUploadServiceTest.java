@@ -0,0 +1,222 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.model.UploadTask;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.UploadTaskRepository;
+import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.AsyncUploadProperties;
+import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadTaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 异步上传应用服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncUploadServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private FileResourceRepository fileResourceRepository;
+
+    @Mock
+    private UploadTaskRepository uploadTaskRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private PendingFileReconciler pendingFileReconciler;
+
+    @Mock
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    @TempDir
+    Path stagingDir;
+
+    private final AsyncUploadProperties properties = new AsyncUploadProperties();
+    private AsyncUploadService asyncUploadService;
+    private MockMultipartFile testFile;
+
+    @BeforeEach
+    void setUp() {
+        properties.setStagingDir(stagingDir.toString());
+        properties.setWorkerThreads(1);
+        properties.setQueueCapacity(0);
+        properties.setRetryBackoff(Duration.ZERO);
+
+        asyncUploadService = new AsyncUploadService(fileStorageService, fileResourceRepository,
+            uploadTaskRepository, encryptionService, pendingFileReconciler, properties, uploadExecutor);
+
+        testFile = new MockMultipartFile("file", "test.pdf", "application/pdf", "test content".getBytes());
+    }
+
+    @Test
+    void submitUpload_暂存后返回待处理任务并由后台完成上传() throws Exception {
+        // When
+        FileUploadTaskResponse response = asyncUploadService.submitUpload(testFile, "test-bucket", null);
+
+        // Then
+        assertEquals("PENDING", response.getStatus());
+        assertEquals("test.pdf", response.getFileName());
+        Path stagedFile = stagingDir.resolve(response.getUuid());
+        assertArrayEquals("test content".getBytes(), Files.readAllBytes(stagedFile));
+        verify(uploadTaskRepository).save(any(UploadTask.class));
+
+        // 执行后台任务
+        ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+        verify(uploadExecutor).execute(worker.capture());
+        worker.getValue().run();
+
+        verify(fileStorageService).storeFile(any(FileResource.class), any(InputStream.class), eq(12L), eq("application/pdf"));
+        verify(fileResourceRepository).savePending(any(FileResource.class));
+        verify(fileResourceRepository).commitPending(any());
+        verify(uploadTaskRepository).updateStatus(response.getUuid(), UploadTask.Status.COMPLETED, null);
+        assertFalse(Files.exists(stagedFile));
+    }
+
+    @Test
+    void submitUpload_队列已满时拒绝() {
+        // Given: 唯一的名额已被占用
+        asyncUploadService.submitUpload(testFile, "test-bucket", null);
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class,
+            () -> asyncUploadService.submitUpload(testFile, "test-bucket", null));
+        verify(uploadTaskRepository, times(1)).save(any(UploadTask.class));
+    }
+
+    @Test
+    void submitUpload_临时故障保留暂存文件并重试() throws Exception {
+        // Given
+        doThrow(new RuntimeException("MinIO连接超时")).doNothing()
+            .when(fileStorageService).storeFile(any(FileResource.class), any(InputStream.class), eq(12L), eq("application/pdf"));
+        FileUploadTaskResponse response = asyncUploadService.submitUpload(testFile, "test-bucket", null);
+        Path stagedFile = stagingDir.resolve(response.getUuid());
+
+        // When: 第一次尝试失败
+        ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+        verify(uploadExecutor).execute(worker.capture());
+        worker.getValue().run();
+
+        // Then: 暂存文件保留，重试提交到上传线程池
+        assertTrue(Files.exists(stagedFile));
+        verify(uploadTaskRepository).updateStatus(eq(response.getUuid()), eq(UploadTask.Status.PENDING), any());
+        verify(uploadTaskRepository, never()).updateStatus(eq(response.getUuid()), eq(UploadTask.Status.FAILED), any());
+        verify(uploadExecutor, timeout(1000).times(2)).execute(worker.capture());
+
+        // When: 重试成功
+        worker.getValue().run();
+
+        // Then
+        verify(uploadTaskRepository).updateStatus(response.getUuid(), UploadTask.Status.COMPLETED, null);
+        assertFalse(Files.exists(stagedFile));
+    }
+
+    @Test
+    void submitUpload_提交后更新完成状态失败时不重试() throws Exception {
+        // Given
+        FileUploadTaskResponse response = asyncUploadService.submitUpload(testFile, "test-bucket", null);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(1) == UploadTask.Status.COMPLETED) {
+                throw new RuntimeException("数据库连接超时");
+            }
+            return null;
+        }).when(uploadTaskRepository).updateStatus(any(), any(), any());
+
+        // When
+        ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+        verify(uploadExecutor).execute(worker.capture());
+        worker.getValue().run();
+
+        // Then: 文件已提交，不再重试也不标记失败
+        verify(fileResourceRepository, times(1)).savePending(any(FileResource.class));
+        verify(fileResourceRepository).commitPending(any());
+        verify(uploadExecutor, times(1)).execute(any());
+        verify(uploadTaskRepository, never()).updateStatus(eq(response.getUuid()), eq(UploadTask.Status.FAILED), any());
+        assertFalse(Files.exists(stagingDir.resolve(response.getUuid())));
+    }
+
+    @Test
+    void submitUpload_重试时记录已提交则直接完成() throws Exception {
+        // Given: 第一次尝试提交成功后连接中断，提交结果未知
+        when(fileResourceRepository.commitPending(any())).thenThrow(new RuntimeException("连接已重置"));
+        FileUploadTaskResponse response = asyncUploadService.submitUpload(testFile, "test-bucket", null);
+        ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+        verify(uploadExecutor).execute(worker.capture());
+        worker.getValue().run();
+        verify(uploadExecutor, timeout(1000).times(2)).execute(worker.capture());
+        when(fileResourceRepository.existsByUuid(any())).thenReturn(true);
+
+        // When: 重试
+        worker.getValue().run();
+
+        // Then
+        verify(fileResourceRepository, times(1)).savePending(any(FileResource.class));
+        verify(uploadTaskRepository).updateStatus(response.getUuid(), UploadTask.Status.COMPLETED, null);
+        assertFalse(Files.exists(stagingDir.resolve(response.getUuid())));
+    }
+
+    @Test
+    void submitUpload_超过最大尝试次数后标记失败() throws Exception {
+        // Given
+        properties.setMaxAttempts(1);
+        doThrow(new RuntimeException("MinIO连接超时"))
+            .when(fileStorageService).storeFile(any(FileResource.class), any(InputStream.class), eq(12L), eq("application/pdf"));
+        FileUploadTaskResponse response = asyncUploadService.submitUpload(testFile, "test-bucket", null);
+
+        // When
+        ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+        verify(uploadExecutor).execute(worker.capture());
+        worker.getValue().run();
+
+        // Then
+        verify(uploadTaskRepository).updateStatus(response.getUuid(), UploadTask.Status.FAILED, "MinIO连接超时");
+        assertFalse(Files.exists(stagingDir.resolve(response.getUuid())));
+    }
+
+    @Test
+    void recoverUnfinishedTasks_暂存文件丢失的任务标记失败() {
+        // Given
+        FileResource fileResource = FileResource.create("test.pdf", "application/pdf", 12L, "test-bucket", "UUID_UPLOAD", false);
+        UploadTask task = UploadTask.pending(fileResource);
+        UploadTask stale = UploadTask.rebuild(task.getAttachmentUuid(), task.getBucketName(), task.getFileName(),
+            task.getFileType(), task.getFileSize(), false, UploadTask.Status.PROCESSING, null,
+            LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(2));
+        when(uploadTaskRepository.findUnfinished()).thenReturn(List.of(stale));
+        when(fileResourceRepository.existsByUuid(any())).thenReturn(false);
+
+        // When
+        asyncUploadService.recoverUnfinishedTasks();
+
+        // Then
+        verify(uploadTaskRepository).updateStatus(task.getAttachmentUuid(), UploadTask.Status.FAILED, "暂存文件已丢失，请重新上传");
+        verifyNoInteractions(uploadExecutor);
+    }
+}
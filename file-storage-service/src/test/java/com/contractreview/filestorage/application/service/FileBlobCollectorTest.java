@@ -0,0 +1,70 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileBlob;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.DeduplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 共享对象回收服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FileBlobCollectorTest {
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private final DeduplicationProperties properties = new DeduplicationProperties();
+    private FileBlobCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new FileBlobCollector(fileBlobRepository, fileStorageService, properties);
+    }
+
+    @Test
+    void collect_只删除对象已清理的记录删除失败的取消认领() {
+        // Given
+        FileBlob removed = FileBlob.of("test-bucket", "aa11");
+        FileBlob failed = FileBlob.of("test-bucket", "bb22");
+        when(fileBlobRepository.claimUnreferenced(properties.getGrace(), properties.getBatchSize(), properties.getClaimTimeout()))
+            .thenReturn(List.of(removed, failed));
+        when(fileStorageService.deleteBlobs(List.of(removed, failed))).thenReturn(List.of(FileBlob.of("test-bucket", "bb22")));
+
+        // When
+        collector.collect();
+
+        // Then
+        verify(fileBlobRepository).deleteAll(List.of(removed));
+        verify(fileBlobRepository).releaseClaims(List.of(failed));
+    }
+
+    @Test
+    void collect_没有无引用对象时不访问存储() {
+        // Given
+        when(fileBlobRepository.claimUnreferenced(any(), anyInt(), any())).thenReturn(List.of());
+
+        // When
+        collector.collect();
+
+        // Then
+        verifyNoInteractions(fileStorageService);
+        verify(fileBlobRepository, never()).deleteAll(any());
+    }
+}
@@ -0,0 +1,186 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
+import com.contractreview.filestorage.infrastructure.config.FileExpiryProperties;
+import com.contractreview.filestorage.infrastructure.config.GroupCommitProperties;
+import com.contractreview.filestorage.infrastructure.entity.FileEntity;
+import com.contractreview.filestorage.infrastructure.repository.JpaFileResourceRepository;
+import com.contractreview.filestorage.infrastructure.repository.impl.FileEventRepositoryImpl;
+import com.contractreview.filestorage.infrastructure.repository.impl.FileInsertGroupCommitter;
+import com.contractreview.filestorage.infrastructure.repository.impl.FileResourceRepositoryImpl;
+import com.contractreview.filestorage.infrastructure.repository.impl.FileStatsAccumulator;
+import com.contractreview.filestorage.infrastructure.repository.impl.JdbcFileBlobRepository;
+import com.contractreview.filestorage.infrastructure.repository.impl.ReadYourWritesGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 已删除文件清理并发测试
+ * 多个实例同时清理共享同一对象的已删除记录时，每条记录只释放一次引用
+ *
+ * @author ContractReview Team
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class FileDeletionPurgerConcurrencyTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String CONTENT_HASH = "a".repeat(64);
+    private static final int DELETED_FILES = 200;
+    private static final int COMMITTED_FILES = 3;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = FileEntity.class)
+    @EnableJpaRepositories(basePackageClasses = JpaFileResourceRepository.class)
+    @Import({FileResourceRepositoryImpl.class, FileEventRepositoryImpl.class, JdbcFileBlobRepository.class,
+             GroupCommitProperties.class, FileExpiryProperties.class})
+    static class PurgeTestConfiguration {
+    }
+
+    @Autowired
+    private FileResourceRepositoryImpl fileResourceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private FileStorageService fileStorageService;
+
+    @MockBean
+    private FileInsertGroupCommitter groupCommitter;
+
+    @MockBean
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @MockBean
+    private FileStatsAccumulator fileStatsAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM file");
+        jdbcTemplate.update("DELETE FROM file_blob");
+        jdbcTemplate.update(
+            "INSERT INTO file_blob (bucket_name, content_hash, file_size, ref_count, stored) VALUES (?, ?, 1, ?, true)",
+            BUCKET, CONTENT_HASH, DELETED_FILES + COMMITTED_FILES);
+        insertFiles("DELETED", DELETED_FILES, 0);
+        insertFiles("COMMITTED", COMMITTED_FILES, DELETED_FILES);
+        when(fileStorageService.deleteFiles(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void purge_两个实例并发清理共享对象只按实际删除的记录释放引用() throws Exception {
+        // Given
+        FileDeletionProperties properties = new FileDeletionProperties();
+        properties.setBatchSize(10);
+        properties.setMaxBatchesPerRun(DELETED_FILES);
+        SimpleMeterRegistry firstRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry secondRegistry = new SimpleMeterRegistry();
+        FileDeletionPurger first = new FileDeletionPurger(fileResourceRepository, fileStorageService, properties, firstRegistry);
+        FileDeletionPurger second = new FileDeletionPurger(fileResourceRepository, fileStorageService, properties, secondRegistry);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Void> firstRun = CompletableFuture.runAsync(() -> awaitThenRun(start, first::purge));
+        CompletableFuture<Void> secondRun = CompletableFuture.runAsync(() -> awaitThenRun(start, second::purge));
+        start.countDown();
+        CompletableFuture.allOf(firstRun, secondRun).get();
+
+        // Then
+        assertEquals(0L, countFiles("DELETED"));
+        assertEquals(COMMITTED_FILES, refCount());
+        assertEquals(DELETED_FILES, firstRegistry.get("file.delete.purged").counter().count()
+            + secondRegistry.get("file.delete.purged").counter().count());
+    }
+
+    @Test
+    void purgeDeleted_重复清理同一批记录只释放一次引用() throws Exception {
+        // Given
+        List<FileResource> claimed = fileResourceRepository.claimPurgeable(DELETED_FILES, new FileDeletionProperties().getClaimTimeout());
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Integer> firstRun = CompletableFuture.supplyAsync(() -> awaitThen(start, () -> fileResourceRepository.purgeDeleted(claimed)));
+        CompletableFuture<Integer> secondRun = CompletableFuture.supplyAsync(() -> awaitThen(start, () -> fileResourceRepository.purgeDeleted(claimed)));
+        start.countDown();
+
+        // Then
+        assertEquals(DELETED_FILES, firstRun.get() + secondRun.get());
+        assertEquals(COMMITTED_FILES, refCount());
+    }
+
+    private void insertFiles(String status, int count, int offset) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO file (attachment_uuid, attachment_time, file_url, file_name, file_size, bucket_name, " +
+                "content_hash, status, purge_after, created_time, updated_time) " +
+                "VALUES (?, timestamp '2026-01-15 10:00:00', ?, 'a.pdf', 1, ?, ?, ?, now() - interval '1 minute', now(), now())",
+                "20260115100000" + String.format("%018d", offset + i), "/" + BUCKET + "/" + (offset + i), BUCKET, CONTENT_HASH, status);
+        }
+    }
+
+    private long countFiles(String status) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM file WHERE status = ?", Long.class, status);
+    }
+
+    private long refCount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT ref_count FROM file_blob WHERE bucket_name = ? AND content_hash = ?", Long.class, BUCKET, CONTENT_HASH);
+    }
+
+    private static void awaitThenRun(CountDownLatch start, Runnable action) {
+        awaitThen(start, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static <T> T awaitThen(CountDownLatch start, Supplier<T> action) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return action.get();
+    }
+}
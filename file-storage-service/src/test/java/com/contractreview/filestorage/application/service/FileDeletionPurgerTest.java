@@ -0,0 +1,93 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 已删除文件清理服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FileDeletionPurgerTest {
+
+    @Mock
+    private FileResourceRepository fileResourceRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FileDeletionProperties properties = new FileDeletionProperties();
+    private FileDeletionPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new FileDeletionPurger(fileResourceRepository, fileStorageService, properties, meterRegistry);
+    }
+
+    @Test
+    void purge_删除成功的记录物理删除失败的记录退避重试() {
+        // Given
+        FileResource removed = FileResource.create("a.pdf", "application/pdf", 1L, "test-bucket", "UUID_UPLOAD", false).withId(1L);
+        FileResource failed = FileResource.create("b.pdf", "application/pdf", 1L, "test-bucket", "UUID_UPLOAD", false).withId(2L);
+        when(fileResourceRepository.claimPurgeable(anyInt(), any())).thenReturn(List.of(removed, failed));
+        when(fileStorageService.deleteFiles(List.of(removed, failed))).thenReturn(List.of(failed));
+        when(fileResourceRepository.purgeDeleted(List.of(removed))).thenReturn(1);
+        when(fileResourceRepository.countDeleted()).thenReturn(1L);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(fileResourceRepository).purgeDeleted(List.of(removed));
+        verify(fileResourceRepository).deferPurge(List.of(failed), properties.getInitialBackoff(), properties.getMaxBackoff());
+        verify(fileResourceRepository, times(1)).claimPurgeable(anyInt(), any());
+        assertEquals(1.0, meterRegistry.get("file.delete.purged").counter().count());
+        assertEquals(1.0, meterRegistry.get("file.delete.failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("file.delete.queue.depth").gauge().value());
+    }
+
+    @Test
+    void purge_已被其他实例删除的记录不计入清理数() {
+        // Given
+        FileResource resource = FileResource.create("a.pdf", "application/pdf", 1L, "test-bucket", "UUID_UPLOAD", false).withId(1L);
+        when(fileResourceRepository.claimPurgeable(anyInt(), any())).thenReturn(List.of(resource));
+        when(fileStorageService.deleteFiles(List.of(resource))).thenReturn(List.of());
+        when(fileResourceRepository.purgeDeleted(List.of(resource))).thenReturn(0);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(fileResourceRepository).claimPurgeable(properties.getBatchSize(), properties.getClaimTimeout());
+        assertEquals(0.0, meterRegistry.get("file.delete.purged").counter().count());
+    }
+
+    @Test
+    void purge_队列为空时不删除对象() {
+        // Given
+        when(fileResourceRepository.claimPurgeable(anyInt(), any())).thenReturn(List.of());
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(fileStorageService, never()).deleteFiles(any());
+    }
+}
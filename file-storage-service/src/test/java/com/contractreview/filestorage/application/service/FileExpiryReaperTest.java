@@ -0,0 +1,76 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.contractreview.filestorage.infrastructure.concurrency.ConcurrencyLimiters;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.config.ConcurrencyLimitProperties;
+import com.contractreview.filestorage.infrastructure.config.FileExpiryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 过期文件清理服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FileExpiryReaperTest {
+
+    @Mock
+    private FileResourceRepository fileResourceRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FileExpiryProperties properties = new FileExpiryProperties();
+    private final ConcurrencyLimiters concurrencyLimiters =
+        new ConcurrencyLimiters(new ConcurrencyLimitProperties(), meterRegistry);
+    private FileExpiryReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        reaper = new FileExpiryReaper(fileResourceRepository, concurrencyLimiters, properties, meterRegistry);
+    }
+
+    @Test
+    void sweep_按批标记到期文件不超过单次批数上限() {
+        // Given
+        FileResource expired = FileResource.create("a.pdf", "application/pdf", 1L, "test-bucket", "UUID_UPLOAD", false).withId(1L);
+        when(fileResourceRepository.expire(any(), anyInt())).thenReturn(List.of(expired, expired));
+
+        // When
+        reaper.sweep();
+
+        // Then
+        verify(fileResourceRepository, times(3)).expire(any(), eq(2));
+        assertEquals(6.0, meterRegistry.get("file.expiry.expired").counter().count());
+    }
+
+    @Test
+    void sweep_元数据请求繁忙时暂停() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.get(RequestLane.METADATA);
+        while (limiter.getInFlight() < limiter.getLimit() * properties.getBusyThreshold()) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        reaper.sweep();
+
+        // Then
+        verifyNoInteractions(fileResourceRepository);
+    }
+}
@@ -0,0 +1,94 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.valueobject.FileImportSkip;
+import com.contractreview.filestorage.domain.model.valueobject.StoredObject;
+import com.contractreview.filestorage.domain.repository.FileImportRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileImportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 存储桶元数据导入应用服务测试
+ *
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FileImportServiceTest {
+
+    private static final String BUCKET = "contract-files";
+    private static final String DATE_PREFIX = "2024/01/02/";
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private FileImportRepository fileImportRepository;
+
+    @Mock
+    private FileImportRepository.ImportLock importLock;
+
+    private final FileImportProperties properties = new FileImportProperties();
+    private final ThreadPoolTaskExecutor importExecutor = new ThreadPoolTaskExecutor();
+    private FileImportService fileImportService;
+
+    @BeforeEach
+    void setUp() {
+        importExecutor.initialize();
+        fileImportService = new FileImportService(fileStorageService, fileImportRepository, properties,
+            importExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importExecutor.shutdown();
+    }
+
+    @Test
+    void startImport_其他实例持有导入锁时拒绝() {
+        // Given
+        when(fileImportRepository.tryLock(BUCKET)).thenReturn(Optional.empty());
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> fileImportService.startImport(BUCKET, DATE_PREFIX));
+        assertTrue(exception.getMessage().contains("其他实例"));
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    void startImport_记录跳过对象的原因并在完成后释放导入锁() {
+        // Given
+        String badKey = DATE_PREFIX + "readme.txt";
+        when(fileImportRepository.tryLock(BUCKET)).thenReturn(Optional.of(importLock));
+        when(fileStorageService.listObjects(BUCKET, DATE_PREFIX, null, properties.getListPageSize()))
+            .thenReturn(List.of(StoredObject.of(badKey, 10, LocalDateTime.now())));
+
+        // When
+        fileImportService.startImport(BUCKET, DATE_PREFIX);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FileImportSkip>> skipped = ArgumentCaptor.forClass(List.class);
+        verify(fileImportRepository, timeout(2000)).importBatch(eq(BUCKET), eq(DATE_PREFIX), eq(List.of()),
+            eq(badKey), skipped.capture(), eq(true));
+        assertEquals(1, skipped.getValue().size());
+        assertEquals(badKey, skipped.getValue().get(0).getObjectKey());
+        assertTrue(skipped.getValue().get(0).getReason().contains("yyyy/MM/dd/{uuid}/{fileName}"));
+        verify(importLock, timeout(2000)).close();
+    }
+}
@@ -0,0 +1,114 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.repository.FilePartitionRepository;
+import com.contractreview.filestorage.infrastructure.config.FilePartitionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 文件元数据分区维护服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FilePartitionMaintainerTest {
+
+    @Mock
+    private FilePartitionRepository filePartitionRepository;
+
+    private final FilePartitionProperties properties = new FilePartitionProperties();
+    private FilePartitionMaintainer maintainer;
+    private final YearMonth current = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        properties.setPremakeMonths(2);
+        maintainer = new FilePartitionMaintainer(filePartitionRepository, properties);
+    }
+
+    @Test
+    void maintain_只预建缺少的月份分区() {
+        // Given
+        when(filePartitionRepository.findPartitions()).thenReturn(List.of(current, current.plusMonths(1)));
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        verify(filePartitionRepository).createPartition(current.plusMonths(2));
+        verify(filePartitionRepository, times(1)).createPartition(any());
+        verify(filePartitionRepository, never()).detachPartition(any());
+    }
+
+    @Test
+    void maintain_分离过期分区并跳过仍有未提交记录的分区() {
+        // Given
+        properties.setRetainMonths(3);
+        YearMonth expired = current.minusMonths(5);
+        YearMonth expiredWithPending = current.minusMonths(4);
+        YearMonth retained = current.minusMonths(3);
+        when(filePartitionRepository.findPartitions()).thenReturn(List.of(
+            expired, expiredWithPending, retained, current, current.plusMonths(1), current.plusMonths(2)));
+        when(filePartitionRepository.hasUncommitted(expired)).thenReturn(false);
+        when(filePartitionRepository.hasUncommitted(expiredWithPending)).thenReturn(true);
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        verify(filePartitionRepository).detachPartition(expired);
+        verify(filePartitionRepository, never()).detachPartition(expiredWithPending);
+        verify(filePartitionRepository, never()).detachPartition(retained);
+        verify(filePartitionRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void maintain_某月份创建失败时继续创建其余月份() {
+        // Given
+        when(filePartitionRepository.findPartitions()).thenReturn(List.of(current));
+        doThrow(new IllegalStateException("boom")).when(filePartitionRepository).createPartition(current.plusMonths(1));
+
+        // When
+        maintainer.maintain();
+
+        // Then
+        verify(filePartitionRepository).createPartition(current.plusMonths(2));
+    }
+
+    @Test
+    void retryDeferred_等锁超时的分区按重试间隔再建() {
+        // Given
+        when(filePartitionRepository.findPartitions()).thenReturn(List.of(current, current.plusMonths(1)));
+        doThrow(new CannotAcquireLockException("lock timeout"))
+            .doNothing()
+            .when(filePartitionRepository).createPartition(current.plusMonths(2));
+        maintainer.maintain();
+
+        // When
+        maintainer.retryDeferred();
+        maintainer.retryDeferred();
+
+        // Then
+        verify(filePartitionRepository, times(2)).createPartition(current.plusMonths(2));
+        verify(filePartitionRepository, times(2)).findPartitions();
+    }
+
+    @Test
+    void retryDeferred_上次维护全部完成时不执行() {
+        // When
+        maintainer.retryDeferred();
+
+        // Then
+        verifyNoInteractions(filePartitionRepository);
+    }
+}
@@ -0,0 +1,80 @@
+package com.contractreview.filestorage.application.service;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.PendingFileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 未提交文件清理服务测试
+ * 
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingFileReconcilerTest {
+
+    @Mock
+    private FileResourceRepository fileResourceRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private PendingFileReconciler reconciler;
+    private FileResource fileResource;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new PendingFileReconciler(fileResourceRepository, fileStorageService, new PendingFileProperties());
+        fileResource = FileResource.create("test.pdf", "application/pdf", 12L, "test-bucket", "UUID_UPLOAD", false);
+    }
+
+    @Test
+    void discard_先放弃记录再删除对象和记录() {
+        // Given
+        when(fileResourceRepository.abandonPending(fileResource.getAttachmentUuid())).thenReturn(true);
+
+        // When
+        reconciler.discard(fileResource);
+
+        // Then
+        InOrder inOrder = inOrder(fileResourceRepository, fileStorageService);
+        inOrder.verify(fileResourceRepository).abandonPending(fileResource.getAttachmentUuid());
+        inOrder.verify(fileStorageService).deleteFile(fileResource);
+        inOrder.verify(fileResourceRepository).deleteAbandoned(fileResource.getAttachmentUuid());
+    }
+
+    @Test
+    void discard_已提交的文件不删除对象() {
+        // Given
+        when(fileResourceRepository.abandonPending(fileResource.getAttachmentUuid())).thenReturn(false);
+
+        // When
+        reconciler.discard(fileResource);
+
+        // Then
+        verify(fileStorageService, never()).deleteFile(any());
+        verify(fileResourceRepository, never()).deleteAbandoned(any());
+    }
+
+    @Test
+    void discard_删除对象失败时保留已放弃记录() {
+        // Given
+        when(fileResourceRepository.abandonPending(fileResource.getAttachmentUuid())).thenReturn(true);
+        doThrow(new RuntimeException("文件删除失败")).when(fileStorageService).deleteFile(fileResource);
+
+        // When
+        reconciler.discard(fileResource);
+
+        // Then
+        verify(fileResourceRepository, never()).deleteAbandoned(any());
+    }
+}
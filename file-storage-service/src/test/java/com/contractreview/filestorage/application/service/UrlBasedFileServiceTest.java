@@ -2,8 +2,10 @@ package com.contractreview.filestorage.application.service;
 
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSummary;
 import com.contractreview.filestorage.domain.service.EncryptionService;
 import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +39,12 @@ class UrlBasedFileServiceTest {
     @Mock
     private EncryptionService encryptionService;
 
+    @Mock
+    private PendingFileReconciler pendingFileReconciler;
+
+    @Mock
+    private FileDeletionProperties fileDeletionProperties;
+
     @InjectMocks
     private UrlBasedFileService urlBasedFileService;
 
@@ -64,12 +73,14 @@ class UrlBasedFileServiceTest {
     @Test
     void uploadByUrl_Success() {
         // Given
-        when(fileResourceRepository.save(any(FileResource.class)))
+        when(fileResourceRepository.savePending(any(FileResource.class)))
+            .thenReturn(testFileResource.withId(1L));
+        when(fileResourceRepository.commitPending(any(FileResource.class)))
             .thenReturn(testFileResource.withId(1L));
 
         // When
         FileUploadResponse response = urlBasedFileService.uploadByUrl(
-            testFile, "test-bucket", null, false);
+            testFile, "test-bucket", null, false, null);
 
         // Then
         assertNotNull(response);
@@ -79,7 +90,8 @@ class UrlBasedFileServiceTest {
         assertFalse(response.getIsEncrypted());
 
         verify(fileStorageService).storeFile(any(FileResource.class), eq(testFile));
-        verify(fileResourceRepository).save(any(FileResource.class));
+        verify(fileResourceRepository).savePending(any(FileResource.class));
+        verify(fileResourceRepository).commitPending(any(FileResource.class));
     }
 
     @Test
@@ -87,12 +99,14 @@ class UrlBasedFileServiceTest {
         // Given
         String publicKey = "SGVsbG9Xb3JsZEhlbGxvV29ybGRIZWxsb1dvcmxkSGVsbG9Xb3JsZA==";
         when(encryptionService.validatePublicKey(publicKey)).thenReturn(true);
-        when(fileResourceRepository.save(any(FileResource.class)))
+        when(fileResourceRepository.savePending(any(FileResource.class)))
+            .thenReturn(testFileResource.withId(1L));
+        when(fileResourceRepository.commitPending(any(FileResource.class)))
             .thenReturn(testFileResource.withId(1L));
 
         // When
         FileUploadResponse response = urlBasedFileService.uploadByUrl(
-            testFile, "test-bucket", publicKey, false);
+            testFile, "test-bucket", publicKey, false, null);
 
         // Then
         assertNotNull(response);
@@ -107,7 +121,7 @@ class UrlBasedFileServiceTest {
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> {
-            urlBasedFileService.uploadByUrl(emptyFile, "test-bucket", null, false);
+            urlBasedFileService.uploadByUrl(emptyFile, "test-bucket", null, false, null);
         });
     }
 
@@ -148,8 +162,9 @@ class UrlBasedFileServiceTest {
     void queryByUrl_Success() {
         // Given
         String fileUrl = "/test-bucket/2024/09/21/uuid/test.pdf";
-        when(fileResourceRepository.findByFileUrl(fileUrl))
-            .thenReturn(Optional.of(testFileResource));
+        when(fileResourceRepository.findSummaryByFileUrl(fileUrl))
+            .thenReturn(Optional.of(new FileSummary("20240921143022-a8b9c1d2", fileUrl, "test.pdf", 12L,
+                "application/pdf", "test-bucket", "2024/09/21", false, LocalDateTime.now(), LocalDateTime.now())));
 
         // When
         var response = urlBasedFileService.queryByUrl(fileUrl);
@@ -175,4 +190,21 @@ class UrlBasedFileServiceTest {
         verify(fileStorageService).deleteFile(testFileResource);
         verify(fileResourceRepository).deleteByFileUrl(fileUrl);
     }
+
+    @Test
+    void deleteByUrl_AsyncMode_MarksDeletedOnly() {
+        // Given
+        String fileUrl = "/test-bucket/2024/09/21/uuid/test.pdf";
+        when(fileDeletionProperties.isAsync()).thenReturn(true);
+        when(fileResourceRepository.findByFileUrl(fileUrl))
+            .thenReturn(Optional.of(testFileResource));
+
+        // When
+        urlBasedFileService.deleteByUrl(fileUrl);
+
+        // Then
+        verify(fileResourceRepository).markDeleted(testFileResource);
+        verify(fileStorageService, never()).deleteFile(any());
+        verify(fileResourceRepository, never()).deleteByFileUrl(any());
+    }
 }
\ No newline at end of file
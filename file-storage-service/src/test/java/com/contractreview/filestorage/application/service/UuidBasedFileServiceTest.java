@@ -3,13 +3,16 @@ package com.contractreview.filestorage.application.service;
 import com.contractreview.filestorage.domain.model.FileResource;
 import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
 import com.contractreview.filestorage.domain.repository.FileResourceRepository;
+import com.contractreview.filestorage.domain.repository.FileSummary;
 import com.contractreview.filestorage.domain.service.FileStorageService;
+import com.contractreview.filestorage.infrastructure.config.FileDeletionProperties;
 import com.contractreview.filestorage.domain.service.EncryptionService;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileInfoResponse;
 import com.contractreview.filestorage.interfaces.rest.dto.response.FileUploadResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,7 +20,6 @@ import org.springframework.mock.web.MockMultipartFile;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,6 +42,12 @@ class UuidBasedFileServiceTest {
     @Mock
     private EncryptionService encryptionService;
 
+    @Mock
+    private PendingFileReconciler pendingFileReconciler;
+
+    @Mock
+    private FileDeletionProperties fileDeletionProperties;
+
     @InjectMocks
     private UuidBasedFileService uuidBasedFileService;
 
@@ -56,35 +64,32 @@ class UuidBasedFileServiceTest {
             "Hello World".getBytes()
         );
         
-        testUuid = UUID.randomUUID().toString();
+        testUuid = AttachmentUuid.generate().getValue();
         
-        // 创建模拟的FileResource
+        // 创建模拟的FileResource；查询接口走只读投影，不访问FileResource
         mockFileResource = mock(FileResource.class);
-        AttachmentUuid attachmentUuid = mock(AttachmentUuid.class);
-        when(attachmentUuid.getValue()).thenReturn(testUuid);
-        when(mockFileResource.getAttachmentUuid()).thenReturn(attachmentUuid);
     }
 
     @Test
     void uploadByUuid_成功上传文件() throws Exception {
         // Given
-        when(FileResource.create(anyString(), anyString(), anyLong(), anyString(), anyString(), anyBoolean()))
-            .thenReturn(mockFileResource);
-        when(fileResourceRepository.save(any(FileResource.class))).thenReturn(mockFileResource);
+        when(fileResourceRepository.savePending(any(FileResource.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileResourceRepository.commitPending(any(FileResource.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         // When
-        FileUploadResponse result = uuidBasedFileService.uploadByUuid(testFile, "test-bucket", null, false);
+        FileUploadResponse result = uuidBasedFileService.uploadByUuid(testFile, "test-bucket", null, false, null);
         
         // Then
+        ArgumentCaptor<FileResource> committed = ArgumentCaptor.forClass(FileResource.class);
+        verify(fileResourceRepository).commitPending(committed.capture());
         assertNotNull(result);
-        assertEquals(testUuid, result.getUuid());
+        assertEquals(committed.getValue().getAttachmentUuid().getValue(), result.getUuid());
         assertEquals("test.txt", result.getFileName());
         assertEquals(11L, result.getFileSize());
         assertEquals("text/plain", result.getFileType());
 
-        verify(fileStorageService).storeFile(eq(mockFileResource), any(
+        verify(fileStorageService).storeFile(eq(committed.getValue()), any(
             org.springframework.web.multipart.MultipartFile.class));
-        verify(fileResourceRepository).save(any(FileResource.class));
     }
 
     @Test
@@ -95,7 +100,7 @@ class UuidBasedFileServiceTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> uuidBasedFileService.uploadByUuid(emptyFile, "test-bucket", null, false)
+            () -> uuidBasedFileService.uploadByUuid(emptyFile, "test-bucket", null, false, null)
         );
         
         assertEquals("文件不能为空", exception.getMessage());
@@ -106,7 +111,7 @@ class UuidBasedFileServiceTest {
         // When & Then
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> uuidBasedFileService.uploadByUuid(testFile, "", null, false)
+            () -> uuidBasedFileService.uploadByUuid(testFile, "", null, false, null)
         );
         
         assertEquals("存储桶名称不能为空", exception.getMessage());
@@ -157,19 +162,9 @@ class UuidBasedFileServiceTest {
     @Test
     void queryByUuid_成功查询文件信息() {
         // Given
-        when(fileResourceRepository.findByFileUuid(testUuid)).thenReturn(Optional.of(mockFileResource));
-        
-        // 模拟FileResource的各种getter方法
-        when(mockFileResource.getMetadata()).thenReturn(mock(com.contractreview.filestorage.domain.model.valueobject.FileMetadata.class));
-        when(mockFileResource.getStorageLocation()).thenReturn(mock(com.contractreview.filestorage.domain.model.valueobject.StorageLocation.class));
-        when(mockFileResource.getEncryptionMetadata()).thenReturn(mock(com.contractreview.filestorage.domain.model.valueobject.EncryptionMetadata.class));
-        
-        when(mockFileResource.getMetadata().getFileName()).thenReturn("test.txt");
-        when(mockFileResource.getMetadata().getFileSize()).thenReturn(11L);
-        when(mockFileResource.getMetadata().getFileType()).thenReturn("text/plain");
-        when(mockFileResource.getStorageLocation().getBucketName()).thenReturn("test-bucket");
-        when(mockFileResource.getEncryptionMetadata().getIsEncrypted()).thenReturn(false);
-        when(mockFileResource.getMetadata().getCreatedTime()).thenReturn(java.time.LocalDateTime.now());
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        when(fileResourceRepository.findSummaryByUuid(testUuid)).thenReturn(Optional.of(new FileSummary(
+            testUuid, null, "test.txt", 11L, "text/plain", "test-bucket", null, false, now, now)));
         
         // When
         FileInfoResponse result = uuidBasedFileService.queryByUuid(testUuid);
@@ -230,4 +225,26 @@ class UuidBasedFileServiceTest {
         
         assertTrue(exception.getMessage().contains("生成预览URL失败"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void copyByUuid_成功复制文件() {
+        // Given
+        FileResource copy = FileResource.create("test.txt", "text/plain", 11L, "target-bucket", "FILE_COPY", false);
+        when(mockFileResource.getAttachmentUuid()).thenReturn(AttachmentUuid.of(testUuid));
+        when(fileResourceRepository.findByFileUuid(testUuid)).thenReturn(Optional.of(mockFileResource));
+        when(mockFileResource.copyTo("target-bucket", "FILE_COPY")).thenReturn(copy);
+        when(fileResourceRepository.savePending(copy)).thenReturn(copy);
+        when(fileResourceRepository.commitPending(copy)).thenReturn(copy);
+
+        // When
+        FileUploadResponse result = uuidBasedFileService.copyByUuid(testUuid, "target-bucket");
+
+        // Then
+        assertNotNull(result);
+        assertEquals(copy.getAttachmentUuid().getValue(), result.getUuid());
+        assertNotEquals(mockFileResource.getAttachmentUuid().getValue(), result.getUuid());
+        assertEquals("test.txt", result.getFileName());
+        verify(mockFileResource).validateForAccess();
+        verify(fileStorageService).copyFile(mockFileResource, copy);
+    }
+}
@@ -0,0 +1,38 @@
+package com.contractreview.filestorage.domain.model.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 存储位置值对象测试
+ * 
+ * @author ContractReview Team
+ */
+class StorageLocationTest {
+
+    @Test
+    void parseUuid_从生成的文件URL中解析UUID() {
+        AttachmentUuid uuid = AttachmentUuid.generate();
+        StorageLocation location = StorageLocation.generateFromUuid("test-bucket", uuid, "合同 草稿.pdf");
+
+        assertEquals(Optional.of(uuid), StorageLocation.parseUuid(location.getFileUrl()));
+    }
+
+    @Test
+    void parseUuid_格式不符时返回空() {
+        assertTrue(StorageLocation.parseUuid(null).isEmpty());
+        assertTrue(StorageLocation.parseUuid("/test-bucket/test.pdf").isEmpty());
+        assertTrue(StorageLocation.parseUuid("/test-bucket/2024/01/02/not-a-uuid/test.pdf").isEmpty());
+        assertTrue(StorageLocation.parseUuid("test-bucket/2024/01/02/20240102030405-abcd1234/test.pdf").isEmpty());
+    }
+
+    @Test
+    void parseUuid_UUID时间戳为不存在的日期时返回空() {
+        assertTrue(StorageLocation.parseUuid("/test-bucket/2024/13/02/20241302030405-abcd1234/test.pdf").isEmpty());
+        assertTrue(StorageLocation.parseUuid("/test-bucket/2024/02/30/20240230030405-abcd1234/test.pdf").isEmpty());
+        assertTrue(StorageLocation.parseUuid("/test-bucket/2024/01/02/20240102250405-abcd1234/test.pdf").isEmpty());
+    }
+}
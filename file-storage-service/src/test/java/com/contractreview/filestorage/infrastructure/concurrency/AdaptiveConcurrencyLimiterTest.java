@@ -0,0 +1,58 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIMD自适应并发限制器测试
+ *
+ * @author ContractReview Team
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldRejectAboveLimitAndShrinkOnSlowResponses() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 10, THRESHOLD, 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(THRESHOLD * 2, false);
+        assertEquals(2, limiter.getLimit());
+        // 上限已降到当前并发以下，释放前不再接受新请求
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(0, true);
+        limiter.release(0, true);
+        assertEquals(2, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldGrowAdditivelyOnlyWhenSaturated() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 5, THRESHOLD, 0.5);
+
+        // 低并发下的快速请求不放大上限
+        assertTrue(limiter.tryAcquire());
+        limiter.release(1, false);
+        assertEquals(4, limiter.getLimit());
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < limiter.getLimit(); i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            limiter.release(1, false);
+            while (limiter.getInFlight() > 0) {
+                limiter.release(1, false);
+            }
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+}
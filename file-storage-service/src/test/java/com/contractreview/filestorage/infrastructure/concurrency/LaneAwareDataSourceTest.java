@@ -0,0 +1,69 @@
+package com.contractreview.filestorage.infrastructure.concurrency;
+
+import com.contractreview.filestorage.infrastructure.config.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 按请求通道限制连接数的数据源测试
+ *
+ * @author ContractReview Team
+ */
+class LaneAwareDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource pool;
+    private LaneAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getTransfer().setMaxConnections(1);
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new LaneAwareDataSource(pool, new LaneBulkheads(properties, meterRegistry), Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestLaneContext.clear();
+    }
+
+    @Test
+    void shouldReserveConnectionsForMetadataWhenTransferLaneExhausted() throws Exception {
+        RequestLaneContext.set(RequestLane.TRANSFER);
+        Connection transferConnection = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        RequestLaneContext.set(RequestLane.METADATA);
+        try (Connection metadataConnection = dataSource.getConnection()) {
+            assertNotNull(metadataConnection);
+        }
+
+        // 关闭连接后归还许可，重复关闭不会多归还
+        transferConnection.close();
+        transferConnection.close();
+        RequestLaneContext.set(RequestLane.TRANSFER);
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("file.bulkhead.connections.active").tag("lane", "transfer").gauge().value());
+    }
+
+    @Test
+    void shouldNotLimitThreadsOutsideAnyLane() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            dataSource.getConnection();
+        }
+        verify(pool, times(5)).getConnection();
+    }
+}
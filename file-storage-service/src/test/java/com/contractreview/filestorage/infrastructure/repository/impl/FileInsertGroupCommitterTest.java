@@ -0,0 +1,139 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.infrastructure.config.GroupCommitProperties;
+import com.contractreview.filestorage.infrastructure.entity.FileEntity;
+import com.contractreview.filestorage.infrastructure.repository.JpaFileResourceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 文件记录组提交写入器测试
+ *
+ * @author ContractReview Team
+ */
+class FileInsertGroupCommitterTest {
+
+    private final JpaFileResourceRepository jpaRepository = mock(JpaFileResourceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong ids = new AtomicLong();
+    private final GroupCommitProperties properties = new GroupCommitProperties();
+    private FileInsertGroupCommitter committer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWindow(Duration.ofMillis(50));
+        committer = new FileInsertGroupCommitter(jpaRepository, mock(PlatformTransactionManager.class),
+            properties, meterRegistry);
+        committer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        committer.stop();
+    }
+
+    @Test
+    void shouldMergeConcurrentInsertsIntoBatches() throws Exception {
+        when(jpaRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+        try {
+            List<CompletableFuture<FileEntity>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String uuid = "uuid-" + i;
+                results.add(CompletableFuture.supplyAsync(
+                    () -> committer.insert(FileEntity.builder().attachmentUuid(uuid).build()), callers));
+            }
+            for (CompletableFuture<FileEntity> result : results) {
+                assertNotNull(result.get().getId());
+            }
+        } finally {
+            callers.shutdown();
+        }
+
+        verify(jpaRepository, atMost(5)).saveAllAndFlush(anyList());
+        assertEquals(20.0, meterRegistry.get("file.group-commit.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void shouldRetryIndividuallyWhenBatchFails() {
+        FileEntity good = FileEntity.builder().attachmentUuid("good").build();
+        FileEntity duplicate = FileEntity.builder().attachmentUuid("duplicate").build();
+        when(jpaRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<FileEntity> entities = invocation.getArgument(0);
+            if (entities.contains(duplicate)) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return assignIds(entities);
+        });
+
+        List<FileInsertGroupCommitter.PendingInsert> batch = List.of(
+            new FileInsertGroupCommitter.PendingInsert(good, new CompletableFuture<>()),
+            new FileInsertGroupCommitter.PendingInsert(duplicate, new CompletableFuture<>()));
+        committer.write(batch);
+
+        assertNotNull(batch.get(0).future().join().getId());
+        assertTrue(batch.get(1).future().isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldFailCallerAndKeepWritingWhenWriterThrowsError() {
+        when(jpaRepository.saveAllAndFlush(anyList()))
+            .thenThrow(new NoClassDefFoundError("driver"))
+            .thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        assertThrows(NoClassDefFoundError.class,
+            () -> committer.insert(FileEntity.builder().attachmentUuid("first").build()));
+        assertNotNull(committer.insert(FileEntity.builder().attachmentUuid("second").build()).getId());
+    }
+
+    @Test
+    void shouldStopWaitingAfterCommitTimeout() throws InterruptedException {
+        properties.setCommitTimeout(Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(jpaRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return assignIds(invocation.getArgument(0));
+        });
+
+        try {
+            assertThrows(QueryTimeoutException.class,
+                () -> committer.insert(FileEntity.builder().attachmentUuid("slow").build()));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRejectInsertAfterStop() throws InterruptedException {
+        committer.stop();
+
+        assertThrows(RejectedExecutionException.class,
+            () -> committer.insert(FileEntity.builder().attachmentUuid("late").build()));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    private List<FileEntity> assignIds(List<FileEntity> entities) {
+        entities.forEach(entity -> entity.setId(ids.incrementAndGet()));
+        return entities;
+    }
+}
@@ -0,0 +1,80 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileStats;
+import com.contractreview.filestorage.domain.repository.FileStatsRepository;
+import com.contractreview.filestorage.infrastructure.config.FileStatsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 存储统计累加器测试
+ *
+ * @author ContractReview Team
+ */
+class FileStatsAccumulatorTest {
+
+    private final FileStatsRepository fileStatsRepository = mock(FileStatsRepository.class);
+    private final FileStatsProperties properties = new FileStatsProperties();
+    private FileStatsAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        properties.setStripes(4);
+        accumulator = new FileStatsAccumulator(fileStatsRepository, properties);
+    }
+
+    @Test
+    void shouldMergeConcurrentUpdatesAcrossStripes() {
+        FileResource pdf = FileResource.create("合同.PDF", "application/pdf", 100L, "contracts-bucket", "UUID_UPLOAD", true);
+        FileResource txt = FileResource.create("readme.txt", "text/plain", 10L, "contracts-bucket", "UUID_UPLOAD", false);
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    accumulator.recordAdded(pdf);
+                }
+            }))
+            .toArray(CompletableFuture[]::new)).join();
+        accumulator.recordAdded(txt);
+        accumulator.recordRemoved(txt);
+        accumulator.flush();
+
+        LocalDate today = LocalDate.now();
+        assertEquals(List.of(FileStats.of("contracts-bucket", today, "pdf", true, 8000, 800_000)), applied());
+
+        accumulator.flush();
+        verifyNoMoreInteractions(fileStatsRepository);
+    }
+
+    @Test
+    void shouldKeepDeltasWhenFlushFails() {
+        FileResource pdf = FileResource.create("a.pdf", "application/pdf", 100L, "contracts-bucket", "UUID_UPLOAD", false);
+        doThrow(new RuntimeException("db down")).doNothing().when(fileStatsRepository).apply(anyList());
+
+        accumulator.recordAdded(pdf);
+        accumulator.flush();
+        accumulator.recordAdded(pdf);
+        accumulator.flush();
+
+        ArgumentCaptor<List<FileStats>> captor = ArgumentCaptor.captor();
+        verify(fileStatsRepository, times(2)).apply(captor.capture());
+        assertEquals(2, captor.getAllValues().get(1).get(0).getFileCount());
+        assertEquals(200, captor.getAllValues().get(1).get(0).getTotalBytes());
+    }
+
+    private List<FileStats> applied() {
+        ArgumentCaptor<List<FileStats>> captor = ArgumentCaptor.captor();
+        verify(fileStatsRepository).apply(captor.capture());
+        return captor.getValue();
+    }
+}
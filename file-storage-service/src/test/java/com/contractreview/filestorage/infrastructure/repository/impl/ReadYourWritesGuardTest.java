@@ -0,0 +1,88 @@
+package com.contractreview.filestorage.infrastructure.repository.impl;
+
+import com.contractreview.filestorage.domain.model.valueobject.AttachmentUuid;
+import com.contractreview.filestorage.infrastructure.config.ReplicaProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 读己之写保护测试
+ *
+ * @author ContractReview Team
+ */
+class ReadYourWritesGuardTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ReplicaProperties properties = new ReplicaProperties();
+    private ReadYourWritesGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        guard = new ReadYourWritesGuard(properties, transactionManager);
+    }
+
+    @Test
+    void shouldReadRecentlyWrittenUuidFromPrimary() {
+        String uuid = AttachmentUuid.generate().getValue();
+        guard.recordWrite(uuid);
+
+        assertEquals(Optional.of("file"), guard.read(uuid, () -> Optional.of("file"), Optional::isPresent));
+        assertEquals(List.of(false), readOnlyFlags());
+    }
+
+    @Test
+    void shouldKeyWindowToCommitTimeRatherThanUuidTimestamp() {
+        String uuid = LocalDateTime.now().minusHours(1).format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+            + "-abcd1234";
+        guard.recordWrite(uuid);
+
+        assertEquals(Optional.of("file"), guard.read(uuid, () -> Optional.of("file"), Optional::isPresent));
+        assertEquals(List.of(false), readOnlyFlags());
+    }
+
+    @Test
+    void shouldReadFromReplicaOnceWindowHasPassed() {
+        properties.setReadYourWritesWindow(Duration.ZERO);
+        String uuid = AttachmentUuid.generate().getValue();
+        guard.recordWrite(uuid);
+
+        assertEquals(Optional.of("file"), guard.read(uuid, () -> Optional.of("file"), Optional::isPresent));
+        assertEquals(List.of(true), readOnlyFlags());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaMisses() {
+        String uuid = AttachmentUuid.generate().getValue();
+
+        assertEquals(Optional.empty(), guard.read(uuid, Optional::empty, Optional::isPresent));
+        assertEquals(List.of(true, false), readOnlyFlags());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenUrlLookupMissesReplica() {
+        assertFalse(guard.read(null, () -> false, Boolean::booleanValue));
+        assertEquals(List.of(true, false), readOnlyFlags());
+    }
+
+    private List<Boolean> readOnlyFlags() {
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(captor.capture());
+        return captor.getAllValues().stream().map(TransactionDefinition::isReadOnly).toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.contractreview.filestorage.infrastructure.storage.admission;
+
+import com.contractreview.filestorage.infrastructure.config.TransferAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 传输字节预算测试
+ *
+ * @author ContractReview Team
+ */
+class TransferBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransferAdmissionProperties properties = new TransferAdmissionProperties();
+    private TransferBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        properties.setGlobalBudget(DataSize.ofBytes(100));
+        properties.getBucketBudgets().put("small-bucket", DataSize.ofBytes(40));
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        budget = new TransferBudget(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectWhenBucketBudgetExhaustedAndAdmitAfterRelease() {
+        TransferBudget.Reservation first = budget.reserve("small-bucket", 30);
+
+        assertThrows(TransferBudgetExceededException.class, () -> budget.tryReserve("small-bucket", 20));
+        // 其他存储桶只受全局预算限制
+        budget.tryReserve("other-bucket", 70).close();
+
+        first.close();
+        first.close();
+        budget.tryReserve("small-bucket", 40).close();
+
+        assertEquals(0.0, meterRegistry.get("file.transfer.budget.reserved").tag("scope", "global").gauge().value());
+        assertEquals(1.0, meterRegistry.get("file.transfer.budget.rejected").counter().count());
+    }
+
+    @Test
+    void shouldQueueUntilBudgetReleased() throws Exception {
+        properties.setAcquireTimeout(Duration.ofSeconds(5));
+        TransferBudget.Reservation holder = budget.reserve("other-bucket", 1000);
+
+        CompletableFuture<TransferBudget.Reservation> waiter =
+            CompletableFuture.supplyAsync(() -> budget.reserve("other-bucket", 10));
+        Thread.sleep(100);
+        assertFalse(waiter.isDone());
+
+        holder.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+    }
+}
@@ -0,0 +1,171 @@
+package com.contractreview.filestorage.infrastructure.storage.impl;
+
+import com.contractreview.filestorage.domain.model.FileResource;
+import com.contractreview.filestorage.domain.repository.FileBlobRepository;
+import com.contractreview.filestorage.domain.service.EncryptionService;
+import com.contractreview.filestorage.infrastructure.config.DeduplicationProperties;
+import com.contractreview.filestorage.infrastructure.config.TransferAdmissionProperties;
+import com.contractreview.filestorage.infrastructure.config.TransferPipelineProperties;
+import com.contractreview.filestorage.infrastructure.storage.admission.ResponseReservations;
+import com.contractreview.filestorage.infrastructure.storage.admission.TransferBudget;
+import com.contractreview.filestorage.infrastructure.storage.pipeline.EncryptUploadPipeline;
+import com.contractreview.filestorage.infrastructure.storage.provider.StorageProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 文件存储服务实现测试
+ *
+ * @author ContractReview Team
+ */
+@ExtendWith(MockitoExtension.class)
+class FileStorageServiceImplTest {
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private EncryptUploadPipeline encryptUploadPipeline;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FileStorageServiceImpl fileStorageService;
+    private FileResource fileResource;
+
+    @BeforeEach
+    void setUp() {
+        TransferAdmissionProperties admissionProperties = new TransferAdmissionProperties();
+        admissionProperties.setGlobalBudget(DataSize.ofBytes(100));
+        TransferBudget transferBudget = new TransferBudget(admissionProperties, meterRegistry);
+        fileStorageService = new FileStorageServiceImpl(storageProvider, encryptionService, encryptUploadPipeline,
+            new TransferPipelineProperties(), transferBudget, new DeduplicationProperties(), fileBlobRepository);
+        fileResource = FileResource.create("test.pdf", "application/pdf", 12L, "test-bucket", "UUID_UPLOAD", false);
+    }
+
+    @Test
+    void retrieveFileAsync_读取完成后释放传输预算() throws Exception {
+        // Given
+        when(storageProvider.downloadFileAsync(eq("test-bucket"), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(new ByteArrayInputStream("test content".getBytes())));
+
+        // When
+        byte[] content = fileStorageService.retrieveFileAsync(fileResource, Runnable::run).get();
+
+        // Then
+        assertEquals("test content", new String(content));
+        assertEquals(0.0, reservedBytes());
+    }
+
+    @Test
+    void retrieveFileAsync_下载队列已满时以失败结束并释放传输预算() {
+        // Given
+        ByteArrayInputStream inputStream = spy(new ByteArrayInputStream("test content".getBytes()));
+        when(storageProvider.downloadFileAsync(eq("test-bucket"), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(inputStream));
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("下载队列已满");
+        };
+
+        // When
+        CompletableFuture<byte[]> result = fileStorageService.retrieveFileAsync(fileResource, rejecting);
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(0.0, reservedBytes());
+        assertDoesNotThrow(() -> verify(inputStream).close());
+    }
+
+    @Test
+    void retrieveFileAsync_对象下载失败时释放传输预算() {
+        // Given
+        when(storageProvider.downloadFileAsync(eq("test-bucket"), anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("MinIO不可用")));
+
+        // When
+        CompletableFuture<byte[]> result = fileStorageService.retrieveFileAsync(fileResource, Runnable::run);
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(0.0, reservedBytes());
+    }
+
+    @Test
+    void retrieveFileAsync_请求中读取的内容保留预算到响应写出结束() throws Exception {
+        // Given
+        FileResource encrypted = FileResource.create("test.pdf", "application/pdf", 12L, "test-bucket", "UUID_UPLOAD", true);
+        when(storageProvider.downloadFileAsync(eq("test-bucket"), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(new ByteArrayInputStream("test content".getBytes())));
+        ResponseReservations scope = ResponseReservations.open();
+
+        // When
+        try {
+            fileStorageService.retrieveFileAsync(encrypted, Runnable::run).get();
+        } finally {
+            ResponseReservations.clear();
+        }
+
+        // Then
+        // 需解密的内容按密文和明文两份预留
+        assertEquals(24.0, reservedBytes());
+        scope.release();
+        assertEquals(0.0, reservedBytes());
+    }
+
+    @Test
+    void retrieveFile_不在请求中时读取后立即释放预算() {
+        // Given
+        when(storageProvider.downloadFile(eq("test-bucket"), anyString())).thenReturn("test content".getBytes());
+
+        // When
+        byte[] content = fileStorageService.retrieveFile(fileResource);
+
+        // Then
+        assertEquals("test content", new String(content));
+        assertEquals(0.0, reservedBytes());
+    }
+
+    @Test
+    void storeEncryptedFile_按流水线实际分配的缓冲预留预算() {
+        // Given
+        FileResource encrypted = FileResource.create("test.pdf", "application/pdf", 12L, "test-bucket", "UUID_UPLOAD", true);
+        when(encryptUploadPipeline.bufferBytes(12L)).thenReturn(56L);
+        double[] reservedDuringUpload = new double[1];
+        doAnswer(invocation -> {
+            reservedDuringUpload[0] = reservedBytes();
+            return null;
+        }).when(encryptUploadPipeline).encryptAndUpload(eq("test-bucket"), anyString(), any(), eq(12L), any(), eq("key"));
+
+        // When
+        fileStorageService.storeEncryptedFile(encrypted, new ByteArrayInputStream("test content".getBytes()),
+            "application/pdf", "key");
+
+        // Then
+        assertEquals(56.0, reservedDuringUpload[0]);
+        assertEquals(0.0, reservedBytes());
+    }
+
+    private double reservedBytes() {
+        return meterRegistry.get("file.transfer.budget.reserved").tag("scope", "global").gauge().value();
+    }
+}
@@ -0,0 +1,202 @@
+package com.contractreview.filestorage.infrastructure.storage.pipeline;
+
+import com.contractreview.filestorage.infrastructure.config.TransferPipelineConfig;
+import com.contractreview.filestorage.infrastructure.config.TransferPipelineProperties;
+import com.contractreview.filestorage.infrastructure.security.AESEncryptionProvider;
+import com.contractreview.filestorage.infrastructure.storage.provider.StorageProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 加密上传流水线测试
+ * 
+ * @author ContractReview Team
+ */
+class EncryptUploadPipelineTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final AESEncryptionProvider encryptionProvider = new AESEncryptionProvider();
+    private StorageProvider storageProvider;
+    private ThreadPoolTaskExecutor executor;
+    private EncryptUploadPipeline pipeline;
+
+    /**
+     * 模拟网络带宽（字节/秒），0表示不限速
+     */
+    private volatile long bandwidth;
+    private final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        TransferPipelineProperties properties = new TransferPipelineProperties();
+        properties.setChunkSize(DataSize.ofKilobytes(64));
+        properties.setQueueDepth(4);
+        properties.setMaxConcurrentTransfers(2);
+        executor = new TransferPipelineConfig().transferPipelineExecutor(properties);
+
+        storageProvider = mock(StorageProvider.class);
+        doAnswer(invocation -> {
+            consume(invocation.getArgument(2), invocation.getArgument(3));
+            return null;
+        }).when(storageProvider).uploadFile(anyString(), anyString(), any(InputStream.class), anyLong(), any());
+
+        pipeline = new EncryptUploadPipeline(storageProvider, encryptionProvider, properties, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 65536, 65537, 300000})
+    void encryptAndUpload_密文可被原解密逻辑还原(int size) {
+        byte[] plain = randomBytes(size);
+
+        pipeline.encryptAndUpload("test-bucket", "a/b", new ByteArrayInputStream(plain), size, "application/pdf", KEY);
+
+        byte[] encrypted = uploaded.toByteArray();
+        assertEquals(encryptionProvider.getEncryptedSize(size), encrypted.length);
+        assertArrayEquals(plain, encryptionProvider.decrypt(encrypted, KEY));
+    }
+
+    @Test
+    void transferPipelineExecutor_阶段线程全忙时新提交的阶段排队而不被拒绝() throws Exception {
+        // 两个传输名额共四个阶段线程
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> awaitQuietly(release));
+        }
+
+        assertDoesNotThrow(() -> executor.execute(queuedRan::countDown));
+        release.countDown();
+        assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void bufferBytes_小文件按文件大小分配缓冲() {
+        // 1KB文件：一块明文、一块密文，外加读到文件结束的一组
+        assertEquals(2L * (2 * 1024 + 16), pipeline.bufferBytes(1024));
+        assertEquals(2 + 16, pipeline.bufferBytes(0));
+        // 大文件按完整窗口分配
+        assertEquals(4L * (2 * 65536 + 16), pipeline.bufferBytes(10L * 1024 * 1024));
+    }
+
+    @Test
+    void encryptAndUpload_实际长度超过声明大小时失败() {
+        byte[] plain = randomBytes(1000);
+
+        assertThrows(RuntimeException.class, () -> pipeline.encryptAndUpload(
+            "test-bucket", "a/b", new ByteArrayInputStream(plain), 100, "application/pdf", KEY));
+    }
+
+    /**
+     * 与原有整块加密后上传的顺序路径对比吞吐量
+     * 运行：mvn test -Dtest=EncryptUploadPipelineTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_流水线与顺序路径吞吐量对比() {
+        // 模拟约 400MB/s 的对象存储上行带宽，与单核AES-CBC吞吐处于同一量级
+        bandwidth = 400L * 1024 * 1024;
+        for (int megabytes : new int[] {1, 10, 100}) {
+            byte[] plain = randomBytes(megabytes * 1024 * 1024);
+            for (int warmup = 0; warmup < 3; warmup++) {
+                runSequential(plain);
+                runPipelined(plain);
+            }
+            int rounds = megabytes == 100 ? 3 : 10;
+            long sequential = 0;
+            long pipelined = 0;
+            for (int i = 0; i < rounds; i++) {
+                sequential += runSequential(plain);
+                pipelined += runPipelined(plain);
+            }
+            System.out.printf("%4d MB  sequential %8.1f MB/s  pipelined %8.1f MB/s%n", megabytes,
+                throughput(megabytes, sequential / rounds), throughput(megabytes, pipelined / rounds));
+        }
+    }
+
+    private long runSequential(byte[] plain) {
+        uploaded.reset();
+        long start = System.nanoTime();
+        byte[] encrypted = encryptionProvider.encrypt(plain, KEY);
+        storageProvider.uploadFile("test-bucket", "a/b", new ByteArrayInputStream(encrypted),
+            encrypted.length, "application/pdf");
+        return System.nanoTime() - start;
+    }
+
+    private long runPipelined(byte[] plain) {
+        uploaded.reset();
+        long start = System.nanoTime();
+        pipeline.encryptAndUpload("test-bucket", "a/b", new ByteArrayInputStream(plain), plain.length,
+            "application/pdf", KEY);
+        return System.nanoTime() - start;
+    }
+
+    private static double throughput(int megabytes, long nanos) {
+        return megabytes / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * 按声明长度读取上传流，模拟对象存储客户端的读取行为
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume(InputStream inputStream, long size) throws Exception {
+        byte[] buffer = new byte[16 * 1024];
+        long remaining = size;
+        long start = System.nanoTime();
+        long sent = 0;
+        while (remaining > 0) {
+            int n = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n == -1) {
+                throw new IllegalStateException("数据长度不足");
+            }
+            if (bandwidth == 0) {
+                uploaded.write(buffer, 0, n);
+            } else {
+                sent += n;
+                long due = start + sent * TimeUnit.SECONDS.toNanos(1) / bandwidth;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            remaining -= n;
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,106 @@
+package com.contractreview.filestorage.infrastructure.storage.provider;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import okhttp3.Headers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 平台线程与虚拟线程下载并发对比
+ * MinIO响应模拟为固定网络延迟，统计同时在途的下载数峰值和总耗时
+ * 运行：mvn test -Dtest=DownloadConcurrencyBenchmarkTest -Dbenchmark=true（需JDK 21及以上）
+ * 
+ * @author ContractReview Team
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DownloadConcurrencyBenchmarkTest {
+
+    private static final int REQUESTS = 5000;
+    private static final long LATENCY_MILLIS = 100;
+    private static final int OBJECT_SIZE = 16 * 1024;
+
+    /**
+     * 与Tomcat默认的 server.tomcat.threads.max 一致
+     */
+    private static final int PLATFORM_THREADS = 200;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Test
+    void benchmark_平台线程与虚拟线程最大在途下载数() throws Exception {
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(PLATFORM_THREADS);
+        platform.setMaxPoolSize(PLATFORM_THREADS);
+        platform.setThreadNamePrefix("benchmark-platform-");
+        platform.initialize();
+
+        SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("benchmark-virtual-");
+        virtual.setVirtualThreads(true);
+
+        try {
+            run("platform(" + PLATFORM_THREADS + ")", platform);
+            run("virtual", virtual);
+        } finally {
+            platform.shutdown();
+            virtual.close();
+        }
+    }
+
+    private void run(String name, AsyncTaskExecutor executor) throws Exception {
+        MinIOStorageProvider provider = new MinIOStorageProvider(mockMinioClient(), mock(MinioAsyncClient.class));
+        inFlight.set(0);
+        peakInFlight.set(0);
+
+        long start = System.nanoTime();
+        List<Future<byte[]>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            String objectKey = "2024/01/01/" + i;
+            futures.add(executor.submit(() -> provider.downloadFile("test-bucket", objectKey)));
+        }
+        for (Future<byte[]> future : futures) {
+            assertEquals(OBJECT_SIZE, future.get().length);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%-15s requests=%d peakInFlight=%d elapsed=%dms throughput=%.0f req/s%n",
+            name, REQUESTS, peakInFlight.get(), elapsedMillis, REQUESTS * 1000.0 / elapsedMillis);
+    }
+
+    private MinioClient mockMinioClient() throws Exception {
+        MinioClient minioClient = mock(MinioClient.class);
+        byte[] body = new byte[OBJECT_SIZE];
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenAnswer(invocation -> {
+            int current = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            GetObjectArgs args = invocation.getArgument(0);
+            return new GetObjectResponse(Headers.of(), args.bucket(), null, args.object(), new ByteArrayInputStream(body));
+        });
+        return minioClient;
+    }
+}
@@ -51,7 +51,7 @@ class UrlBasedFileControllerTest {
             .timestamp(LocalDateTime.now())
             .build();
 
-        when(urlBasedFileService.uploadByUrl(any(), eq("test-bucket"), isNull(), false))
+        when(urlBasedFileService.uploadByUrl(any(), eq("test-bucket"), isNull(), eq(false), isNull()))
             .thenReturn(mockResponse);
 
         // When & Then
@@ -169,11 +169,11 @@ class UrlBasedFileControllerTest {
         MockMultipartFile emptyFile = new MockMultipartFile(
             "file", "", "text/plain", new byte[0]);
 
-        when(urlBasedFileService.uploadByUrl(any(), anyString(), any(), false))
+        when(urlBasedFileService.uploadByUrl(any(), eq("test-bucket"), isNull(), eq(false), isNull()))
             .thenThrow(new IllegalArgumentException("文件不能为空"));
 
         // When & Then
-        mockMvc.perform(multipart("/api/file/upload-by-url")
+        mockMvc.perform(multipart("/api/v1/files/upload-by-url")
                 .file(emptyFile)
                 .param("bucketName", "test-bucket"))
             .andExpect(status().isBadRequest())
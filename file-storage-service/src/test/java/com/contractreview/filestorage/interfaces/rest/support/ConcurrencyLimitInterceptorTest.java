@@ -0,0 +1,118 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import com.contractreview.filestorage.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import com.contractreview.filestorage.infrastructure.concurrency.ConcurrencyLimiters;
+import com.contractreview.filestorage.infrastructure.concurrency.RequestLane;
+import com.contractreview.filestorage.infrastructure.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 并发限制拦截器测试
+ *
+ * @author ContractReview Team
+ */
+class ConcurrencyLimitInterceptorTest {
+
+    private ConcurrencyLimitInterceptor interceptor;
+    private AdaptiveConcurrencyLimiter limiter;
+    private HandlerMethod handler;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getTransfer().setLatencyThreshold(Duration.ofMillis(50));
+        ConcurrencyLimiters limiters = new ConcurrencyLimiters(properties, new SimpleMeterRegistry());
+        limiter = limiters.get(RequestLane.TRANSFER);
+        interceptor = new ConcurrencyLimitInterceptor(limiters, new ObjectMapper());
+        handler = new HandlerMethod(new TransferHandler(), TransferHandler.class.getMethod("download"));
+        request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void afterCompletion_异步写出的耗时不计入延迟反馈() throws Exception {
+        // Given
+        int initialLimit = limiter.getLimit();
+        assertTrue(interceptor.preHandle(request, response, handler));
+        Runnable serviceCompleted = ConcurrencyLimitInterceptor.serviceCompletion(request);
+        request.startAsync();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // When
+        serviceCompleted.run();
+        // 慢客户端：写出时间远超延迟阈值
+        Thread.sleep(100);
+        completeAsync();
+
+        // Then
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() >= initialLimit);
+    }
+
+    @Test
+    void afterCompletion_服务端处理超过阈值时缩小并发上限() throws Exception {
+        // Given
+        int initialLimit = limiter.getLimit();
+        assertTrue(interceptor.preHandle(request, response, handler));
+        Runnable serviceCompleted = ConcurrencyLimitInterceptor.serviceCompletion(request);
+        request.startAsync();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // When
+        Thread.sleep(100);
+        serviceCompleted.run();
+        completeAsync();
+
+        // Then
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() < initialLimit);
+    }
+
+    @Test
+    void afterCompletion_服务端处理结束后客户端断开不视为失败() throws Exception {
+        // Given
+        int initialLimit = limiter.getLimit();
+        assertTrue(interceptor.preHandle(request, response, handler));
+        Runnable serviceCompleted = ConcurrencyLimitInterceptor.serviceCompletion(request);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.startAsync();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // When
+        serviceCompleted.run();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("连接已断开")));
+        }
+
+        // Then
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() >= initialLimit);
+    }
+
+    private void completeAsync() {
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+    }
+
+    static class TransferHandler {
+
+        @ConcurrencyLane(RequestLane.TRANSFER)
+        public void download() {
+        }
+    }
+}
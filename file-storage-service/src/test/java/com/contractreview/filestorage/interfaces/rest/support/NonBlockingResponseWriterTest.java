@@ -0,0 +1,113 @@
+package com.contractreview.filestorage.interfaces.rest.support;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 非阻塞响应写出器测试
+ *
+ * @author ContractReview Team
+ */
+class NonBlockingResponseWriterTest {
+
+    private AsyncContext asyncContext;
+    private HttpServletResponse response;
+    private RecordingOutputStream outputStream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        asyncContext = mock(AsyncContext.class);
+        response = mock(HttpServletResponse.class);
+        outputStream = new RecordingOutputStream();
+        when(asyncContext.getResponse()).thenReturn(response);
+        when(response.getOutputStream()).thenReturn(outputStream);
+    }
+
+    @Test
+    void write_按分块从输入流写出并在结束后关闭输入流() throws Exception {
+        // Given
+        NonBlockingResponseWriter writer = new NonBlockingResponseWriter(asyncContext, 1000, 4);
+        TrackingInputStream content = new TrackingInputStream("0123456789".getBytes());
+
+        // When
+        assertTrue(writer.write(r -> r.setContentType("application/pdf"), content, 10));
+        outputStream.listener.onWritePossible();
+
+        // Then
+        assertEquals("0123456789", outputStream.written.toString());
+        assertTrue(outputStream.writeSizes.stream().allMatch(size -> size <= 4));
+        verify(response).setContentLengthLong(10);
+        verify(asyncContext).complete();
+        assertTrue(content.closed);
+    }
+
+    @Test
+    void write_已超时时不写出并关闭输入流() throws Exception {
+        // Given
+        NonBlockingResponseWriter writer = new NonBlockingResponseWriter(asyncContext, 1000, 4);
+        TrackingInputStream content = new TrackingInputStream("0123456789".getBytes());
+        writer.onTimeout(null);
+
+        // When & Then
+        assertFalse(writer.write(r -> { }, content, 10));
+        assertTrue(content.closed);
+        assertNull(outputStream.listener);
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        private TrackingInputStream(byte[] data) {
+            super(data);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static final class RecordingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final List<Integer> writeSizes = new ArrayList<>();
+        private WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+            writeSizes.add(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written.write(b, off, len);
+            writeSizes.add(len);
+        }
+    }
+}